@@ -0,0 +1,263 @@
+package edu.wpi.first.wpilib.units.codegen;
+
+import edu.wpi.first.wpilib.units.Conversion;
+import edu.wpi.first.wpilib.units.Unit;
+import edu.wpi.first.wpilib.units.Units;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Generates the per-unit measure classes, such as {@code distance.Feet}, from a table of unit definitions. See
+ * {@code src/codegen/units.txt} for the format of the table.
+ *
+ * <p>Every generated class is final and has a {@code toX()} method for each other unit of its type. The generator
+ * reads the factor and offset of each conversion from the units in {@link Units} and writes them out as double
+ * literals, so scales and offsets are only defined in {@code Units} and the generated conversions fold into
+ * constants. {@code as(Unit)} is left to {@code Measure} so its call sites stay monomorphic.
+ *
+ * <p>Usage: {@code GenerateUnits <table> <output directory>}
+ */
+public final class GenerateUnits {
+
+  private static final String BASE_PACKAGE = "edu.wpi.first.wpilib.units";
+
+  private static final class UnitDef {
+    final String pkg;
+    final String type;
+    final String name;
+
+    UnitDef(String pkg, String type, String name) {
+      this.pkg = pkg;
+      this.type = type;
+      this.name = name;
+    }
+  }
+
+  private static final class Product {
+    final String type;
+    final String left;
+    final String right;
+
+    Product(String type, String left, String right) {
+      this.type = type;
+      this.left = left;
+      this.right = right;
+    }
+  }
+
+  private final List<UnitDef> units = new ArrayList<>();
+  private final List<Product> products = new ArrayList<>();
+
+  private GenerateUnits() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Usage: GenerateUnits <table> <output directory>");
+      System.exit(1);
+    }
+    GenerateUnits generator = new GenerateUnits();
+    generator.read(Paths.get(args[0]));
+    generator.write(Paths.get(args[1]));
+  }
+
+  private void read(Path table) throws IOException {
+    int lineNumber = 0;
+    for (String line : Files.readAllLines(table, StandardCharsets.UTF_8)) {
+      lineNumber++;
+      line = line.trim();
+      if (line.isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+      String[] columns = line.split("\\|");
+      for (int i = 0; i < columns.length; i++) {
+        columns[i] = columns[i].trim();
+      }
+      if (columns[0].equals("product")) {
+        String[] factors = columns.length == 3 ? columns[2].split("\\*") : new String[0];
+        if (factors.length != 2) {
+          throw new IllegalArgumentException(table + ":" + lineNumber + ": expected 'product | type | a * b'");
+        }
+        products.add(new Product(columns[1], factors[0].trim(), factors[1].trim()));
+      } else if (columns.length == 3) {
+        units.add(new UnitDef(columns[0], columns[1], columns[2]));
+      } else {
+        throw new IllegalArgumentException(table + ":" + lineNumber + ": expected 'package | type | class'");
+      }
+    }
+  }
+
+  private void write(Path outputDirectory) throws IOException {
+    for (UnitDef unit : units) {
+      Path directory = outputDirectory.resolve(BASE_PACKAGE.replace('.', '/')).resolve(unit.pkg);
+      Files.createDirectories(directory);
+      Files.write(directory.resolve(unit.name + ".java"), generate(unit).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private List<UnitDef> siblingsOf(UnitDef unit) {
+    List<UnitDef> siblings = new ArrayList<>();
+    for (UnitDef other : units) {
+      if (other != unit && other.type.equals(unit.type)) {
+        siblings.add(other);
+      }
+    }
+    return siblings;
+  }
+
+  /**
+   * Gets the conversion between two units in {@link Units}, failing if it isn't a plain factor and offset.
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static Conversion conversion(UnitDef from, UnitDef to) {
+    final Unit fromUnit = unitNamed(from.name);
+    final Conversion conversion = unitNamed(to.name).conversionFrom(fromUnit);
+    if (!conversion.isAffine()) {
+      throw new IllegalArgumentException("Cannot generate a conversion from " + from.name + " to " + to.name
+          + ", which is not affine");
+    }
+    return conversion;
+  }
+
+  private static Unit<?> unitNamed(String name) {
+    try {
+      return (Unit<?>) Units.class.getField(name).get(null);
+    } catch (NoSuchFieldException | IllegalAccessException e) {
+      throw new IllegalArgumentException("No unit named " + name + " in Units", e);
+    }
+  }
+
+  /**
+   * Writes the constants for a conversion, eg {@code TO_METERS_FACTOR = 0.3048}, with an offset constant only if
+   * the conversion has an offset.
+   */
+  private static void appendConstants(StringBuilder out, String name, Conversion conversion) {
+    out.append("  private static final double ").append(name).append("_FACTOR = ").append(conversion.factor())
+        .append(";\n");
+    if (conversion.offset() != 0) {
+      out.append("  private static final double ").append(name).append("_OFFSET = ").append(conversion.offset())
+          .append(";\n");
+    }
+  }
+
+  /**
+   * Writes the expression that applies a conversion's constants to a value, eg {@code magnitude() * TO_METERS_FACTOR}.
+   */
+  private static String apply(String name, Conversion conversion, String value) {
+    final StringBuilder out = new StringBuilder(value).append(" * ").append(name).append("_FACTOR");
+    if (conversion.offset() != 0) {
+      out.append(" + ").append(name).append("_OFFSET");
+    }
+    return out.toString();
+  }
+
+  private UnitDef baseOf(String type) {
+    for (UnitDef unit : units) {
+      if (unit.type.equals(type)) {
+        return unit;
+      }
+    }
+    throw new IllegalArgumentException("No base unit for " + type);
+  }
+
+  private String generate(UnitDef unit) {
+    final List<UnitDef> siblings = siblingsOf(unit);
+    final List<Product> factories = new ArrayList<>();
+    final TreeSet<String> imports = new TreeSet<>();
+    imports.add(BASE_PACKAGE + ".Measure");
+    imports.add(BASE_PACKAGE + ".MeasureInterner");
+    imports.add(BASE_PACKAGE + "." + unit.type);
+    imports.add(BASE_PACKAGE + ".Units");
+    for (Product product : products) {
+      if (product.type.equals(unit.type)) {
+        factories.add(product);
+        imports.add(BASE_PACKAGE + "." + product.left);
+        imports.add(BASE_PACKAGE + "." + product.right);
+      }
+    }
+    final UnitDef base = baseOf(unit.type);
+    final boolean convertsFromBase = !factories.isEmpty() && base != unit;
+
+    StringBuilder out = new StringBuilder();
+    out.append("package ").append(BASE_PACKAGE).append('.').append(unit.pkg).append(";\n\n");
+    for (String name : imports) {
+      out.append("import ").append(name).append(";\n");
+    }
+    out.append('\n');
+    out.append("/**\n");
+    out.append(" * A measure of ").append(unit.type.toLowerCase()).append(" in {@link Units#").append(unit.name)
+        .append("}.\n");
+    out.append(" *\n");
+    out.append(" * <p>Generated from src/codegen/units.txt and the units in Units; do not edit.\n");
+    out.append(" */\n");
+    out.append("public final class ").append(unit.name).append(" extends Measure<").append(unit.type).append("> {\n\n");
+
+    for (UnitDef sibling : siblings) {
+      appendConstants(out, "TO_" + constantName(sibling.name), conversion(unit, sibling));
+    }
+    if (convertsFromBase) {
+      appendConstants(out, "FROM_" + constantName(base.name), conversion(base, unit));
+    }
+    if (!siblings.isEmpty() || convertsFromBase) {
+      out.append('\n');
+    }
+
+    out.append("  private static final MeasureInterner<").append(unit.name)
+        .append("> INTERNER = new MeasureInterner<>(").append(unit.name).append("::new);\n\n");
+    out.append("  private ").append(unit.name).append("(double magnitude) {\n");
+    out.append("    super(magnitude, Units.").append(unit.name).append(");\n");
+    out.append("  }\n\n");
+    out.append("  public static ").append(unit.name).append(" of(double magnitude) {\n");
+    out.append("    return INTERNER.get(magnitude);\n");
+    out.append("  }\n");
+
+    for (Product product : factories) {
+      final String left = lowerFirst(product.left);
+      final String right = lowerFirst(product.right);
+      out.append('\n');
+      out.append("  public static ").append(unit.name).append(" of(Measure<").append(product.left).append("> ")
+          .append(left).append(", Measure<").append(product.right).append("> ").append(right).append(") {\n");
+      final String magnitude = left + ".as(Units." + baseOf(product.left).name + ") * " + right + ".as(Units."
+          + baseOf(product.right).name + ")";
+      if (!convertsFromBase) {
+        out.append("    return of(").append(magnitude).append(");\n");
+      } else {
+        out.append("    return of(")
+            .append(apply("FROM_" + constantName(base.name), conversion(base, unit), "(" + magnitude + ")"))
+            .append(");\n");
+      }
+      out.append("  }\n");
+    }
+
+    for (UnitDef sibling : siblings) {
+      out.append('\n');
+      out.append("  /**\n");
+      out.append("   * Gets the magnitude of this measure in {@link Units#").append(sibling.name).append("}.\n");
+      out.append("   */\n");
+      out.append("  public double to").append(sibling.name).append("() {\n");
+      out.append("    return ")
+          .append(apply("TO_" + constantName(sibling.name), conversion(unit, sibling), "magnitude()")).append(";\n");
+      out.append("  }\n");
+    }
+
+    out.append('\n');
+    out.append("}\n");
+    return out.toString();
+  }
+
+  private static String constantName(String name) {
+    return name.replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase();
+  }
+
+  private static String lowerFirst(String name) {
+    return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+  }
+
+}
@@ -0,0 +1,52 @@
+package edu.wpi.first.wpilib.units;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link Unit#convert(double, Unit)} across the chained units defined in {@link Units}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConversionBenchmark {
+
+  private double value = 12.34;
+
+  @Benchmark
+  public double metersToFeet() {
+    return Units.Feet.convert(value, Units.Meters);
+  }
+
+  @Benchmark
+  public double feetToInches() {
+    return Units.Inches.convert(value, Units.Feet);
+  }
+
+  @Benchmark
+  public double metersPerSecondToInchesPerSecond() {
+    return Units.InchesPerSecond.convert(value, Units.MetersPerSecond);
+  }
+
+  @Benchmark
+  public double celsiusToFahrenheit() {
+    return Units.Fahrenheit.convert(value, Units.Celsius);
+  }
+
+  @Benchmark
+  public double fahrenheitToCelsius() {
+    return Units.Celsius.convert(value, Units.Fahrenheit);
+  }
+
+  @Benchmark
+  public double sameUnit() {
+    return Units.Feet.convert(value, Units.Feet);
+  }
+
+}
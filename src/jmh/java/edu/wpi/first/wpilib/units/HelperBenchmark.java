@@ -0,0 +1,79 @@
+package edu.wpi.first.wpilib.units;
+
+import edu.wpi.first.wpilib.units.angle.Degrees;
+import edu.wpi.first.wpilib.units.distance.Feet;
+import edu.wpi.first.wpilib.units.electriccurrent.Amps;
+import edu.wpi.first.wpilib.units.electricpotental.Volts;
+import edu.wpi.first.wpilib.units.power.Milliwatts;
+import edu.wpi.first.wpilib.units.power.Watts;
+import edu.wpi.first.wpilib.units.temperature.Celsius;
+import edu.wpi.first.wpilib.units.time.Milliseconds;
+import edu.wpi.first.wpilib.units.unitless.Percent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@code of(...)} factories of the per-unit measure classes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HelperBenchmark {
+
+  private double value = 12.34;
+  private Measure<ElectricPotential> volts = Volts.of(12);
+  private Measure<ElectricCurrent> amps = Amps.of(40);
+
+  @Benchmark
+  public Feet feetOf() {
+    return Feet.of(value);
+  }
+
+  @Benchmark
+  public Milliseconds millisecondsOf() {
+    return Milliseconds.of(value);
+  }
+
+  @Benchmark
+  public Degrees degreesOf() {
+    return Degrees.of(value);
+  }
+
+  @Benchmark
+  public Celsius celsiusOf() {
+    return Celsius.of(value);
+  }
+
+  @Benchmark
+  public Percent percentOf() {
+    return Percent.of(value);
+  }
+
+  @Benchmark
+  public Watts wattsOfVoltsAndAmps() {
+    return Watts.of(volts, amps);
+  }
+
+  @Benchmark
+  public Milliwatts milliwattsOfVoltsAndAmps() {
+    return Milliwatts.of(volts, amps);
+  }
+
+  @Benchmark
+  public double feetAsMeters() {
+    return Feet.of(value).as(Units.Meters);
+  }
+
+  @Benchmark
+  public double feetToMeters() {
+    return Feet.of(value).toMeters();
+  }
+
+}
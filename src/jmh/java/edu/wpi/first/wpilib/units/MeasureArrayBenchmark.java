@@ -0,0 +1,73 @@
+package edu.wpi.first.wpilib.units;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the sequential and parallel reductions on {@link MeasureArray}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MeasureArrayBenchmark {
+
+  @Param({"100000", "10000000"})
+  private int length;
+
+  private MeasureArray<ElectricCurrent> milliamps;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(0);
+    double[] magnitudes = new double[length];
+    for (int i = 0; i < length; i++) {
+      magnitudes[i] = random.nextDouble() * 40_000;
+    }
+    milliamps = MeasureArray.wrap(magnitudes, Units.Milliamps);
+  }
+
+  @Benchmark
+  public Measure<ElectricCurrent> sum() {
+    return milliamps.sum(Units.Amps);
+  }
+
+  @Benchmark
+  public Measure<ElectricCurrent> parallelSum() {
+    return milliamps.parallelSum(Units.Amps);
+  }
+
+  @Benchmark
+  public Measure<ElectricCurrent> max() {
+    return milliamps.max(Units.Amps);
+  }
+
+  @Benchmark
+  public Measure<ElectricCurrent> parallelMax() {
+    return milliamps.parallelMax(Units.Amps);
+  }
+
+  @Benchmark
+  public int parallelArgMax() {
+    return milliamps.parallelArgMax();
+  }
+
+  @Benchmark
+  public double[] convert() {
+    return milliamps.as(Units.Amps).toMagnitudeArray();
+  }
+
+  @Benchmark
+  public MeasureArray<ElectricCurrent> parallelConvert() {
+    return milliamps.parallelConvert(Units.Amps);
+  }
+
+}
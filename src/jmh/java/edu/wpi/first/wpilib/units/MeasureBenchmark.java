@@ -0,0 +1,75 @@
+package edu.wpi.first.wpilib.units;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the arithmetic and comparison methods of {@link Measure}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MeasureBenchmark {
+
+  private Measure<Distance> feet = Units.Feet.of(1.5);
+  private Measure<Distance> inches = Units.Inches.of(18);
+  private Measure<Temperature> celsius = Units.Celsius.of(20);
+  private Measure<Temperature> fahrenheit = Units.Fahrenheit.of(68);
+
+  @Benchmark
+  public double asSameUnit() {
+    return feet.as(Units.Feet);
+  }
+
+  @Benchmark
+  public double asOtherUnit() {
+    return feet.as(Units.Inches);
+  }
+
+  @Benchmark
+  public double asFahrenheit() {
+    return celsius.as(Units.Fahrenheit);
+  }
+
+  @Benchmark
+  public Measure<Distance> add() {
+    return feet.add(inches);
+  }
+
+  @Benchmark
+  public Measure<Distance> subtract() {
+    return feet.subtract(inches);
+  }
+
+  @Benchmark
+  public Measure<Distance> times() {
+    return feet.times(2.5);
+  }
+
+  @Benchmark
+  public int compareTo() {
+    return feet.compareTo(inches);
+  }
+
+  @Benchmark
+  public int compareToTemperature() {
+    return celsius.compareTo(fahrenheit);
+  }
+
+  @Benchmark
+  public boolean isEquivalent() {
+    return feet.isEquivalent(inches);
+  }
+
+  @Benchmark
+  public int hashCodeOf() {
+    return feet.hashCode();
+  }
+
+}
@@ -3,7 +3,7 @@ package edu.wpi.first.wpilib.units;
 public class Acceleration extends Unit<Acceleration> {
 
   Acceleration(double baseUnitEquivalent) {
-    super(baseUnitEquivalent);
+    super(baseUnitEquivalent, 0, Dimension.of(1, -2, 0, 0, 0, 0), 1);
   }
 
 }
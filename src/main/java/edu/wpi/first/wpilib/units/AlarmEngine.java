@@ -0,0 +1,404 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Watches channels of measures, such as motor currents or temperatures, for samples that cross alarm thresholds.
+ *
+ * <p>Each channel has a native unit that its samples are given in. Thresholds, hysteresis and deadbands are
+ * converted to that unit once, when they're added, so samples are never converted. A channel keeps its thresholds
+ * in sorted primitive arrays and remembers where its last sample fell in them, so evaluating a sample takes a
+ * binary search and only visits the thresholds it actually crossed, no matter how many thresholds the channel has.
+ * Evaluation does not allocate.
+ *
+ * <p>An alarm {@link Channel#alarmAbove(String, Quantity, Quantity) above} a level becomes active when a sample
+ * reaches the level, and stays active until a sample falls below the level minus its hysteresis. An alarm
+ * {@link Channel#alarmBelow(String, Quantity, Quantity) below} a level is the mirror image. A channel's deadband
+ * skips samples that differ from the last evaluated sample by less than the deadband, which keeps a noisy signal
+ * from being evaluated on every sample at the cost of reacting up to one deadband late.
+ *
+ * <p>Engines are not thread safe; samples for all of an engine's channels should come from one thread.
+ */
+public final class AlarmEngine {
+
+  /**
+   * Receives changes in the state of alarms.
+   */
+  @FunctionalInterface
+  public interface Listener {
+
+    /**
+     * Called when an alarm becomes active or inactive.
+     *
+     * @param alarm     the alarm
+     * @param active    true if the alarm became active, false if it cleared
+     * @param magnitude the sample that changed the alarm, in terms of the channel's unit
+     */
+    void alarmChanged(Alarm alarm, boolean active, double magnitude);
+
+  }
+
+  private final Listener listener;
+  private final Map<String, Channel<?>> channels = new LinkedHashMap<>();
+
+  /**
+   * Creates a new alarm engine.
+   *
+   * @param listener the listener to notify when alarms become active or clear
+   */
+  public AlarmEngine(Listener listener) {
+    this.listener = Objects.requireNonNull(listener, "Listener cannot be null");
+  }
+
+  /**
+   * Adds a channel.
+   *
+   * @param name the name of the channel, unique within this engine
+   * @param unit the unit samples of the channel are given in
+   *
+   * @throws IllegalArgumentException if the engine already has a channel with the same name
+   */
+  public <U extends Unit<U>> Channel<U> addChannel(String name, Unit<U> unit) {
+    Objects.requireNonNull(name, "Name cannot be null");
+    if (channels.containsKey(name)) {
+      throw new IllegalArgumentException("Duplicate channel name: " + name);
+    }
+    Channel<U> channel = new Channel<>(this, name, unit);
+    channels.put(name, channel);
+    return channel;
+  }
+
+  /**
+   * Gets a channel by name, or null if this engine has no channel with that name.
+   *
+   * @param name the name of the channel
+   */
+  public Channel<?> getChannel(String name) {
+    return channels.get(name);
+  }
+
+  /**
+   * Gets all the channels of this engine, in the order they were added.
+   */
+  public Collection<Channel<?>> channels() {
+    return Collections.unmodifiableCollection(channels.values());
+  }
+
+  /**
+   * Converts a difference between two measures, such as a hysteresis or deadband, to a given unit. Differences
+   * only scale between units; offsets such as the one between Celsius and Fahrenheit cancel out.
+   */
+  private static double differenceIn(Unit<?> unit, Quantity<?> difference) {
+    final Unit<?> differenceUnit = difference.unit();
+    final double coherent = differenceUnit.toCoherent(difference.magnitude()) - differenceUnit.toCoherent(0);
+    return coherent / (unit.toCoherent(1) - unit.toCoherent(0));
+  }
+
+  /**
+   * An alarm on a channel. Alarms are created by their channel.
+   */
+  public static final class Alarm {
+
+    private final Channel<?> channel;
+    private final String name;
+    private final boolean above;
+    private final double level;
+    private final double hysteresis;
+    private boolean active;
+
+    private Alarm(Channel<?> channel, String name, boolean above, double level, double hysteresis) {
+      this.channel = channel;
+      this.name = name;
+      this.above = above;
+      this.level = level;
+      this.hysteresis = hysteresis;
+    }
+
+    /**
+     * Gets the channel this alarm watches.
+     */
+    public Channel<?> channel() {
+      return channel;
+    }
+
+    /**
+     * Gets the name of this alarm.
+     */
+    public String name() {
+      return name;
+    }
+
+    /**
+     * Checks if this alarm becomes active above its level, rather than below it.
+     */
+    public boolean isAbove() {
+      return above;
+    }
+
+    /**
+     * Gets the level that activates this alarm, in terms of its channel's unit.
+     */
+    public double level() {
+      return level;
+    }
+
+    /**
+     * Gets the hysteresis of this alarm, in terms of its channel's unit.
+     */
+    public double hysteresis() {
+      return hysteresis;
+    }
+
+    /**
+     * Checks if this alarm is active.
+     */
+    public boolean isActive() {
+      return active;
+    }
+
+    @Override
+    public String toString() {
+      return channel.name() + "/" + name + (above ? " >= " : " <= ") + level + " " + channel.unit().symbol();
+    }
+
+  }
+
+  /**
+   * A channel of samples watched by an engine. Channels are created by {@link AlarmEngine#addChannel}.
+   *
+   * @param <U> the unit type of the samples
+   */
+  public static final class Channel<U extends Unit<U>> {
+
+    private final AlarmEngine engine;
+    private final String name;
+    private final Unit<U> unit;
+
+    // Alarms above a level watch the samples as they are; alarms below a level watch the negated samples, which
+    // turns them into alarms above the negated level
+    private final Thresholds above = new Thresholds();
+    private final Thresholds below = new Thresholds();
+
+    private double deadband;
+    private boolean hasSample;
+    private double lastSample;
+
+    private final ConversionCache<U> sampleConversion;
+
+    private Channel(AlarmEngine engine, String name, Unit<U> unit) {
+      this.engine = engine;
+      this.name = name;
+      this.unit = Objects.requireNonNull(unit, "Unit cannot be null");
+      this.sampleConversion = new ConversionCache<>(unit);
+    }
+
+    /**
+     * Gets the name of this channel.
+     */
+    public String name() {
+      return name;
+    }
+
+    /**
+     * Gets the unit samples of this channel are given in.
+     */
+    public Unit<U> unit() {
+      return unit;
+    }
+
+    /**
+     * Sets the deadband of this channel. Samples closer than this to the last evaluated sample are skipped.
+     *
+     * @param deadband the deadband; zero to evaluate every sample
+     */
+    public void setDeadband(Quantity<U> deadband) {
+      final double converted = differenceIn(unit, deadband);
+      if (!(converted >= 0)) {
+        throw new IllegalArgumentException("Deadband cannot be negative, but was " + deadband);
+      }
+      this.deadband = converted;
+    }
+
+    /**
+     * Adds an alarm that becomes active when a sample is at or above a level, and clears when a sample is below
+     * the level minus the hysteresis. If the channel already has samples, the alarm starts active if the last
+     * evaluated sample is at or above the level, without notifying the listener.
+     *
+     * @param name       the name of the alarm
+     * @param level      the level that activates the alarm
+     * @param hysteresis how far below the level a sample must be to clear the alarm
+     */
+    public Alarm alarmAbove(String name, Quantity<U> level, Quantity<U> hysteresis) {
+      return add(name, true, level, hysteresis);
+    }
+
+    /**
+     * Adds an alarm that becomes active when a sample is at or below a level, and clears when a sample is above
+     * the level plus the hysteresis. If the channel already has samples, the alarm starts active if the last
+     * evaluated sample is at or below the level, without notifying the listener.
+     *
+     * @param name       the name of the alarm
+     * @param level      the level that activates the alarm
+     * @param hysteresis how far above the level a sample must be to clear the alarm
+     */
+    public Alarm alarmBelow(String name, Quantity<U> level, Quantity<U> hysteresis) {
+      return add(name, false, level, hysteresis);
+    }
+
+    private Alarm add(String name, boolean above, Quantity<U> level, Quantity<U> hysteresis) {
+      Objects.requireNonNull(name, "Name cannot be null");
+      final double nativeLevel = level.as(unit);
+      final double nativeHysteresis = differenceIn(unit, hysteresis);
+      if (Double.isNaN(nativeLevel)) {
+        throw new IllegalArgumentException("Level cannot be NaN");
+      }
+      if (!(nativeHysteresis >= 0)) {
+        throw new IllegalArgumentException("Hysteresis cannot be negative, but was " + hysteresis);
+      }
+      final Alarm alarm = new Alarm(this, name, above, nativeLevel, nativeHysteresis);
+      final Thresholds thresholds = above ? this.above : this.below;
+      final double sign = above ? 1 : -1;
+      thresholds.add(alarm, sign * nativeLevel, sign * nativeLevel - nativeHysteresis);
+      if (hasSample) {
+        alarm.active = sign * lastSample >= sign * nativeLevel;
+        thresholds.reposition(sign * lastSample);
+      }
+      return alarm;
+    }
+
+    /**
+     * Evaluates a sample.
+     *
+     * @param magnitude the sample, in terms of this channel's unit. NaN samples are ignored.
+     */
+    public void update(double magnitude) {
+      if (magnitude != magnitude) {
+        return;
+      }
+      if (hasSample) {
+        if (Math.abs(magnitude - lastSample) < deadband) {
+          return;
+        }
+      } else {
+        // Nothing has been raised yet, and nothing can clear
+        above.start(magnitude);
+        below.start(-magnitude);
+        hasSample = true;
+      }
+      lastSample = magnitude;
+      above.evaluate(magnitude, magnitude, engine.listener);
+      below.evaluate(-magnitude, magnitude, engine.listener);
+    }
+
+    /**
+     * Evaluates a sample of any unit of this channel's type, converting it to the channel's unit.
+     *
+     * @param sample the sample
+     */
+    public void update(Quantity<U> sample) {
+      update(sampleConversion.apply(sample));
+    }
+
+    @Override
+    public String toString() {
+      return name + " (" + unit.symbol() + ")";
+    }
+
+  }
+
+  /**
+   * One side of a channel's alarms, all of which activate when the value rises to their raise level and clear when
+   * it falls below their clear level. Raise and clear levels are kept in separate sorted arrays, with the number of
+   * levels at or below the last value in each, so a new value only has to visit the levels between the old and
+   * new positions.
+   */
+  private static final class Thresholds {
+
+    private double[] raiseLevels = new double[0];
+    private Alarm[] raiseAlarms = new Alarm[0];
+    private double[] clearLevels = new double[0];
+    private Alarm[] clearAlarms = new Alarm[0];
+
+    // The number of raise and clear levels at or below the last value
+    private int raisePosition;
+    private int clearPosition;
+
+    void add(Alarm alarm, double raiseLevel, double clearLevel) {
+      final int raiseIndex = countAtOrBelow(raiseLevels, raiseLevel);
+      raiseLevels = insert(raiseLevels, raiseIndex, raiseLevel);
+      raiseAlarms = insert(raiseAlarms, raiseIndex, alarm);
+      final int clearIndex = countAtOrBelow(clearLevels, clearLevel);
+      clearLevels = insert(clearLevels, clearIndex, clearLevel);
+      clearAlarms = insert(clearAlarms, clearIndex, alarm);
+    }
+
+    void start(double value) {
+      raisePosition = 0;
+      clearPosition = countAtOrBelow(clearLevels, value);
+    }
+
+    void reposition(double value) {
+      raisePosition = countAtOrBelow(raiseLevels, value);
+      clearPosition = countAtOrBelow(clearLevels, value);
+    }
+
+    void evaluate(double value, double magnitude, Listener listener) {
+      // Raise levels the value has risen to since the last value
+      final int raised = countAtOrBelow(raiseLevels, value);
+      for (int i = raisePosition; i < raised; i++) {
+        final Alarm alarm = raiseAlarms[i];
+        if (!alarm.active) {
+          alarm.active = true;
+          listener.alarmChanged(alarm, true, magnitude);
+        }
+      }
+      raisePosition = raised;
+
+      // Clear levels the value has fallen below since the last value
+      final int uncleared = countAtOrBelow(clearLevels, value);
+      for (int i = uncleared; i < clearPosition; i++) {
+        final Alarm alarm = clearAlarms[i];
+        if (alarm.active) {
+          alarm.active = false;
+          listener.alarmChanged(alarm, false, magnitude);
+        }
+      }
+      clearPosition = uncleared;
+    }
+
+    private static int countAtOrBelow(double[] levels, double value) {
+      int low = 0;
+      int high = levels.length;
+      while (low < high) {
+        final int middle = (low + high) >>> 1;
+        if (levels[middle] <= value) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return low;
+    }
+
+    private static double[] insert(double[] array, int index, double value) {
+      final double[] result = Arrays.copyOf(array, array.length + 1);
+      System.arraycopy(array, index, result, index + 1, array.length - index);
+      result[index] = value;
+      return result;
+    }
+
+    private static Alarm[] insert(Alarm[] array, int index, Alarm value) {
+      final Alarm[] result = Arrays.copyOf(array, array.length + 1);
+      System.arraycopy(array, index, result, index + 1, array.length - index);
+      result[index] = value;
+      return result;
+    }
+
+  }
+
+}
@@ -9,7 +9,7 @@ public class Angle extends Unit<Angle> {
    *                           meters has a multiplier of 1, mm has a multiplier of 1e3, and km has a multiplier of 1e-3.
    */
   Angle(double baseUnitEquivalent) {
-    super(baseUnitEquivalent);
+    super(baseUnitEquivalent, 0, Dimension.ANGLE, 1);
   }
 
 }
@@ -0,0 +1,293 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A measure whose magnitude can be updated atomically, for totals and peaks that are shared between threads. The
+ * magnitude is stored as the raw bits of a double and updated with compare-and-set, so updates never lock or
+ * allocate. The unit is fixed when the measure is created; quantities of other units are converted to it with the
+ * conversion cached by the unit.
+ *
+ * <p>Like {@code AtomicLong}, compare-and-set compares magnitudes by their bits rather than with {@code ==}, so
+ * {@code 0.0} and {@code -0.0} are different and {@code NaN} is equal to itself.
+ *
+ * @param <U> the unit type of the measure
+ */
+public final class AtomicMeasure<U extends Unit<U>> {
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicLongFieldUpdater<AtomicMeasure> BITS =
+      AtomicLongFieldUpdater.newUpdater(AtomicMeasure.class, "bits");
+
+  private final Unit<U> unit;
+  private final ConversionCache<U> conversion;
+  private volatile long bits;
+
+  /**
+   * Creates a new atomic measure with a magnitude of zero.
+   *
+   * @param unit the unit of the measure
+   */
+  public AtomicMeasure(Unit<U> unit) {
+    this(unit, 0);
+  }
+
+  /**
+   * Creates a new atomic measure.
+   *
+   * @param unit      the unit of the measure
+   * @param magnitude the initial magnitude
+   */
+  public AtomicMeasure(Unit<U> unit, double magnitude) {
+    this.unit = Objects.requireNonNull(unit, "Unit cannot be null");
+    this.conversion = new ConversionCache<>(unit);
+    this.bits = Double.doubleToRawLongBits(magnitude);
+  }
+
+  /**
+   * Gets the unit of this measure.
+   */
+  public Unit<U> unit() {
+    return unit;
+  }
+
+  /**
+   * Gets the current magnitude.
+   */
+  public double get() {
+    return Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Gets the current value as an immutable measure.
+   */
+  public Measure<U> toMeasure() {
+    return unit.of(get());
+  }
+
+  /**
+   * Stores the current value in a mutable measure, without allocating.
+   *
+   * @param result the measure to store the value in. Its unit is replaced with the unit of this measure.
+   *
+   * @return the result measure
+   */
+  public MutableMeasure<U> get(MutableMeasure<U> result) {
+    return result.mut_replace(get(), unit);
+  }
+
+  /**
+   * Sets the magnitude.
+   *
+   * @param magnitude the new magnitude
+   */
+  public void set(double magnitude) {
+    bits = Double.doubleToRawLongBits(magnitude);
+  }
+
+  /**
+   * Sets the value, converting it to the unit of this measure.
+   *
+   * @param value the new value
+   */
+  public void set(Quantity<U> value) {
+    set(convert(value));
+  }
+
+  /**
+   * Sets the magnitude and returns the old one.
+   *
+   * @param magnitude the new magnitude
+   *
+   * @return the previous magnitude
+   */
+  public double getAndSet(double magnitude) {
+    return Double.longBitsToDouble(BITS.getAndSet(this, Double.doubleToRawLongBits(magnitude)));
+  }
+
+  /**
+   * Sets the magnitude if the current magnitude has the same bits as the expected one.
+   *
+   * @param expect the expected magnitude
+   * @param update the new magnitude
+   *
+   * @return true if the magnitude was set, false if the current magnitude was not the expected one
+   */
+  public boolean compareAndSet(double expect, double update) {
+    return BITS.compareAndSet(this, Double.doubleToRawLongBits(expect), Double.doubleToRawLongBits(update));
+  }
+
+  /**
+   * Adds to the magnitude.
+   *
+   * @param delta the magnitude to add
+   *
+   * @return the new magnitude
+   */
+  public double addAndGet(double delta) {
+    while (true) {
+      final long current = bits;
+      final double next = Double.longBitsToDouble(current) + delta;
+      if (BITS.compareAndSet(this, current, Double.doubleToRawLongBits(next))) {
+        return next;
+      }
+    }
+  }
+
+  /**
+   * Adds a quantity, converting it to the unit of this measure.
+   *
+   * @param delta the quantity to add
+   *
+   * @return the new magnitude
+   */
+  public double addAndGet(Quantity<U> delta) {
+    return addAndGet(convert(delta));
+  }
+
+  /**
+   * Adds to the magnitude and returns the old one.
+   *
+   * @param delta the magnitude to add
+   *
+   * @return the previous magnitude
+   */
+  public double getAndAdd(double delta) {
+    while (true) {
+      final long current = bits;
+      final double previous = Double.longBitsToDouble(current);
+      if (BITS.compareAndSet(this, current, Double.doubleToRawLongBits(previous + delta))) {
+        return previous;
+      }
+    }
+  }
+
+  /**
+   * Atomically updates the magnitude with a function of the current magnitude. The function may be called more
+   * than once if other threads update the measure at the same time, so it should not have side effects.
+   *
+   * @param function the update function
+   *
+   * @return the new magnitude
+   */
+  public double updateAndGet(DoubleUnaryOperator function) {
+    while (true) {
+      final long current = bits;
+      final double next = function.applyAsDouble(Double.longBitsToDouble(current));
+      if (BITS.compareAndSet(this, current, Double.doubleToRawLongBits(next))) {
+        return next;
+      }
+    }
+  }
+
+  /**
+   * Atomically combines the magnitude with another value. The function is called with the current magnitude
+   * and the given value, and may be called more than once if other threads update the measure at the same time.
+   *
+   * @param x        the value to combine with the current magnitude
+   * @param function the combining function
+   *
+   * @return the new magnitude
+   */
+  public double accumulateAndGet(double x, DoubleBinaryOperator function) {
+    while (true) {
+      final long current = bits;
+      final double next = function.applyAsDouble(Double.longBitsToDouble(current), x);
+      if (BITS.compareAndSet(this, current, Double.doubleToRawLongBits(next))) {
+        return next;
+      }
+    }
+  }
+
+  /**
+   * Atomically combines the magnitude with a quantity, converted to the unit of this measure.
+   *
+   * @param x        the quantity to combine with the current magnitude
+   * @param function the combining function
+   *
+   * @return the new magnitude
+   * @see #accumulateAndGet(double, DoubleBinaryOperator)
+   */
+  public double accumulateAndGet(Quantity<U> x, DoubleBinaryOperator function) {
+    return accumulateAndGet(convert(x), function);
+  }
+
+  /**
+   * Raises the magnitude to the given value if it is currently lower, eg to track a peak.
+   *
+   * @param candidate the candidate maximum
+   *
+   * @return the new magnitude
+   */
+  public double maxAndGet(double candidate) {
+    while (true) {
+      final long current = bits;
+      final double value = Double.longBitsToDouble(current);
+      if (!(candidate > value)) {
+        // No need to write if the current value is already at least as large
+        return value;
+      }
+      if (BITS.compareAndSet(this, current, Double.doubleToRawLongBits(candidate))) {
+        return candidate;
+      }
+    }
+  }
+
+  /**
+   * Raises the value to the given quantity if it is currently lower.
+   *
+   * @param candidate the candidate maximum
+   *
+   * @return the new magnitude
+   */
+  public double maxAndGet(Quantity<U> candidate) {
+    return maxAndGet(convert(candidate));
+  }
+
+  /**
+   * Lowers the magnitude to the given value if it is currently higher.
+   *
+   * @param candidate the candidate minimum
+   *
+   * @return the new magnitude
+   */
+  public double minAndGet(double candidate) {
+    while (true) {
+      final long current = bits;
+      final double value = Double.longBitsToDouble(current);
+      if (!(candidate < value)) {
+        return value;
+      }
+      if (BITS.compareAndSet(this, current, Double.doubleToRawLongBits(candidate))) {
+        return candidate;
+      }
+    }
+  }
+
+  /**
+   * Lowers the value to the given quantity if it is currently higher.
+   *
+   * @param candidate the candidate minimum
+   *
+   * @return the new magnitude
+   */
+  public double minAndGet(Quantity<U> candidate) {
+    return minAndGet(convert(candidate));
+  }
+
+  private double convert(Quantity<U> value) {
+    return conversion.apply(value);
+  }
+
+  /**
+   * Describes the current value of this measure with its unit symbol, eg {@code "12.5 ft"}.
+   */
+  @Override
+  public String toString() {
+    return MeasureFormat.toString(toMeasure());
+  }
+
+}
@@ -0,0 +1,255 @@
+package edu.wpi.first.wpilib.units;
+
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A precompiled plan for converting values from one unit to another unit of the same type. Conversions are
+ * resolved once per pair of units and cached by the target unit, so converting a value costs no allocation and
+ * goes through a single call site.
+ *
+ * <p>Conversions between two affine units are folded into a single factor and offset. Only conversions involving a
+ * nonlinear unit need to call the units' conversion functions.
+ *
+ * @see Unit#conversionFrom(Unit)
+ */
+public final class Conversion implements DoubleUnaryOperator {
+
+  private final Unit<?> source;
+  private final double factor;
+  private final double offset;
+
+  // Only set for conversions involving a nonlinear unit
+  private final DoubleUnaryOperator toBase;
+  private final DoubleUnaryOperator fromBase;
+
+  private Conversion(Unit<?> source, double factor, double offset) {
+    this.source = source;
+    this.factor = factor;
+    this.offset = offset;
+    this.toBase = null;
+    this.fromBase = null;
+  }
+
+  private Conversion(Unit<?> source, DoubleUnaryOperator toBase, DoubleUnaryOperator fromBase) {
+    this.source = source;
+    this.factor = Double.NaN;
+    this.offset = Double.NaN;
+    this.toBase = toBase;
+    this.fromBase = fromBase;
+  }
+
+  /**
+   * Creates a conversion from one unit to another.
+   *
+   * @param from the unit to convert values from
+   * @param to   the unit to convert values to
+   */
+  static Conversion between(Unit<?> from, Unit<?> to) {
+    if (from.isAffine() && to.isAffine()) {
+      // to.fromBase(from.toBase(x)) = ((x * fromScale + fromOffset) - toOffset) / toScale
+      return new Conversion(from, from.scale() / to.scale(), (from.offset() - to.offset()) / to.scale());
+    }
+    return new Conversion(from, from.getConverterToBase(), to.getConverterFromBase());
+  }
+
+  /**
+   * Converts a value of the source unit to the target unit.
+   *
+   * @param value a value measured in the source unit
+   *
+   * @return the equivalent value in the target unit
+   */
+  public double apply(double value) {
+    if (toBase != null) {
+      return fromBase.applyAsDouble(toBase.applyAsDouble(value));
+    }
+    if (offset == 0) {
+      return value * factor;
+    }
+    return value * factor + offset;
+  }
+
+  @Override
+  public double applyAsDouble(double value) {
+    return apply(value);
+  }
+
+  /**
+   * Converts a run of values and stores the results in a destination array. The source and destination may be the
+   * same array, even with overlapping ranges: like {@link System#arraycopy}, every value is read before it is
+   * overwritten.
+   *
+   * @param src       the values to convert, measured in the source unit
+   * @param srcOffset the index of the first value to convert
+   * @param dst       the array to store the converted values in
+   * @param dstOffset the index in the destination array to store the first converted value at
+   * @param length    the number of values to convert
+   */
+  public void apply(double[] src, int srcOffset, double[] dst, int dstOffset, int length) {
+    checkRange(src.length, srcOffset, length);
+    checkRange(dst.length, dstOffset, length);
+    if (src == dst && srcOffset < dstOffset && dstOffset < srcOffset + length) {
+      applyBackwards(src, srcOffset, dstOffset, length);
+      return;
+    }
+    if (toBase != null) {
+      for (int i = 0; i < length; i++) {
+        dst[dstOffset + i] = fromBase.applyAsDouble(toBase.applyAsDouble(src[srcOffset + i]));
+      }
+    } else {
+      // Plain loops with no calls so the JIT can unroll and vectorize them
+      final double factor = this.factor;
+      final double offset = this.offset;
+      if (offset == 0) {
+        for (int i = 0; i < length; i++) {
+          dst[dstOffset + i] = src[srcOffset + i] * factor;
+        }
+      } else {
+        for (int i = 0; i < length; i++) {
+          dst[dstOffset + i] = src[srcOffset + i] * factor + offset;
+        }
+      }
+    }
+  }
+
+  /**
+   * Converts a run of values to a later, overlapping run of the same array, back to front so every value is read
+   * before it's overwritten.
+   */
+  private void applyBackwards(double[] values, int srcOffset, int dstOffset, int length) {
+    for (int i = length - 1; i >= 0; i--) {
+      values[dstOffset + i] = apply(values[srcOffset + i]);
+    }
+  }
+
+  /**
+   * Converts values spread out at regular intervals in an array, such as one field of an array of interleaved
+   * records, and stores the results at regular intervals in a destination array.
+   *
+   * @param src       the values to convert, measured in the source unit
+   * @param srcOffset the index of the first value to convert
+   * @param srcStride the distance between consecutive values in the source array
+   * @param dst       the array to store the converted values in
+   * @param dstOffset the index in the destination array to store the first converted value at
+   * @param dstStride the distance between consecutive values in the destination array
+   * @param count     the number of values to convert
+   */
+  public void apply(double[] src, int srcOffset, int srcStride,
+                    double[] dst, int dstOffset, int dstStride,
+                    int count) {
+    checkStridedRange(src.length, srcOffset, srcStride, count);
+    checkStridedRange(dst.length, dstOffset, dstStride, count);
+    for (int i = 0, s = srcOffset, d = dstOffset; i < count; i++, s += srcStride, d += dstStride) {
+      dst[d] = apply(src[s]);
+    }
+  }
+
+  /**
+   * Converts the remaining values in a buffer and writes them to the remaining space of a destination buffer,
+   * advancing the positions of both buffers by the number of values converted.
+   *
+   * @param src the values to convert, measured in the source unit
+   * @param dst the buffer to write the converted values to
+   *
+   * @throws BufferOverflowException if the destination buffer does not have enough space
+   */
+  public void apply(DoubleBuffer src, DoubleBuffer dst) {
+    final int length = src.remaining();
+    if (dst.remaining() < length) {
+      throw new BufferOverflowException();
+    }
+    final int srcPos = src.position();
+    final int dstPos = dst.position();
+    if (src.hasArray() && dst.hasArray()) {
+      apply(src.array(), src.arrayOffset() + srcPos, dst.array(), dst.arrayOffset() + dstPos, length);
+    } else if (isIdentity()) {
+      // Let the buffers use a bulk copy, eg into a view of a direct byte buffer
+      dst.put(src);
+    } else {
+      for (int i = 0; i < length; i++) {
+        dst.put(dstPos + i, apply(src.get(srcPos + i)));
+      }
+    }
+    src.position(srcPos + length);
+    dst.position(dstPos + length);
+  }
+
+  /**
+   * Converts the values between the position and limit of a buffer in place. The position of the buffer is
+   * not changed.
+   *
+   * @param values the values to convert, measured in the source unit
+   */
+  public void apply(DoubleBuffer values) {
+    final int pos = values.position();
+    final int length = values.remaining();
+    if (values.hasArray()) {
+      final double[] array = values.array();
+      apply(array, values.arrayOffset() + pos, array, values.arrayOffset() + pos, length);
+    } else {
+      for (int i = pos; i < pos + length; i++) {
+        values.put(i, apply(values.get(i)));
+      }
+    }
+  }
+
+  /**
+   * Checks if this conversion leaves values unchanged, eg when converting a unit to itself.
+   */
+  boolean isIdentity() {
+    return factor == 1 && offset == 0;
+  }
+
+  private static void checkRange(int arrayLength, int offset, int length) {
+    if (offset < 0 || length < 0 || offset > arrayLength - length) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + arrayLength);
+    }
+  }
+
+  private static void checkStridedRange(int arrayLength, int offset, int stride, int count) {
+    if (stride <= 0) {
+      throw new IllegalArgumentException("Stride must be positive, but was " + stride);
+    }
+    if (count > 0) {
+      checkRange(arrayLength, offset, 1);
+      if ((long) offset + (long) (count - 1) * stride >= arrayLength) {
+        throw new IndexOutOfBoundsException(
+            count + " values with stride " + stride + " from " + offset + " out of bounds for length " + arrayLength);
+      }
+    } else if (count < 0) {
+      throw new IndexOutOfBoundsException("Negative count: " + count);
+    }
+  }
+
+  /**
+   * Checks if this conversion is a simple affine function {@code x * factor + offset}.
+   */
+  public boolean isAffine() {
+    return toBase == null;
+  }
+
+  /**
+   * The unit this conversion converts values from.
+   */
+  Unit<?> source() {
+    return source;
+  }
+
+  /**
+   * The multiplier applied to values by this conversion. Only valid for affine conversions.
+   */
+  public double factor() {
+    return factor;
+  }
+
+  /**
+   * The offset added to values by this conversion. Only valid for affine conversions.
+   */
+  public double offset() {
+    return offset;
+  }
+
+}
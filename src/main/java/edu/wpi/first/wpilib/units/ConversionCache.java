@@ -0,0 +1,47 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.Objects;
+
+/**
+ * Converts quantities to a fixed unit, remembering the conversion from the unit of the last quantity so a stream of
+ * quantities in the same unit only looks its conversion up once. Conversions are cached by their target unit, so
+ * converting does not allocate even when the input unit changes.
+ *
+ * <p>The cache is a single reference to a conversion that knows its source unit, so a cache can be shared between
+ * threads: a racing thread may look a conversion up again, but never pairs a unit with another unit's conversion.
+ *
+ * @param <U> the unit type of the converted quantities
+ */
+final class ConversionCache<U extends Unit<U>> {
+
+  private final Unit<U> unit;
+  private Conversion last;
+
+  /**
+   * Creates a cache of conversions to a unit.
+   *
+   * @param unit the unit to convert to
+   */
+  ConversionCache(Unit<U> unit) {
+    this.unit = Objects.requireNonNull(unit, "Unit cannot be null");
+    this.last = unit.conversionFrom(unit);
+  }
+
+  /**
+   * Converts a quantity to this cache's unit.
+   *
+   * @param quantity the quantity to convert
+   *
+   * @return the magnitude of the quantity in this cache's unit
+   */
+  double apply(Quantity<U> quantity) {
+    final Unit<U> quantityUnit = Unit.unitOf(quantity);
+    Conversion conversion = last;
+    if (conversion.source() != quantityUnit) {
+      conversion = unit.conversionFrom(quantityUnit);
+      last = conversion;
+    }
+    return conversion.apply(quantity.magnitude());
+  }
+
+}
@@ -0,0 +1,114 @@
+package edu.wpi.first.wpilib.units;
+
+/**
+ * Looks up the canonical unit of a {@link Dimension dimension vector}, for the results of multiplying and dividing
+ * measures of arbitrary units. The base units are the canonical units of their dimensions; units are created on
+ * demand for other dimensions, such as area, and cached for later lookups.
+ *
+ * <p>Lookups read an immutable open-addressed table keyed by the raw dimension vector, so they neither lock nor box.
+ * Adding a unit copies the table.
+ */
+final class DerivedUnits {
+
+  private DerivedUnits() {
+    // Prevent instantiation
+  }
+
+  private static final class Table {
+    final long[] dimensions;
+    final Unit<?>[] units;
+    final int size;
+
+    Table(int capacity, int size) {
+      this.dimensions = new long[capacity];
+      this.units = new Unit<?>[capacity];
+      this.size = size;
+    }
+  }
+
+  private static volatile Table table = new Table(32, 0);
+
+  static {
+    register(BaseUnits.Distance);
+    register(BaseUnits.Time);
+    register(BaseUnits.Velocity);
+    register(BaseUnits.Acceleration);
+    register(BaseUnits.Mass);
+    register(BaseUnits.Angle);
+    register(BaseUnits.Value);
+    register(BaseUnits.ElectricPotential);
+    register(BaseUnits.ElectricCurrent);
+    register(BaseUnits.Power);
+    register(BaseUnits.Temperature);
+  }
+
+  /**
+   * Gets the canonical unit of a dimension, creating one if no unit of that dimension has been seen before.
+   * Canonical units have a scale of 1 and no offset relative to their base unit.
+   *
+   * @param dimension the dimension vector to get the unit for
+   */
+  static Unit<?> forDimension(long dimension) {
+    Unit<?> unit = find(table, dimension);
+    if (unit == null) {
+      unit = create(dimension);
+    }
+    return unit;
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static synchronized Unit<?> create(long dimension) {
+    Unit<?> unit = find(table, dimension);
+    if (unit == null) {
+      // A coherent SI unit of the dimension, with no specialized Unit subclass
+      unit = new Unit(1, 0, dimension, 1);
+      register(unit);
+    }
+    return unit;
+  }
+
+  private static synchronized void register(Unit<?> unit) {
+    Table current = table;
+    if (find(current, unit.dimension()) != null) {
+      return;
+    }
+    int capacity = current.dimensions.length;
+    if ((current.size + 1) * 2 > capacity) {
+      capacity *= 2;
+    }
+    Table next = new Table(capacity, current.size + 1);
+    for (int i = 0; i < current.units.length; i++) {
+      if (current.units[i] != null) {
+        insert(next, current.dimensions[i], current.units[i]);
+      }
+    }
+    insert(next, unit.dimension(), unit);
+    table = next;
+  }
+
+  private static Unit<?> find(Table table, long dimension) {
+    final int mask = table.units.length - 1;
+    for (int i = index(dimension, mask); ; i = (i + 1) & mask) {
+      Unit<?> unit = table.units[i];
+      if (unit == null || table.dimensions[i] == dimension) {
+        return unit;
+      }
+    }
+  }
+
+  private static void insert(Table table, long dimension, Unit<?> unit) {
+    final int mask = table.units.length - 1;
+    int i = index(dimension, mask);
+    while (table.units[i] != null) {
+      i = (i + 1) & mask;
+    }
+    table.dimensions[i] = dimension;
+    table.units[i] = unit;
+  }
+
+  private static int index(long dimension, int mask) {
+    long h = dimension * 0x9E3779B97F4A7C15L;
+    return (int) (h >>> 32) & mask;
+  }
+
+}
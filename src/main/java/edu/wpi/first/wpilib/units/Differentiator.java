@@ -0,0 +1,191 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.Objects;
+
+/**
+ * Estimates the rate of change of a stream of timestamped samples, eg velocity from encoder distances. Each sample
+ * is differentiated against the previous one with a backward difference, so samples may arrive at irregular
+ * intervals. The state is a single previous sample, and updating does not allocate.
+ *
+ * <p>Samples and timestamps are converted to coherent SI units internally, so the input, time and output units can
+ * be any units of the right dimensions: differentiating feet over milliseconds can produce meters per second.
+ *
+ * <p>Differentiators are not thread safe.
+ *
+ * @param <I> the unit type of the input samples
+ * @param <O> the unit type of the derivative
+ */
+public final class Differentiator<I extends Unit<I>, O extends Unit<O>> {
+
+  private final Unit<I> inputUnit;
+  private final Unit<Time> timeUnit;
+  private final Unit<O> outputUnit;
+
+  // Converts a rate in coherent units to the output unit
+  private final double outputScale;
+
+  private boolean hasSample;
+  private double lastTime;
+  private double lastValue;
+  private double output;
+
+  /**
+   * Creates a new differentiator.
+   *
+   * @param inputUnit  the unit of input samples
+   * @param timeUnit   the unit of timestamps
+   * @param outputUnit the unit of the derivative. Its dimension must be the input dimension divided by time.
+   *
+   * @throws IllegalArgumentException if the output unit has the wrong dimension
+   */
+  public Differentiator(Unit<I> inputUnit, Unit<Time> timeUnit, Unit<O> outputUnit) {
+    this.inputUnit = Objects.requireNonNull(inputUnit, "Input unit cannot be null");
+    this.timeUnit = Objects.requireNonNull(timeUnit, "Time unit cannot be null");
+    this.outputUnit = Objects.requireNonNull(outputUnit, "Output unit cannot be null");
+    final long expected = Dimension.divide(inputUnit.dimension(), Dimension.TIME);
+    if (outputUnit.dimension() != expected) {
+      throw new IllegalArgumentException(
+          "The derivative of " + Dimension.toString(inputUnit.dimension()) + " is "
+              + Dimension.toString(expected) + ", not " + Dimension.toString(outputUnit.dimension()));
+    }
+    this.outputScale = 1 / (outputUnit.toCoherent(1) - outputUnit.toCoherent(0));
+  }
+
+  /**
+   * Creates a differentiator from distance to velocity in meters per second.
+   *
+   * @param distanceUnit the unit of input distances
+   * @param timeUnit     the unit of timestamps
+   */
+  public static Differentiator<Distance, Velocity> velocity(Unit<Distance> distanceUnit, Unit<Time> timeUnit) {
+    return new Differentiator<>(distanceUnit, timeUnit, Units.MetersPerSecond);
+  }
+
+  /**
+   * Creates a differentiator from velocity to acceleration in meters per second per second.
+   *
+   * @param velocityUnit the unit of input velocities
+   * @param timeUnit     the unit of timestamps
+   */
+  public static Differentiator<Velocity, Acceleration> acceleration(Unit<Velocity> velocityUnit,
+                                                                    Unit<Time> timeUnit) {
+    return new Differentiator<>(velocityUnit, timeUnit, Units.MetersPerSecondPerSecond);
+  }
+
+  /**
+   * Adds a sample and updates the derivative. The first sample after creating or resetting the differentiator
+   * has a derivative of zero, and a sample with the same timestamp as the previous one leaves the derivative
+   * unchanged.
+   *
+   * @param timestamp the time of the sample, in terms of the time unit
+   * @param magnitude the sample, in terms of the input unit
+   *
+   * @return the derivative, in terms of the output unit
+   *
+   * @throws IllegalArgumentException if the timestamp is before the previous sample
+   */
+  public double update(double timestamp, double magnitude) {
+    return updateCoherent(timeUnit.toCoherent(timestamp), inputUnit.toCoherent(magnitude));
+  }
+
+  /**
+   * Adds a sample and updates the derivative.
+   *
+   * @param timestamp the time of the sample
+   * @param value     the sample
+   *
+   * @return the derivative, in terms of the output unit
+   *
+   * @throws IllegalArgumentException if the timestamp is before the previous sample
+   * @see #update(double, double)
+   */
+  public double update(Quantity<Time> timestamp, Quantity<I> value) {
+    final Unit<Time> timestampUnit = Unit.unitOf(timestamp);
+    final Unit<I> valueUnit = Unit.unitOf(value);
+    return updateCoherent(timestampUnit.toCoherent(timestamp.magnitude()), valueUnit.toCoherent(value.magnitude()));
+  }
+
+  /**
+   * Adds a batch of samples, writing the derivative after each one to an output array. This continues from the
+   * state left by any previous updates.
+   *
+   * @param timestamps the times of the samples, in terms of the time unit
+   * @param magnitudes the samples, in terms of the input unit
+   * @param out        the array to write derivatives to, in terms of the output unit
+   * @param offset     the index of the first sample in each array
+   * @param length     the number of samples
+   *
+   * @throws IllegalArgumentException if the timestamps ever decrease
+   */
+  public void update(double[] timestamps, double[] magnitudes, double[] out, int offset, int length) {
+    checkBatch(timestamps, magnitudes, out, offset, length);
+    for (int i = offset; i < offset + length; i++) {
+      out[i] = update(timestamps[i], magnitudes[i]);
+    }
+  }
+
+  private double updateCoherent(double time, double value) {
+    if (hasSample) {
+      final double dt = time - lastTime;
+      if (dt < 0) {
+        throw new IllegalArgumentException("Timestamp is before the previous sample");
+      }
+      if (dt > 0) {
+        output = (value - lastValue) / dt * outputScale;
+      }
+    }
+    hasSample = true;
+    lastTime = time;
+    lastValue = value;
+    return output;
+  }
+
+  /**
+   * Gets the most recent derivative, in terms of the output unit.
+   */
+  public double output() {
+    return output;
+  }
+
+  /**
+   * Stores the most recent derivative in a mutable measure, without allocating.
+   *
+   * @param result the measure to store the derivative in. Its unit is replaced with the output unit.
+   *
+   * @return the result measure
+   */
+  public MutableMeasure<O> output(MutableMeasure<O> result) {
+    return result.mut_replace(output, outputUnit);
+  }
+
+  /**
+   * Gets the most recent derivative as a measure.
+   */
+  public Measure<O> get() {
+    return outputUnit.of(output);
+  }
+
+  /**
+   * Gets the unit of the derivative.
+   */
+  public Unit<O> outputUnit() {
+    return outputUnit;
+  }
+
+  /**
+   * Forgets all samples and resets the derivative to zero.
+   */
+  public void reset() {
+    hasSample = false;
+    output = 0;
+  }
+
+  static void checkBatch(double[] timestamps, double[] magnitudes, double[] out, int offset, int length) {
+    final int shortest = Math.min(timestamps.length, Math.min(magnitudes.length, out.length));
+    if (offset < 0 || length < 0 || offset > shortest - length) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + shortest);
+    }
+  }
+
+}
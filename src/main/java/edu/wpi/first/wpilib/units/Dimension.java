@@ -0,0 +1,162 @@
+package edu.wpi.first.wpilib.units;
+
+/**
+ * Dimension vectors packed into a {@code long}. Each byte of the long holds the signed exponent of one base
+ * dimension; for example, velocity is length<sup>1</sup> time<sup>-1</sup>. Multiplying two quantities adds their
+ * exponents and dividing subtracts them, which is done for all base dimensions at once with SWAR (SIMD within a
+ * register) arithmetic. Exponents must stay within [-128, 127].
+ *
+ * <p>Angles are treated as a base dimension, rather than being dimensionless as in SI, so that angular quantities
+ * don't mix with unitless ones.
+ */
+public final class Dimension {
+
+  private Dimension() {
+    // Prevent instantiation
+  }
+
+  private static final int LENGTH_INDEX = 0;
+  private static final int TIME_INDEX = 1;
+  private static final int MASS_INDEX = 2;
+  private static final int CURRENT_INDEX = 3;
+  private static final int TEMPERATURE_INDEX = 4;
+  private static final int ANGLE_INDEX = 5;
+
+  private static final String[] SYMBOLS = {"L", "T", "M", "I", "\u0398", "A"};
+
+  // The sign bit of every byte lane
+  private static final long HIGH_BITS = 0x8080808080808080L;
+
+  /**
+   * The dimension of unitless quantities.
+   */
+  public static final long NONE = 0L;
+
+  /**
+   * The dimension of units created without one. No dimension vector made by {@link #of} is equal to it, and
+   * measures of units with an unknown dimension can't be multiplied, divided or converted by dimension.
+   */
+  public static final long UNKNOWN = Long.MIN_VALUE;
+
+  public static final long LENGTH = 1L << (8 * LENGTH_INDEX);
+  public static final long TIME = 1L << (8 * TIME_INDEX);
+  public static final long MASS = 1L << (8 * MASS_INDEX);
+  public static final long CURRENT = 1L << (8 * CURRENT_INDEX);
+  public static final long TEMPERATURE = 1L << (8 * TEMPERATURE_INDEX);
+  public static final long ANGLE = 1L << (8 * ANGLE_INDEX);
+
+  /**
+   * Creates a dimension vector from the exponents of each base dimension.
+   */
+  public static long of(int length, int time, int mass, int current, int temperature, int angle) {
+    return lane(LENGTH_INDEX, length)
+        | lane(TIME_INDEX, time)
+        | lane(MASS_INDEX, mass)
+        | lane(CURRENT_INDEX, current)
+        | lane(TEMPERATURE_INDEX, temperature)
+        | lane(ANGLE_INDEX, angle);
+  }
+
+  /**
+   * Gets the dimension of the product of quantities of two dimensions.
+   */
+  public static long multiply(long a, long b) {
+    // Add each byte lane without letting carries cross into the next lane
+    return ((a & ~HIGH_BITS) + (b & ~HIGH_BITS)) ^ ((a ^ b) & HIGH_BITS);
+  }
+
+  /**
+   * Gets the dimension of the quotient of quantities of two dimensions.
+   */
+  public static long divide(long a, long b) {
+    // Subtract each byte lane without letting borrows cross into the next lane
+    return ((a | HIGH_BITS) - (b & ~HIGH_BITS)) ^ ((a ^ ~b) & HIGH_BITS);
+  }
+
+  /**
+   * Gets the dimension of the reciprocal of a quantity of the given dimension.
+   */
+  public static long inverse(long dimension) {
+    return divide(NONE, dimension);
+  }
+
+  /**
+   * Gets the exponent of length in a dimension vector.
+   */
+  public static int length(long dimension) {
+    return exponent(dimension, LENGTH_INDEX);
+  }
+
+  /**
+   * Gets the exponent of time in a dimension vector.
+   */
+  public static int time(long dimension) {
+    return exponent(dimension, TIME_INDEX);
+  }
+
+  /**
+   * Gets the exponent of mass in a dimension vector.
+   */
+  public static int mass(long dimension) {
+    return exponent(dimension, MASS_INDEX);
+  }
+
+  /**
+   * Gets the exponent of electric current in a dimension vector.
+   */
+  public static int current(long dimension) {
+    return exponent(dimension, CURRENT_INDEX);
+  }
+
+  /**
+   * Gets the exponent of temperature in a dimension vector.
+   */
+  public static int temperature(long dimension) {
+    return exponent(dimension, TEMPERATURE_INDEX);
+  }
+
+  /**
+   * Gets the exponent of angle in a dimension vector.
+   */
+  public static int angle(long dimension) {
+    return exponent(dimension, ANGLE_INDEX);
+  }
+
+  /**
+   * Describes a dimension vector, eg {@code "L T^-1"} for velocity.
+   */
+  public static String toString(long dimension) {
+    if (dimension == NONE) {
+      return "1";
+    }
+    if (dimension == UNKNOWN) {
+      return "?";
+    }
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < SYMBOLS.length; i++) {
+      int exponent = exponent(dimension, i);
+      if (exponent != 0) {
+        if (builder.length() > 0) {
+          builder.append(' ');
+        }
+        builder.append(SYMBOLS[i]);
+        if (exponent != 1) {
+          builder.append('^').append(exponent);
+        }
+      }
+    }
+    return builder.toString();
+  }
+
+  private static int exponent(long dimension, int index) {
+    return (byte) (dimension >>> (8 * index));
+  }
+
+  private static long lane(int index, int exponent) {
+    if (exponent < Byte.MIN_VALUE || exponent > Byte.MAX_VALUE) {
+      throw new IllegalArgumentException("Exponent out of range: " + exponent);
+    }
+    return (exponent & 0xFFL) << (8 * index);
+  }
+
+}
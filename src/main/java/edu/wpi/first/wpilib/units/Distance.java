@@ -9,7 +9,7 @@ public class Distance extends Unit<Distance> {
    *                           meters has a multiplier of 1, mm has a multiplier of 1e3, and km has a multiplier of 1e-3.
    */
   Distance(double baseUnitEquivalent) {
-    super(baseUnitEquivalent);
+    super(baseUnitEquivalent, 0, Dimension.LENGTH, 1);
   }
 
 }
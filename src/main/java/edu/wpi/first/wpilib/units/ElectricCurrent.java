@@ -3,7 +3,7 @@ package edu.wpi.first.wpilib.units;
 public class ElectricCurrent extends Unit<ElectricCurrent> {
 
   ElectricCurrent(double baseUnitEquivalent) {
-    super(baseUnitEquivalent);
+    super(baseUnitEquivalent, 0, Dimension.CURRENT, 1);
   }
 
 }
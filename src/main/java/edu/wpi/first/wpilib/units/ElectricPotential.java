@@ -3,7 +3,7 @@ package edu.wpi.first.wpilib.units;
 public class ElectricPotential extends Unit<ElectricPotential> {
 
   ElectricPotential(double baseUnitEquivalent) {
-    super(baseUnitEquivalent);
+    super(baseUnitEquivalent, 0, Dimension.of(2, -3, 1, -1, 0, 0), 1);
   }
 
 }
@@ -0,0 +1,47 @@
+package edu.wpi.first.wpilib.units;
+
+/**
+ * An exponential moving average: each output moves from the previous output towards the input by a fixed fraction,
+ * {@code output = alpha * input + (1 - alpha) * output}. The first input after creating or resetting the filter is
+ * passed through unchanged.
+ *
+ * @param <U> the unit type of the filtered measures
+ */
+public final class ExponentialMovingAverageFilter<U extends Unit<U>> extends MeasureFilter<U> {
+
+  private final double alpha;
+  private boolean initialized;
+  private double average;
+
+  /**
+   * Creates a new exponential moving average filter.
+   *
+   * @param unit  the unit the filter works in
+   * @param alpha the weight of each new input, in (0, 1]. Larger weights follow the input more closely.
+   */
+  public ExponentialMovingAverageFilter(Unit<U> unit, double alpha) {
+    super(unit);
+    if (!(alpha > 0 && alpha <= 1)) {
+      throw new IllegalArgumentException("Alpha must be in (0, 1], but was " + alpha);
+    }
+    this.alpha = alpha;
+  }
+
+  @Override
+  protected double filter(double magnitude) {
+    if (initialized) {
+      average += alpha * (magnitude - average);
+    } else {
+      average = magnitude;
+      initialized = true;
+    }
+    return average;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    initialized = false;
+  }
+
+}
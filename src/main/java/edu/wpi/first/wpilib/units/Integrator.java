@@ -0,0 +1,202 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.Objects;
+
+/**
+ * Accumulates the integral of a stream of timestamped samples over time, eg distance traveled from velocities.
+ * Each interval between samples is integrated with the trapezoidal rule, so samples may arrive at irregular
+ * intervals, and the running total is kept with compensated summation so that it stays accurate over long runs.
+ * The state is a single previous sample and the total, and updating does not allocate.
+ *
+ * <p>Samples and timestamps are converted to coherent SI units internally, so the input, time and output units can
+ * be any units of the right dimensions: integrating feet per second over milliseconds can produce meters.
+ *
+ * <p>Integrators are not thread safe.
+ *
+ * @param <I> the unit type of the input samples
+ * @param <O> the unit type of the integral
+ */
+public final class Integrator<I extends Unit<I>, O extends Unit<O>> {
+
+  private final Unit<I> inputUnit;
+  private final Unit<Time> timeUnit;
+  private final Unit<O> outputUnit;
+
+  private boolean hasSample;
+  private double lastTime;
+  private double lastValue;
+
+  // The integral in coherent units, with its running compensation
+  private double total;
+  private double compensation;
+
+  /**
+   * Creates a new integrator with a total of zero.
+   *
+   * @param inputUnit  the unit of input samples
+   * @param timeUnit   the unit of timestamps
+   * @param outputUnit the unit of the integral. Its dimension must be the input dimension multiplied by time.
+   *
+   * @throws IllegalArgumentException if the output unit has the wrong dimension
+   */
+  public Integrator(Unit<I> inputUnit, Unit<Time> timeUnit, Unit<O> outputUnit) {
+    this.inputUnit = Objects.requireNonNull(inputUnit, "Input unit cannot be null");
+    this.timeUnit = Objects.requireNonNull(timeUnit, "Time unit cannot be null");
+    this.outputUnit = Objects.requireNonNull(outputUnit, "Output unit cannot be null");
+    final long expected = Dimension.multiply(inputUnit.dimension(), Dimension.TIME);
+    if (outputUnit.dimension() != expected) {
+      throw new IllegalArgumentException(
+          "The integral of " + Dimension.toString(inputUnit.dimension()) + " is "
+              + Dimension.toString(expected) + ", not " + Dimension.toString(outputUnit.dimension()));
+    }
+    reset();
+  }
+
+  /**
+   * Creates an integrator from velocity to distance in meters.
+   *
+   * @param velocityUnit the unit of input velocities
+   * @param timeUnit     the unit of timestamps
+   */
+  public static Integrator<Velocity, Distance> distance(Unit<Velocity> velocityUnit, Unit<Time> timeUnit) {
+    return new Integrator<>(velocityUnit, timeUnit, Units.Meters);
+  }
+
+  /**
+   * Creates an integrator from acceleration to velocity in meters per second.
+   *
+   * @param accelerationUnit the unit of input accelerations
+   * @param timeUnit         the unit of timestamps
+   */
+  public static Integrator<Acceleration, Velocity> velocity(Unit<Acceleration> accelerationUnit,
+                                                            Unit<Time> timeUnit) {
+    return new Integrator<>(accelerationUnit, timeUnit, Units.MetersPerSecond);
+  }
+
+  /**
+   * Adds a sample and integrates the interval since the previous sample. The first sample after creating or
+   * resetting the integrator only marks the start of the integral.
+   *
+   * @param timestamp the time of the sample, in terms of the time unit
+   * @param magnitude the sample, in terms of the input unit
+   *
+   * @return the integral so far, in terms of the output unit
+   *
+   * @throws IllegalArgumentException if the timestamp is before the previous sample
+   */
+  public double update(double timestamp, double magnitude) {
+    return updateCoherent(timeUnit.toCoherent(timestamp), inputUnit.toCoherent(magnitude));
+  }
+
+  /**
+   * Adds a sample and integrates the interval since the previous sample.
+   *
+   * @param timestamp the time of the sample
+   * @param value     the sample
+   *
+   * @return the integral so far, in terms of the output unit
+   *
+   * @throws IllegalArgumentException if the timestamp is before the previous sample
+   * @see #update(double, double)
+   */
+  public double update(Quantity<Time> timestamp, Quantity<I> value) {
+    final Unit<Time> timestampUnit = Unit.unitOf(timestamp);
+    final Unit<I> valueUnit = Unit.unitOf(value);
+    return updateCoherent(timestampUnit.toCoherent(timestamp.magnitude()), valueUnit.toCoherent(value.magnitude()));
+  }
+
+  /**
+   * Adds a batch of samples, writing the integral after each one to an output array. This continues from the
+   * state left by any previous updates.
+   *
+   * @param timestamps the times of the samples, in terms of the time unit
+   * @param magnitudes the samples, in terms of the input unit
+   * @param out        the array to write the integral to, in terms of the output unit
+   * @param offset     the index of the first sample in each array
+   * @param length     the number of samples
+   *
+   * @throws IllegalArgumentException if the timestamps ever decrease
+   */
+  public void update(double[] timestamps, double[] magnitudes, double[] out, int offset, int length) {
+    Differentiator.checkBatch(timestamps, magnitudes, out, offset, length);
+    for (int i = offset; i < offset + length; i++) {
+      out[i] = update(timestamps[i], magnitudes[i]);
+    }
+  }
+
+  private double updateCoherent(double time, double value) {
+    if (hasSample) {
+      final double dt = time - lastTime;
+      if (dt < 0) {
+        throw new IllegalArgumentException("Timestamp is before the previous sample");
+      }
+      add((lastValue + value) * 0.5 * dt);
+    }
+    hasSample = true;
+    lastTime = time;
+    lastValue = value;
+    return output();
+  }
+
+  private void add(double area) {
+    // Neumaier's compensated summation
+    final double t = total + area;
+    if (Math.abs(total) >= Math.abs(area)) {
+      compensation += (total - t) + area;
+    } else {
+      compensation += (area - t) + total;
+    }
+    total = t;
+  }
+
+  /**
+   * Gets the integral so far, in terms of the output unit.
+   */
+  public double output() {
+    return outputUnit.fromCoherent(total + compensation);
+  }
+
+  /**
+   * Stores the integral so far in a mutable measure, without allocating.
+   *
+   * @param result the measure to store the integral in. Its unit is replaced with the output unit.
+   *
+   * @return the result measure
+   */
+  public MutableMeasure<O> output(MutableMeasure<O> result) {
+    return result.mut_replace(output(), outputUnit);
+  }
+
+  /**
+   * Gets the integral so far as a measure.
+   */
+  public Measure<O> get() {
+    return outputUnit.of(output());
+  }
+
+  /**
+   * Gets the unit of the integral.
+   */
+  public Unit<O> outputUnit() {
+    return outputUnit;
+  }
+
+  /**
+   * Forgets all samples and resets the integral to zero.
+   */
+  public void reset() {
+    reset(0);
+  }
+
+  /**
+   * Forgets all samples and resets the integral to an initial value.
+   *
+   * @param initial the initial value of the integral, in terms of the output unit
+   */
+  public void reset(double initial) {
+    hasSample = false;
+    total = outputUnit.toCoherent(initial);
+    compensation = 0;
+  }
+
+}
@@ -0,0 +1,344 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A lookup table that maps measures of one type to measures of another, interpolating between the points it was
+ * built with; eg shooter speeds tuned at a handful of distances from the target. Keys and values are stored in
+ * sorted primitive arrays in fixed units, so lookups take O(log n) time and neither box nor allocate.
+ *
+ * <p>Query keys may be in any unit of the key type. The conversion from the unit of the most recent query key is
+ * cached, so repeatedly querying in the same unit skips the conversion lookup. Queries before the first key or
+ * after the last key are clamped to the first or last value.
+ *
+ * <p>Tables are immutable once built and are safe to share between threads.
+ *
+ * @param <K> the unit type of the keys
+ * @param <V> the unit type of the values
+ */
+public final class InterpolatingMeasureTable<K extends Unit<K>, V extends Unit<V>> {
+
+  /**
+   * How values are estimated between the keys of a table.
+   */
+  public enum Interpolation {
+    /**
+     * Straight lines between adjacent points.
+     */
+    LINEAR,
+
+    /**
+     * A natural cubic spline through every point. The curve and its slope are continuous at every point, but it
+     * may overshoot between points where the data changes direction sharply.
+     */
+    CUBIC_SPLINE,
+
+    /**
+     * The value of the closest key. Queries exactly halfway between two keys use the larger key.
+     */
+    NEAREST
+  }
+
+  /**
+   * How the keys of a table are laid out and searched.
+   */
+  public enum Search {
+    /**
+     * Binary search over the sorted keys. Best for small tables that fit in a few cache lines.
+     */
+    BINARY,
+
+    /**
+     * Search over a copy of the keys in Eytzinger (breadth-first binary tree) order, where the keys compared early
+     * in every search sit next to each other in memory. Best for large tables queried at random.
+     */
+    EYTZINGER
+  }
+
+  private final Unit<K> keyUnit;
+  private final Unit<V> valueUnit;
+  private final Interpolation interpolation;
+  private final Search search;
+
+  private final double[] keys;
+  private final double[] values;
+
+  // Second derivatives at each key, only for cubic splines
+  private final double[] curvatures;
+
+  // Keys in Eytzinger order, 1-indexed, and the sorted index of each one; only for Eytzinger search
+  private final double[] eytzingerKeys;
+  private final int[] eytzingerIndices;
+
+  private final ConversionCache<K> keyConversion;
+
+  private InterpolatingMeasureTable(Builder<K, V> builder) {
+    this.keyUnit = builder.keyUnit;
+    this.valueUnit = builder.valueUnit;
+    this.interpolation = builder.interpolation;
+    this.search = builder.search;
+    this.keyConversion = new ConversionCache<>(keyUnit);
+
+    final int size = builder.size;
+    if (size == 0) {
+      throw new IllegalStateException("A table needs at least one point");
+    }
+    keys = Arrays.copyOf(builder.keys, size);
+    Arrays.sort(keys);
+    for (int i = 1; i < size; i++) {
+      if (keys[i] == keys[i - 1]) {
+        throw new IllegalStateException("Duplicate key: " + keys[i] + " " + keyUnit.symbol());
+      }
+    }
+    // Keys are unique, so each one can be found in the sorted array to place its value
+    values = new double[size];
+    for (int i = 0; i < size; i++) {
+      values[Arrays.binarySearch(keys, builder.keys[i])] = builder.values[i];
+    }
+
+    curvatures = interpolation == Interpolation.CUBIC_SPLINE ? naturalSplineCurvatures(keys, values) : null;
+
+    if (search == Search.EYTZINGER) {
+      eytzingerKeys = new double[size + 1];
+      eytzingerIndices = new int[size + 1];
+      fillEytzinger(0, 1);
+    } else {
+      eytzingerKeys = null;
+      eytzingerIndices = null;
+    }
+  }
+
+  /**
+   * Starts building a table.
+   *
+   * @param keyUnit   the unit keys are stored in
+   * @param valueUnit the unit values are stored and looked up in
+   */
+  public static <K extends Unit<K>, V extends Unit<V>> Builder<K, V> builder(Unit<K> keyUnit, Unit<V> valueUnit) {
+    return new Builder<>(keyUnit, valueUnit);
+  }
+
+  /**
+   * Looks up the value for a key.
+   *
+   * @param key the key, in terms of the table's key unit
+   *
+   * @return the value, in terms of the table's value unit; or NaN if the key is NaN
+   */
+  public double get(double key) {
+    final int last = keys.length - 1;
+    if (!(key > keys[0])) {
+      // Also catches NaN
+      return key == key ? values[0] : Double.NaN;
+    }
+    if (key >= keys[last]) {
+      return values[last];
+    }
+    // keys[i] <= key < keys[i + 1]
+    final int i = search == Search.EYTZINGER ? eytzingerFloor(key) : binaryFloor(key);
+    final double x0 = keys[i];
+    final double x1 = keys[i + 1];
+    switch (interpolation) {
+      case NEAREST:
+        return key - x0 < x1 - key ? values[i] : values[i + 1];
+      case CUBIC_SPLINE:
+        final double h = x1 - x0;
+        final double a = (x1 - key) / h;
+        final double b = (key - x0) / h;
+        return a * values[i] + b * values[i + 1]
+            + ((a * a * a - a) * curvatures[i] + (b * b * b - b) * curvatures[i + 1]) * (h * h) / 6;
+      default:
+        return values[i] + (values[i + 1] - values[i]) * (key - x0) / (x1 - x0);
+    }
+  }
+
+  /**
+   * Looks up the value for a key of any unit of the key type.
+   *
+   * @param key the key
+   *
+   * @return the value, in terms of the table's value unit
+   */
+  public double get(Quantity<K> key) {
+    return get(keyConversion.apply(key));
+  }
+
+  /**
+   * Looks up the value for a key and stores it in a mutable measure, without allocating.
+   *
+   * @param key    the key
+   * @param result the measure to store the value in. Its unit is replaced with the table's value unit.
+   *
+   * @return the result measure
+   */
+  public MutableMeasure<V> get(Quantity<K> key, MutableMeasure<V> result) {
+    return result.mut_replace(get(key), valueUnit);
+  }
+
+  /**
+   * Gets the unit keys are stored in.
+   */
+  public Unit<K> keyUnit() {
+    return keyUnit;
+  }
+
+  /**
+   * Gets the unit values are stored and looked up in.
+   */
+  public Unit<V> valueUnit() {
+    return valueUnit;
+  }
+
+  /**
+   * Gets the number of points in the table.
+   */
+  public int size() {
+    return keys.length;
+  }
+
+  /**
+   * Finds the last index with a key no greater than the given key, which must be in [keys[0], keys[last]).
+   */
+  private int binaryFloor(double key) {
+    int low = 0;
+    int length = keys.length;
+    while (length > 1) {
+      final int half = length >>> 1;
+      if (keys[low + half] <= key) {
+        low += half;
+      }
+      length -= half;
+    }
+    return low;
+  }
+
+  /**
+   * Finds the last index with a key no greater than the given key, which must be in [keys[0], keys[last]).
+   */
+  private int eytzingerFloor(double key) {
+    int k = 1;
+    while (k < eytzingerKeys.length) {
+      k = 2 * k + (eytzingerKeys[k] <= key ? 1 : 0);
+    }
+    // Undo the right turns after the last left turn; that left turn was at the first key greater than the query
+    k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+    return eytzingerIndices[k] - 1;
+  }
+
+  private int fillEytzinger(int sortedIndex, int k) {
+    if (k < eytzingerKeys.length) {
+      sortedIndex = fillEytzinger(sortedIndex, 2 * k);
+      eytzingerKeys[k] = keys[sortedIndex];
+      eytzingerIndices[k] = sortedIndex;
+      sortedIndex = fillEytzinger(sortedIndex + 1, 2 * k + 1);
+    }
+    return sortedIndex;
+  }
+
+  /**
+   * Solves for the second derivatives of a natural cubic spline, which are zero at both ends.
+   */
+  private static double[] naturalSplineCurvatures(double[] x, double[] y) {
+    final int n = x.length;
+    final double[] curvatures = new double[n];
+    if (n < 3) {
+      return curvatures;
+    }
+    // Tridiagonal system for the interior points, solved with the Thomas algorithm
+    final double[] upper = new double[n];
+    final double[] rhs = new double[n];
+    for (int i = 1; i < n - 1; i++) {
+      final double hLow = x[i] - x[i - 1];
+      final double hHigh = x[i + 1] - x[i];
+      final double diagonal = 2 * (hLow + hHigh) - hLow * upper[i - 1];
+      upper[i] = hHigh / diagonal;
+      rhs[i] = (6 * ((y[i + 1] - y[i]) / hHigh - (y[i] - y[i - 1]) / hLow) - hLow * rhs[i - 1]) / diagonal;
+    }
+    for (int i = n - 2; i > 0; i--) {
+      curvatures[i] = rhs[i] - upper[i] * curvatures[i + 1];
+    }
+    return curvatures;
+  }
+
+  /**
+   * Collects the points of an {@link InterpolatingMeasureTable}. Points may be added in any order.
+   */
+  public static final class Builder<K extends Unit<K>, V extends Unit<V>> {
+
+    private final Unit<K> keyUnit;
+    private final Unit<V> valueUnit;
+    private Interpolation interpolation = Interpolation.LINEAR;
+    private Search search = Search.BINARY;
+
+    private double[] keys = new double[16];
+    private double[] values = new double[16];
+    private int size;
+
+    private Builder(Unit<K> keyUnit, Unit<V> valueUnit) {
+      this.keyUnit = Objects.requireNonNull(keyUnit, "Key unit cannot be null");
+      this.valueUnit = Objects.requireNonNull(valueUnit, "Value unit cannot be null");
+    }
+
+    /**
+     * Adds a point to the table.
+     *
+     * @param key   the key, in terms of the key unit
+     * @param value the value, in terms of the value unit
+     *
+     * @throws IllegalArgumentException if the key is NaN
+     */
+    public Builder<K, V> put(double key, double value) {
+      if (Double.isNaN(key)) {
+        throw new IllegalArgumentException("Key cannot be NaN");
+      }
+      if (size == keys.length) {
+        keys = Arrays.copyOf(keys, size * 2);
+        values = Arrays.copyOf(values, size * 2);
+      }
+      keys[size] = key;
+      values[size] = value;
+      size++;
+      return this;
+    }
+
+    /**
+     * Adds a point to the table, converting the key and value to the table's units.
+     *
+     * @param key   the key
+     * @param value the value
+     *
+     * @throws IllegalArgumentException if the key is NaN
+     */
+    public Builder<K, V> put(Quantity<K> key, Quantity<V> value) {
+      return put(key.as(keyUnit), value.as(valueUnit));
+    }
+
+    /**
+     * Sets how values are estimated between keys. Defaults to {@link Interpolation#LINEAR}.
+     */
+    public Builder<K, V> interpolation(Interpolation interpolation) {
+      this.interpolation = Objects.requireNonNull(interpolation, "Interpolation cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets how keys are searched. Defaults to {@link Search#BINARY}.
+     */
+    public Builder<K, V> search(Search search) {
+      this.search = Objects.requireNonNull(search, "Search cannot be null");
+      return this;
+    }
+
+    /**
+     * Builds the table.
+     *
+     * @throws IllegalStateException if no points were added, or two points have the same key
+     */
+    public InterpolatingMeasureTable<K, V> build() {
+      return new InterpolatingMeasureTable<>(this);
+    }
+
+  }
+
+}
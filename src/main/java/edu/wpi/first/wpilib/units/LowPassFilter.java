@@ -0,0 +1,51 @@
+package edu.wpi.first.wpilib.units;
+
+/**
+ * A single-pole IIR low-pass filter, defined by its time constant and the period of its inputs. This is the
+ * discretized RC filter {@code output = gain * output + (1 - gain) * input}, where
+ * {@code gain = exp(-period / timeConstant)}. The first input after creating or resetting the filter is passed
+ * through unchanged.
+ *
+ * @param <U> the unit type of the filtered measures
+ */
+public final class LowPassFilter<U extends Unit<U>> extends MeasureFilter<U> {
+
+  private final double gain;
+  private boolean initialized;
+  private double state;
+
+  /**
+   * Creates a new low-pass filter.
+   *
+   * @param unit         the unit the filter works in
+   * @param timeConstant the time constant of the filter; inputs that change faster than this are attenuated
+   * @param period       the time between inputs
+   */
+  public LowPassFilter(Unit<U> unit, Quantity<Time> timeConstant, Quantity<Time> period) {
+    super(unit);
+    final double tau = timeConstant.as(Units.Seconds);
+    final double dt = period.as(Units.Seconds);
+    if (!(tau > 0) || !(dt > 0)) {
+      throw new IllegalArgumentException("Time constant and period must be positive");
+    }
+    this.gain = Math.exp(-dt / tau);
+  }
+
+  @Override
+  protected double filter(double magnitude) {
+    if (initialized) {
+      state = gain * state + (1 - gain) * magnitude;
+    } else {
+      state = magnitude;
+      initialized = true;
+    }
+    return state;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    initialized = false;
+  }
+
+}
@@ -0,0 +1,156 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Reductions over runs of raw magnitudes, shared by the primitive-backed measure collections. Each reduction takes
+ * the conversion from the unit the magnitudes are stored in to the unit the result should be in. Affine conversions
+ * are applied once to the reduced value instead of to every element.
+ *
+ * <p>Minimums and maximums skip NaN values, and are only NaN if every value is NaN. {@link ParallelMagnitudes}
+ * follows the same rule, so the sequential and parallel reductions agree.
+ */
+final class Magnitudes {
+
+  private Magnitudes() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Sums {@code values[from, to)} using Neumaier's compensated summation.
+   */
+  static double sum(double[] values, int from, int to) {
+    double sum = 0;
+    double compensation = 0;
+    for (int i = from; i < to; i++) {
+      final double value = values[i];
+      final double t = sum + value;
+      if (Math.abs(sum) >= Math.abs(value)) {
+        compensation += (sum - t) + value;
+      } else {
+        compensation += (value - t) + sum;
+      }
+      sum = t;
+    }
+    return sum + compensation;
+  }
+
+  /**
+   * Sums {@code values[from, to)} after converting each one, using Neumaier's compensated summation.
+   */
+  static double sum(double[] values, int from, int to, Conversion conversion) {
+    if (conversion.isAffine()) {
+      return sum(values, from, to) * conversion.factor() + (to - from) * conversion.offset();
+    }
+    double sum = 0;
+    double compensation = 0;
+    for (int i = from; i < to; i++) {
+      final double value = conversion.apply(values[i]);
+      final double t = sum + value;
+      if (Math.abs(sum) >= Math.abs(value)) {
+        compensation += (sum - t) + value;
+      } else {
+        compensation += (value - t) + sum;
+      }
+      sum = t;
+    }
+    return sum + compensation;
+  }
+
+  static double mean(double[] values, int from, int to, Conversion conversion) {
+    checkNotEmpty(from, to);
+    if (conversion.isAffine()) {
+      return conversion.apply(sum(values, from, to) / (to - from));
+    }
+    return sum(values, from, to, conversion) / (to - from);
+  }
+
+  static double min(double[] values, int from, int to, Conversion conversion) {
+    checkNotEmpty(from, to);
+    if (conversion.isAffine()) {
+      // A negative factor flips the order
+      return conversion.apply(conversion.factor() < 0 ? max(values, from, to) : min(values, from, to));
+    }
+    // Skip leading NaNs. Comparisons with NaN are false, so later NaNs never replace the minimum
+    int i = from;
+    double min = conversion.apply(values[i]);
+    while (min != min && ++i < to) {
+      min = conversion.apply(values[i]);
+    }
+    for (i++; i < to; i++) {
+      final double value = conversion.apply(values[i]);
+      if (value < min) {
+        min = value;
+      }
+    }
+    return min;
+  }
+
+  static double max(double[] values, int from, int to, Conversion conversion) {
+    checkNotEmpty(from, to);
+    if (conversion.isAffine()) {
+      return conversion.apply(conversion.factor() < 0 ? min(values, from, to) : max(values, from, to));
+    }
+    int i = from;
+    double max = conversion.apply(values[i]);
+    while (max != max && ++i < to) {
+      max = conversion.apply(values[i]);
+    }
+    for (i++; i < to; i++) {
+      final double value = conversion.apply(values[i]);
+      if (value > max) {
+        max = value;
+      }
+    }
+    return max;
+  }
+
+  private static double min(double[] values, int from, int to) {
+    // Start from the first value that isn't NaN. Comparisons with NaN are false, so later NaNs are skipped
+    final int first = firstNumber(values, from, to);
+    double min = values[first];
+    for (int i = first + 1; i < to; i++) {
+      final double value = values[i];
+      if (value < min) {
+        min = value;
+      }
+    }
+    return min;
+  }
+
+  private static double max(double[] values, int from, int to) {
+    final int first = firstNumber(values, from, to);
+    double max = values[first];
+    for (int i = first + 1; i < to; i++) {
+      final double value = values[i];
+      if (value > max) {
+        max = value;
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Finds the first value in {@code values[from, to)} that isn't NaN, or the last value if they're all NaN.
+   */
+  private static int firstNumber(double[] values, int from, int to) {
+    int i = from;
+    while (i < to - 1 && values[i] != values[i]) {
+      i++;
+    }
+    return i;
+  }
+
+  private static void checkNotEmpty(int from, int to) {
+    if (to <= from) {
+      throw new NoSuchElementException("No values");
+    }
+  }
+
+  static void checkIndex(int index, int length) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+    }
+  }
+
+}
@@ -9,7 +9,8 @@ public class Mass extends Unit<Mass> {
    *                           meters has a multiplier of 1, mm has a multiplier of 1e3, and km has a multiplier of 1e-3.
    */
   Mass(double baseUnitEquivalent) {
-    super(baseUnitEquivalent);
+    // The base unit is grams, rather than the coherent SI unit of kilograms
+    super(baseUnitEquivalent, 0, Dimension.MASS, 1e-3);
   }
 
 }
@@ -9,7 +9,7 @@ import java.util.Objects;
  *
  * @param <U> the unit type of the measure
  */
-public class Measure<U extends Unit<U>> implements Comparable<Measure<U>> {
+public class Measure<U extends Unit<U>> implements Quantity<U> {
 
   /**
    * The threshold for two measures to be considered equivalent if converted to the same unit.
@@ -34,6 +34,7 @@ public class Measure<U extends Unit<U>> implements Comparable<Measure<U>> {
   /**
    * Gets the unitless magnitude of this measure.
    */
+  @Override
   public double magnitude() {
     return magnitude;
   }
@@ -41,6 +42,7 @@ public class Measure<U extends Unit<U>> implements Comparable<Measure<U>> {
   /**
    * Gets the units of this measure.
    */
+  @Override
   public U unit() {
     return unit;
   }
@@ -52,6 +54,7 @@ public class Measure<U extends Unit<U>> implements Comparable<Measure<U>> {
    *
    * @return the value of this measure in the given unit
    */
+  @Override
   public double as(Unit<U> unit) {
     if (unit == this.unit) {
       // Same unit (eg inches, seconds, etc). No conversion necessary.
@@ -70,6 +73,73 @@ public class Measure<U extends Unit<U>> implements Comparable<Measure<U>> {
     return new Measure<>(magnitude * multiplier, unit);
   }
 
+  /**
+   * Multiplies this measure by another measure of any unit. The result is in the canonical unit of the product's
+   * dimension; for example, volts times amps is measured in watts. Units are looked up by their
+   * {@link Dimension dimension vectors}, so no per-combination classes or conversions are needed.
+   *
+   * @param other the measure to multiply by
+   *
+   * @throws IllegalArgumentException if either unit has an {@link Dimension#UNKNOWN unknown} dimension
+   * @see #in(Unit)
+   */
+  public Measure<?> times(Quantity<?> other) {
+    Unit<?> otherUnit = other.unit();
+    checkDimensionKnown(unit, "multiply");
+    checkDimensionKnown(otherUnit, "multiply");
+    Unit<?> result = DerivedUnits.forDimension(Dimension.multiply(unit.dimension(), otherUnit.dimension()));
+    return result.of(result.fromCoherent(unit.toCoherent(magnitude) * otherUnit.toCoherent(other.magnitude())));
+  }
+
+  /**
+   * Divides this measure by another measure of any unit. The result is in the canonical unit of the quotient's
+   * dimension; for example, meters per second for a distance divided by a time.
+   *
+   * @param other the measure to divide by
+   *
+   * @throws IllegalArgumentException if either unit has an {@link Dimension#UNKNOWN unknown} dimension
+   * @see #in(Unit)
+   */
+  public Measure<?> per(Quantity<?> other) {
+    Unit<?> otherUnit = other.unit();
+    checkDimensionKnown(unit, "divide");
+    checkDimensionKnown(otherUnit, "divide");
+    Unit<?> result = DerivedUnits.forDimension(Dimension.divide(unit.dimension(), otherUnit.dimension()));
+    return result.of(result.fromCoherent(unit.toCoherent(magnitude) / otherUnit.toCoherent(other.magnitude())));
+  }
+
+  /**
+   * Converts this measure to an equivalent measure of a unit with the same dimension. This recovers a typed
+   * measure from the result of {@link #times(Quantity)} or {@link #per(Quantity)}, eg
+   * {@code Measure<Velocity> v = distance.per(time).in(Units.FeetPerSecond)}.
+   *
+   * @param unit the unit to convert to
+   *
+   * @throws IllegalArgumentException if the unit has a different dimension than this measure, or either unit has an
+   *                                  {@link Dimension#UNKNOWN unknown} dimension
+   */
+  @SuppressWarnings("unchecked")
+  public <R extends Unit<R>> Measure<R> in(Unit<R> unit) {
+    checkDimensionKnown(this.unit, "convert");
+    checkDimensionKnown(unit, "convert");
+    if (unit.dimension() != this.unit.dimension()) {
+      throw new IllegalArgumentException(
+          "Cannot convert " + Dimension.toString(this.unit.dimension())
+              + " to " + Dimension.toString(unit.dimension()));
+    }
+    if ((Object) unit == this.unit) {
+      return (Measure<R>) this;
+    }
+    return unit.of(unit.fromCoherent(this.unit.toCoherent(magnitude)));
+  }
+
+  private static void checkDimensionKnown(Unit<?> unit, String operation) {
+    if (unit.dimension() == Dimension.UNKNOWN) {
+      throw new IllegalArgumentException(
+          "Cannot " + operation + " measures of " + unit.symbol() + ", which has an unknown dimension");
+    }
+  }
+
   /**
    * Divides this measurement by some constant divisor and returns the result. This is equivalent to
    * {@code times(1 / divisor)}
@@ -85,15 +155,15 @@ public class Measure<U extends Unit<U>> implements Comparable<Measure<U>> {
   /**
    * Adds another measure to this one. The resulting measure has the same unit as this one.
    */
-  public Measure<U> add(Measure<U> other) {
+  public Measure<U> add(Quantity<U> other) {
     return new Measure<>(magnitude + unit.convert(other.magnitude(), other.unit()), unit);
   }
 
   /**
    * Subtracts another measure from this one. The resulting measure has the same unit as this one.
    */
-  public Measure<U> subtract(Measure<U> other) {
-    return add(other.negate());
+  public Measure<U> subtract(Quantity<U> other) {
+    return new Measure<>(magnitude - unit.convert(other.magnitude(), other.unit()), unit);
   }
 
   /**
@@ -107,7 +177,7 @@ public class Measure<U extends Unit<U>> implements Comparable<Measure<U>> {
    * Gets the magnitude of this measure in terms of the base unit.
    */
   private double baseUnitMagnitude() {
-    return unit.getConverterToBase().applyAsDouble(magnitude);
+    return unit.toBase(magnitude);
   }
 
   /**
@@ -118,13 +188,14 @@ public class Measure<U extends Unit<U>> implements Comparable<Measure<U>> {
    *
    * @return true if this measurement is equivalent to the given one, false if not
    */
-  public boolean isEquivalent(Measure<U> other) {
-    return Math.abs(baseUnitMagnitude() - other.baseUnitMagnitude()) <= EQUIVALENCE_THRESHOLD;
+  @Override
+  public boolean isEquivalent(Quantity<U> other) {
+    return Math.abs(baseUnitMagnitude() - other.unit().toBase(other.magnitude())) <= EQUIVALENCE_THRESHOLD;
   }
 
   /**
    * Checks for <i>object equality</i>. To check if two measures are <i>equivalent</i>,
-   * use {@link #isEquivalent(Measure) isEquivalent}.
+   * use {@link #isEquivalent(Quantity) isEquivalent}.
    */
   @Override
   public boolean equals(Object obj) {
@@ -139,14 +210,28 @@ public class Measure<U extends Unit<U>> implements Comparable<Measure<U>> {
         && m.magnitude() == this.magnitude;
   }
 
+  /**
+   * Computes the same hash as {@code Objects.hash(magnitude, unit)} without boxing the magnitude or allocating
+   * a varargs array. Measures that are equivalent but have different units hash differently; use a
+   * {@link QuantityKey} to key maps by physical quantity.
+   */
   @Override
   public int hashCode() {
-    return Objects.hash(magnitude, unit);
+    return 31 * (31 + Double.hashCode(magnitude)) + unit.hashCode();
+  }
+
+  @Override
+  public int compareTo(Quantity<U> o) {
+    return Double.compare(this.baseUnitMagnitude(), o.unit().toBase(o.magnitude()));
   }
 
+  /**
+   * Describes this measure with its unit symbol, eg {@code "12.5 ft"}. Use a {@link MeasureFormat} to write
+   * measures without creating strings.
+   */
   @Override
-  public int compareTo(Measure<U> o) {
-    return Double.compare(this.baseUnitMagnitude(), o.baseUnitMagnitude());
+  public String toString() {
+    return MeasureFormat.toString(this);
   }
 
 }
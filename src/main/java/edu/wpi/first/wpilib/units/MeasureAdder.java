@@ -0,0 +1,117 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * A running sum of measures that many threads can add to at once, such as total distance traveled. Additions are
+ * spread over a {@link DoubleAdder}'s striped cells, so contended additions do not retry on a single value the way
+ * an {@link AtomicMeasure} does, at the cost of a more expensive {@link #sum()}. The unit is fixed when the adder
+ * is created; quantities of other units are converted to it with the conversion cached by the unit.
+ *
+ * <p>As with {@code DoubleAdder}, the sum is not an atomic snapshot if additions happen while it is computed, and
+ * the order of floating-point additions is not deterministic.
+ *
+ * @param <U> the unit type of the sum
+ */
+public final class MeasureAdder<U extends Unit<U>> {
+
+  private final Unit<U> unit;
+  private final ConversionCache<U> conversion;
+  private final DoubleAdder adder = new DoubleAdder();
+
+  /**
+   * Creates a new adder with a sum of zero.
+   *
+   * @param unit the unit of the sum
+   */
+  public MeasureAdder(Unit<U> unit) {
+    this.unit = Objects.requireNonNull(unit, "Unit cannot be null");
+    this.conversion = new ConversionCache<>(unit);
+  }
+
+  /**
+   * Gets the unit of the sum.
+   */
+  public Unit<U> unit() {
+    return unit;
+  }
+
+  /**
+   * Adds a magnitude to the sum.
+   *
+   * @param magnitude the magnitude to add, in terms of the adder's unit
+   */
+  public void add(double magnitude) {
+    adder.add(magnitude);
+  }
+
+  /**
+   * Adds a quantity to the sum, converting it to the adder's unit.
+   *
+   * @param quantity the quantity to add
+   */
+  public void add(Quantity<U> quantity) {
+    adder.add(conversion.apply(quantity));
+  }
+
+  /**
+   * Gets the current sum, in terms of the adder's unit.
+   */
+  public double sum() {
+    return adder.sum();
+  }
+
+  /**
+   * Gets the current sum, in terms of the given unit.
+   *
+   * @param unit the unit of the result
+   */
+  public double sum(Unit<U> unit) {
+    return unit.convert(adder.sum(), this.unit);
+  }
+
+  /**
+   * Gets the current sum as a measure.
+   */
+  public Measure<U> toMeasure() {
+    return unit.of(adder.sum());
+  }
+
+  /**
+   * Stores the current sum in a mutable measure, without allocating.
+   *
+   * @param result the measure to store the sum in. Its unit is replaced with the adder's unit.
+   *
+   * @return the result measure
+   */
+  public MutableMeasure<U> get(MutableMeasure<U> result) {
+    return result.mut_replace(adder.sum(), unit);
+  }
+
+  /**
+   * Resets the sum to zero.
+   */
+  public void reset() {
+    adder.reset();
+  }
+
+  /**
+   * Gets the current sum and resets it to zero. Additions made while this runs may be counted in either the
+   * returned sum or the next one.
+   *
+   * @return the sum before resetting, in terms of the adder's unit
+   */
+  public double sumThenReset() {
+    return adder.sumThenReset();
+  }
+
+  /**
+   * Describes the current sum with its unit symbol, eg {@code "12.5 ft"}.
+   */
+  @Override
+  public String toString() {
+    return MeasureFormat.toString(toMeasure());
+  }
+
+}
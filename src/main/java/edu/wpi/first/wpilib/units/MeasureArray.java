@@ -0,0 +1,456 @@
+package edu.wpi.first.wpilib.units;
+
+import java.nio.BufferUnderflowException;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A fixed-length array of measures of a single unit. Magnitudes are stored in a single {@code double[]} rather
+ * than as individual {@link Measure} objects, so large collections of measures cost eight bytes per element.
+ *
+ * <p>An array can be {@link #as(Unit) viewed} in a different unit of the same type. Views share storage with the
+ * array they were created from and convert magnitudes as they're read and written.
+ *
+ * <p>Methods prefixed with {@code parallel} split the array into fixed-size chunks and process them with fork/join
+ * tasks, in the pool of the calling thread if it's a {@link java.util.concurrent.ForkJoinPool} worker and in the
+ * common pool otherwise. They are worth using for arrays of a few hundred thousand measures or more. Parallel sums
+ * are compensated and always combined in the same order, so they give the same result on every run regardless of
+ * the number of threads, although it may differ from {@link #sum()} in the last bit or two.
+ *
+ * @param <U> the unit type of the measures in the array
+ */
+public class MeasureArray<U extends Unit<U>> {
+
+  private final double[] data;
+  private final int start;
+  private final int length;
+
+  // The unit the magnitudes in the backing array are stored in
+  private final Unit<U> storageUnit;
+
+  // The unit magnitudes are read and written in
+  private final Unit<U> unit;
+  private final Conversion read;
+  private final Conversion write;
+
+  private MeasureArray(double[] data, int start, int length, Unit<U> storageUnit, Unit<U> unit) {
+    this.data = data;
+    this.start = start;
+    this.length = length;
+    this.storageUnit = storageUnit;
+    this.unit = unit;
+    this.read = unit.conversionFrom(storageUnit);
+    this.write = storageUnit.conversionFrom(unit);
+  }
+
+  /**
+   * Creates a new array of measures, all with a magnitude of zero.
+   *
+   * @param length the number of measures in the array
+   * @param unit   the unit of the measures in the array
+   */
+  public MeasureArray(int length, Unit<U> unit) {
+    this(new double[length], 0, length, Objects.requireNonNull(unit, "Unit cannot be null"), unit);
+  }
+
+  /**
+   * Creates an array of measures backed by an existing array of magnitudes. Changes to the magnitudes will be
+   * visible in the measure array, and vice versa.
+   *
+   * @param magnitudes the magnitudes of the measures
+   * @param unit       the unit the magnitudes are measured in
+   */
+  public static <U extends Unit<U>> MeasureArray<U> wrap(double[] magnitudes, Unit<U> unit) {
+    return wrap(magnitudes, 0, magnitudes.length, unit);
+  }
+
+  /**
+   * Creates an array of measures backed by a slice of an existing array of magnitudes. Changes to the magnitudes
+   * will be visible in the measure array, and vice versa.
+   *
+   * @param magnitudes the magnitudes of the measures
+   * @param offset     the index of the first magnitude in the slice
+   * @param length     the number of magnitudes in the slice
+   * @param unit       the unit the magnitudes are measured in
+   */
+  public static <U extends Unit<U>> MeasureArray<U> wrap(double[] magnitudes, int offset, int length, Unit<U> unit) {
+    Objects.requireNonNull(unit, "Unit cannot be null");
+    if (offset < 0 || length < 0 || offset > magnitudes.length - length) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + magnitudes.length);
+    }
+    return new MeasureArray<>(magnitudes, offset, length, unit, unit);
+  }
+
+  /**
+   * Gets the unit of the measures in this array.
+   */
+  public Unit<U> unit() {
+    return unit;
+  }
+
+  /**
+   * Gets the number of measures in this array.
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Gets the magnitude of the measure at the given index, in terms of this array's unit.
+   *
+   * @param index the index of the measure
+   */
+  public double magnitude(int index) {
+    Magnitudes.checkIndex(index, length);
+    return read.apply(data[start + index]);
+  }
+
+  /**
+   * Sets the magnitude of the measure at the given index, in terms of this array's unit.
+   *
+   * @param index     the index of the measure
+   * @param magnitude the new magnitude of the measure
+   */
+  public void setMagnitude(int index, double magnitude) {
+    Magnitudes.checkIndex(index, length);
+    data[start + index] = write.apply(magnitude);
+  }
+
+  /**
+   * Gets the measure at the given index.
+   *
+   * @param index the index of the measure
+   */
+  public Measure<U> get(int index) {
+    return unit.of(magnitude(index));
+  }
+
+  /**
+   * Sets the measure at the given index. The measure will be converted to this array's unit.
+   *
+   * @param index   the index of the measure
+   * @param measure the new measure
+   */
+  public void set(int index, Quantity<U> measure) {
+    Magnitudes.checkIndex(index, length);
+    data[start + index] = storageUnit.convert(measure.magnitude(), measure.unit());
+  }
+
+  /**
+   * Gets a view of this array in a different unit. The view shares storage with this array, and converts
+   * magnitudes as they are read and written.
+   *
+   * @param unit the unit of the view
+   */
+  public MeasureArray<U> as(Unit<U> unit) {
+    if (unit == this.unit) {
+      return this;
+    }
+    return new MeasureArray<>(data, start, length, storageUnit, unit);
+  }
+
+  /**
+   * Gets the sum of the measures in this array.
+   */
+  public Measure<U> sum() {
+    return sum(unit);
+  }
+
+  /**
+   * Gets the sum of the measures in this array, in terms of the given unit.
+   *
+   * @param unit the unit of the resulting measure
+   */
+  public Measure<U> sum(Unit<U> unit) {
+    return unit.of(Magnitudes.sum(data, start, start + length, unit.conversionFrom(storageUnit)));
+  }
+
+  /**
+   * Gets the smallest measure in this array. NaN magnitudes are skipped unless every magnitude is NaN.
+   *
+   * @throws java.util.NoSuchElementException if this array is empty
+   */
+  public Measure<U> min() {
+    return min(unit);
+  }
+
+  /**
+   * Gets the smallest measure in this array, in terms of the given unit. NaN magnitudes are skipped unless every
+   * magnitude is NaN.
+   *
+   * @param unit the unit of the resulting measure
+   *
+   * @throws java.util.NoSuchElementException if this array is empty
+   */
+  public Measure<U> min(Unit<U> unit) {
+    return unit.of(Magnitudes.min(data, start, start + length, unit.conversionFrom(storageUnit)));
+  }
+
+  /**
+   * Gets the largest measure in this array. NaN magnitudes are skipped unless every magnitude is NaN.
+   *
+   * @throws java.util.NoSuchElementException if this array is empty
+   */
+  public Measure<U> max() {
+    return max(unit);
+  }
+
+  /**
+   * Gets the largest measure in this array, in terms of the given unit. NaN magnitudes are skipped unless every
+   * magnitude is NaN.
+   *
+   * @param unit the unit of the resulting measure
+   *
+   * @throws java.util.NoSuchElementException if this array is empty
+   */
+  public Measure<U> max(Unit<U> unit) {
+    return unit.of(Magnitudes.max(data, start, start + length, unit.conversionFrom(storageUnit)));
+  }
+
+  /**
+   * Gets the mean of the measures in this array.
+   *
+   * @throws java.util.NoSuchElementException if this array is empty
+   */
+  public Measure<U> mean() {
+    return mean(unit);
+  }
+
+  /**
+   * Gets the mean of the measures in this array, in terms of the given unit.
+   *
+   * @param unit the unit of the resulting measure
+   *
+   * @throws java.util.NoSuchElementException if this array is empty
+   */
+  public Measure<U> mean(Unit<U> unit) {
+    return unit.of(Magnitudes.mean(data, start, start + length, unit.conversionFrom(storageUnit)));
+  }
+
+  /**
+   * Creates a new array with the measures in this array converted to a different unit, converting chunks of the
+   * array in parallel. Unlike {@link #as(Unit)}, the new array has its own storage in the given unit, so reading it
+   * needs no further conversion.
+   *
+   * @param unit the unit of the new array
+   */
+  public MeasureArray<U> parallelConvert(Unit<U> unit) {
+    MeasureArray<U> converted = new MeasureArray<>(length, unit);
+    ParallelMagnitudes.convert(data, start, converted.data, 0, length, unit.conversionFrom(storageUnit));
+    return converted;
+  }
+
+  /**
+   * Gets the sum of the measures in this array, summing chunks of the array in parallel.
+   */
+  public Measure<U> parallelSum() {
+    return parallelSum(unit);
+  }
+
+  /**
+   * Gets the sum of the measures in this array in terms of the given unit, summing chunks of the array in parallel.
+   *
+   * @param unit the unit of the resulting measure
+   */
+  public Measure<U> parallelSum(Unit<U> unit) {
+    return unit.of(ParallelMagnitudes.sum(data, start, start + length, unit.conversionFrom(storageUnit)));
+  }
+
+  /**
+   * Gets the mean of the measures in this array, summing chunks of the array in parallel.
+   *
+   * @throws java.util.NoSuchElementException if this array is empty
+   */
+  public Measure<U> parallelMean() {
+    return parallelMean(unit);
+  }
+
+  /**
+   * Gets the mean of the measures in this array in terms of the given unit, summing chunks of the array in
+   * parallel.
+   *
+   * @param unit the unit of the resulting measure
+   *
+   * @throws java.util.NoSuchElementException if this array is empty
+   */
+  public Measure<U> parallelMean(Unit<U> unit) {
+    return unit.of(ParallelMagnitudes.mean(data, start, start + length, unit.conversionFrom(storageUnit)));
+  }
+
+  /**
+   * Gets the smallest measure in this array, searching chunks of the array in parallel. NaN magnitudes are skipped
+   * unless every magnitude is NaN.
+   *
+   * @throws java.util.NoSuchElementException if this array is empty
+   */
+  public Measure<U> parallelMin() {
+    return parallelMin(unit);
+  }
+
+  /**
+   * Gets the smallest measure in this array in terms of the given unit, searching chunks of the array in parallel.
+   * NaN magnitudes are skipped unless every magnitude is NaN.
+   *
+   * @param unit the unit of the resulting measure
+   *
+   * @throws java.util.NoSuchElementException if this array is empty
+   */
+  public Measure<U> parallelMin(Unit<U> unit) {
+    return unit.of(ParallelMagnitudes.min(data, start, start + length, unit.conversionFrom(storageUnit)));
+  }
+
+  /**
+   * Gets the largest measure in this array, searching chunks of the array in parallel. NaN magnitudes are skipped
+   * unless every magnitude is NaN.
+   *
+   * @throws java.util.NoSuchElementException if this array is empty
+   */
+  public Measure<U> parallelMax() {
+    return parallelMax(unit);
+  }
+
+  /**
+   * Gets the largest measure in this array in terms of the given unit, searching chunks of the array in parallel.
+   * NaN magnitudes are skipped unless every magnitude is NaN.
+   *
+   * @param unit the unit of the resulting measure
+   *
+   * @throws java.util.NoSuchElementException if this array is empty
+   */
+  public Measure<U> parallelMax(Unit<U> unit) {
+    return unit.of(ParallelMagnitudes.max(data, start, start + length, unit.conversionFrom(storageUnit)));
+  }
+
+  /**
+   * Gets the index of the smallest measure in this array, searching chunks of the array in parallel. Ties go to
+   * the lowest index, and NaN magnitudes are skipped unless every magnitude is NaN.
+   *
+   * @throws java.util.NoSuchElementException if this array is empty
+   */
+  public int parallelArgMin() {
+    return ParallelMagnitudes.argMin(data, start, start + length, read) - start;
+  }
+
+  /**
+   * Gets the index of the largest measure in this array, searching chunks of the array in parallel. Ties go to
+   * the lowest index, and NaN magnitudes are skipped unless every magnitude is NaN.
+   *
+   * @throws java.util.NoSuchElementException if this array is empty
+   */
+  public int parallelArgMax() {
+    return ParallelMagnitudes.argMax(data, start, start + length, read) - start;
+  }
+
+  /**
+   * Creates a spliterator over the magnitudes of the measures in this array, in terms of this array's unit. The
+   * spliterator splits evenly, so it can back a parallel stream:
+   * {@code StreamSupport.doubleStream(array.spliterator(), true)}.
+   */
+  public Spliterator.OfDouble spliterator() {
+    return new MagnitudeSpliterator(data, start, start + length, read);
+  }
+
+  /**
+   * Sorts the measures in this array in ascending order. This sorts the backing storage, so all views of this
+   * array are sorted as well.
+   */
+  public void sort() {
+    Arrays.sort(data, start, start + length);
+  }
+
+  /**
+   * Copies the magnitudes of the measures in this array, in terms of this array's unit, to the remaining space
+   * of a buffer. The position of the buffer is advanced by the length of this array.
+   *
+   * @param dst the buffer to copy the magnitudes to
+   *
+   * @throws java.nio.BufferOverflowException if the buffer has less space remaining than the length of this array
+   */
+  public void getMagnitudes(DoubleBuffer dst) {
+    read.apply(DoubleBuffer.wrap(data, start, length), dst);
+  }
+
+  /**
+   * Sets the magnitudes of the measures in this array, in terms of this array's unit, from the next values in a
+   * buffer. The position of the buffer is advanced by the length of this array.
+   *
+   * @param src the buffer to copy the magnitudes from
+   *
+   * @throws java.nio.BufferUnderflowException if the buffer has fewer values remaining than the length of this array
+   */
+  public void setMagnitudes(DoubleBuffer src) {
+    if (src.remaining() < length) {
+      throw new BufferUnderflowException();
+    }
+    DoubleBuffer values = src.duplicate();
+    values.limit(values.position() + length);
+    write.apply(values, DoubleBuffer.wrap(data, start, length));
+    src.position(src.position() + length);
+  }
+
+  /**
+   * Copies the magnitudes of the measures in this array, in terms of this array's unit, into a new array.
+   */
+  public double[] toMagnitudeArray() {
+    double[] magnitudes = new double[length];
+    read.apply(data, start, magnitudes, 0, length);
+    return magnitudes;
+  }
+
+  private static final class MagnitudeSpliterator implements Spliterator.OfDouble {
+    private final double[] data;
+    private int index;
+    private final int fence;
+    private final Conversion conversion;
+
+    MagnitudeSpliterator(double[] data, int index, int fence, Conversion conversion) {
+      this.data = data;
+      this.index = index;
+      this.fence = fence;
+      this.conversion = conversion;
+    }
+
+    @Override
+    public OfDouble trySplit() {
+      final int middle = (index + fence) >>> 1;
+      if (middle <= index) {
+        return null;
+      }
+      final MagnitudeSpliterator prefix = new MagnitudeSpliterator(data, index, middle, conversion);
+      index = middle;
+      return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+      if (index >= fence) {
+        return false;
+      }
+      action.accept(conversion.apply(data[index++]));
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+      for (int i = index; i < fence; i++) {
+        action.accept(conversion.apply(data[i]));
+      }
+      index = fence;
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+  }
+
+}
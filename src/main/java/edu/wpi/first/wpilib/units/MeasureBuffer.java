@@ -0,0 +1,226 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A growable list of measures of a single unit, backed by a {@code double[]} of magnitudes. Measures added to
+ * the buffer are converted to the buffer's unit.
+ *
+ * @param <U> the unit type of the measures in the buffer
+ *
+ * @see MeasureArray
+ */
+public class MeasureBuffer<U extends Unit<U>> {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private final Unit<U> unit;
+  private double[] data;
+  private int size = 0;
+
+  /**
+   * Creates a new, empty buffer.
+   *
+   * @param unit the unit of the measures in the buffer
+   */
+  public MeasureBuffer(Unit<U> unit) {
+    this(unit, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a new, empty buffer with room for the given number of measures before it needs to grow.
+   *
+   * @param unit            the unit of the measures in the buffer
+   * @param initialCapacity the initial capacity of the buffer
+   */
+  public MeasureBuffer(Unit<U> unit, int initialCapacity) {
+    this.unit = Objects.requireNonNull(unit, "Unit cannot be null");
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Initial capacity cannot be negative: " + initialCapacity);
+    }
+    this.data = new double[initialCapacity];
+  }
+
+  /**
+   * Gets the unit of the measures in this buffer.
+   */
+  public Unit<U> unit() {
+    return unit;
+  }
+
+  /**
+   * Gets the number of measures in this buffer.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks if this buffer is empty.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Adds a measure to the end of this buffer. The measure will be converted to this buffer's unit.
+   *
+   * @param measure the measure to add
+   */
+  public void add(Quantity<U> measure) {
+    add(unit.convert(measure.magnitude(), measure.unit()));
+  }
+
+  /**
+   * Adds a measure to the end of this buffer.
+   *
+   * @param magnitude the magnitude of the measure to add, in terms of this buffer's unit
+   */
+  public void add(double magnitude) {
+    if (size == data.length) {
+      data = Arrays.copyOf(data, Math.max(DEFAULT_CAPACITY, data.length + (data.length >> 1)));
+    }
+    data[size++] = magnitude;
+  }
+
+  /**
+   * Gets the magnitude of the measure at the given index, in terms of this buffer's unit.
+   *
+   * @param index the index of the measure
+   */
+  public double magnitude(int index) {
+    Magnitudes.checkIndex(index, size);
+    return data[index];
+  }
+
+  /**
+   * Sets the magnitude of the measure at the given index, in terms of this buffer's unit.
+   *
+   * @param index     the index of the measure
+   * @param magnitude the new magnitude of the measure
+   */
+  public void setMagnitude(int index, double magnitude) {
+    Magnitudes.checkIndex(index, size);
+    data[index] = magnitude;
+  }
+
+  /**
+   * Gets the measure at the given index.
+   *
+   * @param index the index of the measure
+   */
+  public Measure<U> get(int index) {
+    return unit.of(magnitude(index));
+  }
+
+  /**
+   * Sets the measure at the given index. The measure will be converted to this buffer's unit.
+   *
+   * @param index   the index of the measure
+   * @param measure the new measure
+   */
+  public void set(int index, Quantity<U> measure) {
+    setMagnitude(index, unit.convert(measure.magnitude(), measure.unit()));
+  }
+
+  /**
+   * Removes all measures from this buffer.
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * Gets the sum of the measures in this buffer.
+   */
+  public Measure<U> sum() {
+    return sum(unit);
+  }
+
+  /**
+   * Gets the sum of the measures in this buffer, in terms of the given unit.
+   *
+   * @param unit the unit of the resulting measure
+   */
+  public Measure<U> sum(Unit<U> unit) {
+    return unit.of(Magnitudes.sum(data, 0, size, unit.conversionFrom(this.unit)));
+  }
+
+  /**
+   * Gets the smallest measure in this buffer. NaN magnitudes are skipped unless every magnitude is NaN.
+   *
+   * @throws java.util.NoSuchElementException if this buffer is empty
+   */
+  public Measure<U> min() {
+    return min(unit);
+  }
+
+  /**
+   * Gets the smallest measure in this buffer, in terms of the given unit. NaN magnitudes are skipped unless every
+   * magnitude is NaN.
+   *
+   * @param unit the unit of the resulting measure
+   *
+   * @throws java.util.NoSuchElementException if this buffer is empty
+   */
+  public Measure<U> min(Unit<U> unit) {
+    return unit.of(Magnitudes.min(data, 0, size, unit.conversionFrom(this.unit)));
+  }
+
+  /**
+   * Gets the largest measure in this buffer. NaN magnitudes are skipped unless every magnitude is NaN.
+   *
+   * @throws java.util.NoSuchElementException if this buffer is empty
+   */
+  public Measure<U> max() {
+    return max(unit);
+  }
+
+  /**
+   * Gets the largest measure in this buffer, in terms of the given unit. NaN magnitudes are skipped unless every
+   * magnitude is NaN.
+   *
+   * @param unit the unit of the resulting measure
+   *
+   * @throws java.util.NoSuchElementException if this buffer is empty
+   */
+  public Measure<U> max(Unit<U> unit) {
+    return unit.of(Magnitudes.max(data, 0, size, unit.conversionFrom(this.unit)));
+  }
+
+  /**
+   * Gets the mean of the measures in this buffer.
+   *
+   * @throws java.util.NoSuchElementException if this buffer is empty
+   */
+  public Measure<U> mean() {
+    return mean(unit);
+  }
+
+  /**
+   * Gets the mean of the measures in this buffer, in terms of the given unit.
+   *
+   * @param unit the unit of the resulting measure
+   *
+   * @throws java.util.NoSuchElementException if this buffer is empty
+   */
+  public Measure<U> mean(Unit<U> unit) {
+    return unit.of(Magnitudes.mean(data, 0, size, unit.conversionFrom(this.unit)));
+  }
+
+  /**
+   * Sorts the measures in this buffer in ascending order.
+   */
+  public void sort() {
+    Arrays.sort(data, 0, size);
+  }
+
+  /**
+   * Copies the measures in this buffer into a new, fixed-length array.
+   */
+  public MeasureArray<U> toArray() {
+    return MeasureArray.wrap(Arrays.copyOf(data, size), unit);
+  }
+
+}
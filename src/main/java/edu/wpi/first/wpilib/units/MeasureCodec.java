@@ -0,0 +1,310 @@
+package edu.wpi.first.wpilib.units;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A compact binary encoding for measures. A single measure is encoded as the {@link UnitRegistry#idOf(Unit) ID} of
+ * its unit as an unsigned LEB128 varint, followed by its magnitude as a big-endian IEEE-754 double. A run of
+ * measures from a {@link MeasureArray} is encoded as the unit ID, the number of measures as a varint, and then the
+ * magnitudes packed back to back.
+ *
+ * <p>Only units registered with an ID can be encoded. Decoded measures always use the unit instances in the
+ * registry, such as the constants in {@link Units}, so identity checks on units keep working after a round trip.
+ *
+ * <p>Reads and writes never leave a buffer partially consumed: if a measure does not fit or is incomplete, an
+ * exception is thrown and the buffer's position is unchanged.
+ */
+public final class MeasureCodec {
+
+  private MeasureCodec() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Gets the number of bytes needed to encode a measure of the given unit.
+   *
+   * @param unit the unit of the measure
+   *
+   * @throws IllegalArgumentException if the unit has no ID
+   */
+  public static int encodedLength(Unit<?> unit) {
+    return varintLength(idOf(unit)) + Double.BYTES;
+  }
+
+  /**
+   * Gets the number of bytes needed to encode a run of measures.
+   *
+   * @param array the measures to encode
+   *
+   * @throws IllegalArgumentException if the unit of the measures has no ID
+   */
+  public static int encodedLength(MeasureArray<?> array) {
+    return varintLength(idOf(array.unit())) + varintLength(array.length()) + array.length() * Double.BYTES;
+  }
+
+  /**
+   * Writes a measure to a buffer.
+   *
+   * @param measure the measure to write
+   * @param out     the buffer to write to
+   *
+   * @throws IllegalArgumentException if the unit of the measure has no ID
+   * @throws BufferOverflowException  if the buffer does not have enough space remaining
+   */
+  public static void write(Quantity<?> measure, ByteBuffer out) {
+    write(measure.magnitude(), measure.unit(), out);
+  }
+
+  /**
+   * Writes a magnitude and its unit to a buffer, in the same format as a measure.
+   *
+   * @param magnitude the magnitude to write
+   * @param unit      the unit of the magnitude
+   * @param out       the buffer to write to
+   *
+   * @throws IllegalArgumentException if the unit has no ID
+   * @throws BufferOverflowException  if the buffer does not have enough space remaining
+   */
+  public static void write(double magnitude, Unit<?> unit, ByteBuffer out) {
+    final int id = idOf(unit);
+    if (out.remaining() < varintLength(id) + Double.BYTES) {
+      throw new BufferOverflowException();
+    }
+    int position = putVarint(out, out.position(), id);
+    putDouble(out, position, magnitude);
+    out.position(position + Double.BYTES);
+  }
+
+  /**
+   * Reads a measure from a buffer.
+   *
+   * @param in the buffer to read from
+   *
+   * @throws IllegalArgumentException if the unit ID is malformed or not registered
+   * @throws BufferUnderflowException if the buffer does not contain a complete measure
+   */
+  public static Measure<?> read(ByteBuffer in) {
+    final int start = in.position();
+    final Unit<?> unit = unitAt(in, start);
+    final int position = start + varintLength(UnitRegistry.idOf(unit));
+    final double magnitude = getDouble(in, position);
+    in.position(position + Double.BYTES);
+    return unit.of(magnitude);
+  }
+
+  /**
+   * Reads a measure from a buffer and converts it to the given unit.
+   *
+   * @param in   the buffer to read from
+   * @param unit the unit to convert the measure to
+   *
+   * @throws IllegalArgumentException if the unit ID is malformed or not registered, or if the measure has a
+   *                                  different dimension than the given unit. The buffer's position is advanced
+   *                                  past the measure if the dimensions don't match.
+   * @throws BufferUnderflowException if the buffer does not contain a complete measure
+   */
+  public static <U extends Unit<U>> Measure<U> read(ByteBuffer in, Unit<U> unit) {
+    return read(in).in(unit);
+  }
+
+  /**
+   * Reads a measure from a buffer into a mutable measure, without allocating. The decoded magnitude is converted
+   * to the current unit of the result.
+   *
+   * @param in     the buffer to read from
+   * @param result the measure to store the decoded value in
+   *
+   * @return the result measure
+   *
+   * @throws IllegalArgumentException if the unit ID is malformed or not registered, or if the measure has a
+   *                                  different dimension than the result. The buffer's position is unchanged.
+   * @throws BufferUnderflowException if the buffer does not contain a complete measure
+   */
+  public static <U extends Unit<U>> MutableMeasure<U> read(ByteBuffer in, MutableMeasure<U> result) {
+    final int start = in.position();
+    final Unit<?> unit = unitAt(in, start);
+    final U resultUnit = result.unit();
+    if (unit.dimension() != resultUnit.dimension()) {
+      throw new IllegalArgumentException(
+          "Cannot convert " + Dimension.toString(unit.dimension())
+              + " to " + Dimension.toString(resultUnit.dimension()));
+    }
+    final int position = start + varintLength(UnitRegistry.idOf(unit));
+    final double magnitude = getDouble(in, position);
+    in.position(position + Double.BYTES);
+    return result.mut_setMagnitude(
+        (Object) unit == resultUnit ? magnitude : resultUnit.fromCoherent(unit.toCoherent(magnitude)));
+  }
+
+  /**
+   * Writes a run of measures to a buffer: a single unit header followed by the packed magnitudes of the array, in
+   * terms of the array's unit.
+   *
+   * @param array the measures to write
+   * @param out   the buffer to write to
+   *
+   * @throws IllegalArgumentException if the unit of the array has no ID
+   * @throws BufferOverflowException  if the buffer does not have enough space remaining
+   */
+  public static void writeRun(MeasureArray<?> array, ByteBuffer out) {
+    if (out.remaining() < encodedLength(array)) {
+      throw new BufferOverflowException();
+    }
+    int position = putVarint(out, out.position(), idOf(array.unit()));
+    position = putVarint(out, position, array.length());
+    out.position(position);
+    array.getMagnitudes(doubles(out));
+    out.position(position + array.length() * Double.BYTES);
+  }
+
+  /**
+   * Writes a run of measures to a channel, in the same format as {@link #writeRun(MeasureArray, ByteBuffer)}.
+   * The run is written in chunks through a staging buffer; use a direct buffer so the channel can write from it
+   * without copying it again.
+   *
+   * @param array   the measures to write
+   * @param out     the channel to write to
+   * @param staging the buffer to stage chunks of the run in. It must have room for at least 16 bytes; its
+   *                contents, position and limit are overwritten.
+   *
+   * @throws IOException              if the channel throws one
+   * @throws IllegalArgumentException if the unit of the array has no ID, or the staging buffer is too small
+   */
+  public static void writeRun(MeasureArray<?> array, WritableByteChannel out, ByteBuffer staging)
+      throws IOException {
+    final int id = idOf(array.unit());
+    if (staging.capacity() < 2 * Double.BYTES) {
+      throw new IllegalArgumentException("Staging buffer must hold at least " + 2 * Double.BYTES + " bytes");
+    }
+    staging.clear();
+    staging.position(putVarint(staging, putVarint(staging, 0, id), array.length()));
+
+    for (int offset = 0; offset < array.length(); ) {
+      final int count = Math.min(staging.remaining() / Double.BYTES, array.length() - offset);
+      if (count == 0) {
+        drain(staging, out);
+        continue;
+      }
+      final DoubleBuffer doubles = doubles(staging);
+      for (int i = 0; i < count; i++) {
+        doubles.put(i, array.magnitude(offset + i));
+      }
+      staging.position(staging.position() + count * Double.BYTES);
+      offset += count;
+    }
+    drain(staging, out);
+  }
+
+  /**
+   * Reads a run of measures from a buffer into a new array.
+   *
+   * @param in the buffer to read from
+   *
+   * @throws IllegalArgumentException if the unit ID or length is malformed, or the unit ID is not registered
+   * @throws BufferUnderflowException if the buffer does not contain the complete run
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public static MeasureArray<?> readRun(ByteBuffer in) {
+    final int start = in.position();
+    final Unit unit = unitAt(in, start);
+    int position = start + varintLength(UnitRegistry.idOf(unit));
+    final int length = getVarint(in, position);
+    position += varintLength(length);
+    if ((in.limit() - position) / Double.BYTES < length) {
+      throw new BufferUnderflowException();
+    }
+    MeasureArray<?> array = new MeasureArray(length, unit);
+    in.position(position);
+    array.setMagnitudes(doubles(in));
+    in.position(position + length * Double.BYTES);
+    return array;
+  }
+
+  private static int idOf(Unit<?> unit) {
+    final int id = UnitRegistry.idOf(unit);
+    if (id == UnitRegistry.NO_ID) {
+      throw new IllegalArgumentException("Unit " + unit.symbol() + " has no ID and cannot be encoded");
+    }
+    return id;
+  }
+
+  private static Unit<?> unitAt(ByteBuffer in, int position) {
+    final int id = getVarint(in, position);
+    final Unit<?> unit = UnitRegistry.forId(id);
+    if (unit == null) {
+      throw new IllegalArgumentException("Unknown unit ID: " + id);
+    }
+    return unit;
+  }
+
+  private static void drain(ByteBuffer staging, WritableByteChannel out) throws IOException {
+    staging.flip();
+    while (staging.hasRemaining()) {
+      out.write(staging);
+    }
+    staging.clear();
+  }
+
+  /**
+   * Gets a big-endian view of the remaining bytes of a buffer, regardless of the buffer's own byte order.
+   */
+  private static DoubleBuffer doubles(ByteBuffer buffer) {
+    final ByteOrder order = buffer.order();
+    final DoubleBuffer doubles = buffer.order(ByteOrder.BIG_ENDIAN).asDoubleBuffer();
+    buffer.order(order);
+    return doubles;
+  }
+
+  private static void putDouble(ByteBuffer out, int position, double value) {
+    final long bits = Double.doubleToRawLongBits(value);
+    out.putLong(position, out.order() == ByteOrder.BIG_ENDIAN ? bits : Long.reverseBytes(bits));
+  }
+
+  private static double getDouble(ByteBuffer in, int position) {
+    if (in.limit() - position < Double.BYTES) {
+      throw new BufferUnderflowException();
+    }
+    final long bits = in.getLong(position);
+    return Double.longBitsToDouble(in.order() == ByteOrder.BIG_ENDIAN ? bits : Long.reverseBytes(bits));
+  }
+
+  static int varintLength(int value) {
+    // 7 bits per byte, at least one byte
+    return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+  }
+
+  private static int putVarint(ByteBuffer out, int position, int value) {
+    while ((value & ~0x7F) != 0) {
+      out.put(position++, (byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.put(position++, (byte) value);
+    return position;
+  }
+
+  private static int getVarint(ByteBuffer in, int position) {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      if (position >= in.limit()) {
+        throw new BufferUnderflowException();
+      }
+      final byte b = in.get(position++);
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        if (value < 0 || (b == 0 && shift > 0)) {
+          // Out of range, or padded with extra bytes
+          throw new IllegalArgumentException("Malformed varint");
+        }
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint");
+  }
+
+}
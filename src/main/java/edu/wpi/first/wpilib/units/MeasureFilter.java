@@ -0,0 +1,103 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.Objects;
+
+/**
+ * A filter over a stream of measures. A filter works in a single unit that is fixed when it is created; input
+ * measures of any other unit of the same type are converted through a conversion that is looked up once and reused
+ * for as long as the input unit stays the same. Filtering does not allocate.
+ *
+ * <p>Filters are not thread safe.
+ *
+ * @param <U> the unit type of the filtered measures
+ */
+public abstract class MeasureFilter<U extends Unit<U>> {
+
+  private final Unit<U> unit;
+
+  private final ConversionCache<U> inputConversion;
+
+  private double output;
+
+  /**
+   * Creates a new filter.
+   *
+   * @param unit the unit the filter works in
+   */
+  protected MeasureFilter(Unit<U> unit) {
+    this.unit = Objects.requireNonNull(unit, "Unit cannot be null");
+    this.inputConversion = new ConversionCache<>(unit);
+  }
+
+  /**
+   * Filters the next input.
+   *
+   * @param magnitude the input, in terms of the filter's unit
+   *
+   * @return the filtered value, in terms of the filter's unit
+   */
+  public final double calculate(double magnitude) {
+    output = filter(magnitude);
+    return output;
+  }
+
+  /**
+   * Filters the next input, converting it to the filter's unit.
+   *
+   * @param input the input
+   *
+   * @return the filtered value, in terms of the filter's unit
+   */
+  public final double calculate(Quantity<U> input) {
+    return calculate(inputConversion.apply(input));
+  }
+
+  /**
+   * Filters the next input, which has already been converted to the filter's unit.
+   *
+   * @param magnitude the input, in terms of the filter's unit
+   *
+   * @return the filtered value
+   */
+  protected abstract double filter(double magnitude);
+
+  /**
+   * Gets the most recent filtered value, in terms of the filter's unit.
+   */
+  public final double output() {
+    return output;
+  }
+
+  /**
+   * Stores the most recent filtered value in a mutable measure, without allocating.
+   *
+   * @param result the measure to store the value in. Its unit is replaced with the filter's unit.
+   *
+   * @return the result measure
+   */
+  public final MutableMeasure<U> output(MutableMeasure<U> result) {
+    return result.mut_replace(output, unit);
+  }
+
+  /**
+   * Gets the most recent filtered value as a measure.
+   */
+  public final Measure<U> get() {
+    return unit.of(output);
+  }
+
+  /**
+   * Gets the unit the filter works in.
+   */
+  public final Unit<U> unit() {
+    return unit;
+  }
+
+  /**
+   * Forgets all previous inputs.
+   */
+  public void reset() {
+    output = 0;
+  }
+
+}
@@ -0,0 +1,240 @@
+package edu.wpi.first.wpilib.units;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes measures as text, eg {@code "12.5 ft"}, without creating intermediate strings. The magnitude is written
+ * either with the shortest precision that reads back as the same double, or with a fixed number of decimal places,
+ * followed by a space and the {@link Unit#symbol() symbol} of the unit. Units with an empty symbol, such as
+ * {@link Units#Value}, are written without the space.
+ *
+ * <p>Formatting into a {@link StringBuilder} has no state and does not allocate once the builder has grown large
+ * enough. Formatting into an {@link Appendable} or a {@link ByteBuffer} goes through a scratch builder kept by the
+ * format, so a format must not be shared between threads.
+ */
+public final class MeasureFormat {
+
+  private static final int MAX_DECIMALS = 15;
+
+  private static final long[] POWERS_OF_TEN = {
+      1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+      10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+      1_000_000_000_000_000L
+  };
+
+  // Scaled magnitudes at or above this can't be rounded to a long exactly
+  private static final double MAX_FIXED = 0x1p53;
+
+  private final int decimals;
+  private final StringBuilder scratch = new StringBuilder(32);
+
+  private MeasureFormat(int decimals) {
+    this.decimals = decimals;
+  }
+
+  /**
+   * Creates a format that writes magnitudes with the fewest digits needed to read them back exactly, as
+   * {@link Double#toString(double)} does.
+   */
+  public static MeasureFormat shortest() {
+    return new MeasureFormat(-1);
+  }
+
+  /**
+   * Creates a format that writes magnitudes rounded to a fixed number of decimal places, eg {@code "12.50 ft"} for
+   * two places. Magnitudes too large to be rounded exactly at that precision are written as by
+   * {@link #shortest()}.
+   *
+   * @param decimals the number of digits after the decimal point, from 0 to 15
+   */
+  public static MeasureFormat fixed(int decimals) {
+    if (decimals < 0 || decimals > MAX_DECIMALS) {
+      throw new IllegalArgumentException("Decimal places must be in [0, " + MAX_DECIMALS + "], but was " + decimals);
+    }
+    return new MeasureFormat(decimals);
+  }
+
+  /**
+   * Describes a quantity with the shortest round-trip precision.
+   */
+  static String toString(Quantity<?> quantity) {
+    StringBuilder builder = new StringBuilder(24);
+    appendShortest(quantity.magnitude(), builder);
+    appendSymbol(quantity.unit().symbol(), builder);
+    return builder.toString();
+  }
+
+  /**
+   * Appends a quantity to a string builder.
+   *
+   * @param quantity the quantity to format
+   * @param out      the builder to append to
+   *
+   * @return the builder
+   */
+  public StringBuilder format(Quantity<?> quantity, StringBuilder out) {
+    return format(quantity.magnitude(), quantity.unit(), out);
+  }
+
+  /**
+   * Appends a magnitude and its unit to a string builder.
+   *
+   * @param magnitude the magnitude to format
+   * @param unit      the unit of the magnitude
+   * @param out       the builder to append to
+   *
+   * @return the builder
+   */
+  public StringBuilder format(double magnitude, Unit<?> unit, StringBuilder out) {
+    if (decimals < 0) {
+      appendShortest(magnitude, out);
+    } else {
+      appendFixed(magnitude, decimals, out);
+    }
+    appendSymbol(unit.symbol(), out);
+    return out;
+  }
+
+  /**
+   * Appends a quantity to an appendable, one character at a time.
+   *
+   * @param quantity the quantity to format
+   * @param out      the appendable to append to
+   *
+   * @return the appendable
+   *
+   * @throws IOException if the appendable throws one
+   */
+  public <A extends Appendable> A format(Quantity<?> quantity, A out) throws IOException {
+    return format(quantity.magnitude(), quantity.unit(), out);
+  }
+
+  /**
+   * Appends a magnitude and its unit to an appendable, one character at a time. Characters are appended
+   * individually because many appendables, such as {@link java.io.Writer}, copy a {@link CharSequence} into a
+   * new string before writing it.
+   *
+   * @param magnitude the magnitude to format
+   * @param unit      the unit of the magnitude
+   * @param out       the appendable to append to
+   *
+   * @return the appendable
+   *
+   * @throws IOException if the appendable throws one
+   */
+  public <A extends Appendable> A format(double magnitude, Unit<?> unit, A out) throws IOException {
+    StringBuilder text = formatScratch(magnitude, unit);
+    for (int i = 0; i < text.length(); i++) {
+      out.append(text.charAt(i));
+    }
+    return out;
+  }
+
+  /**
+   * Writes a quantity to a byte buffer as UTF-8 text, starting at the buffer's position.
+   *
+   * @param quantity the quantity to format
+   * @param out      the buffer to write to
+   *
+   * @return the buffer
+   *
+   * @throws BufferOverflowException if the buffer does not have enough space remaining. Nothing is written in
+   *                                 this case.
+   */
+  public ByteBuffer format(Quantity<?> quantity, ByteBuffer out) {
+    return format(quantity.magnitude(), quantity.unit(), out);
+  }
+
+  /**
+   * Writes a magnitude and its unit to a byte buffer as UTF-8 text, starting at the buffer's position. Magnitudes
+   * are always ASCII; only unit symbols such as "&deg;C" may need more than one byte per character.
+   *
+   * @param magnitude the magnitude to format
+   * @param unit      the unit of the magnitude
+   * @param out       the buffer to write to
+   *
+   * @return the buffer
+   *
+   * @throws BufferOverflowException if the buffer does not have enough space remaining. Nothing is written in
+   *                                 this case.
+   */
+  public ByteBuffer format(double magnitude, Unit<?> unit, ByteBuffer out) {
+    StringBuilder text = formatScratch(magnitude, unit);
+    int length = 0;
+    for (int i = 0; i < text.length(); i++) {
+      length += utf8Length(text.charAt(i));
+    }
+    if (out.remaining() < length) {
+      throw new BufferOverflowException();
+    }
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c < 0x80) {
+        out.put((byte) c);
+      } else if (c < 0x800) {
+        out.put((byte) (0xC0 | (c >> 6)));
+        out.put((byte) (0x80 | (c & 0x3F)));
+      } else {
+        // Unit symbols are never expected to need surrogate pairs
+        out.put((byte) (0xE0 | (c >> 12)));
+        out.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+        out.put((byte) (0x80 | (c & 0x3F)));
+      }
+    }
+    return out;
+  }
+
+  private StringBuilder formatScratch(double magnitude, Unit<?> unit) {
+    scratch.setLength(0);
+    return format(magnitude, unit, scratch);
+  }
+
+  private static int utf8Length(char c) {
+    if (c < 0x80) {
+      return 1;
+    } else if (c < 0x800) {
+      return 2;
+    } else {
+      return 3;
+    }
+  }
+
+  private static void appendSymbol(String symbol, StringBuilder out) {
+    if (!symbol.isEmpty()) {
+      out.append(' ').append(symbol);
+    }
+  }
+
+  private static void appendShortest(double magnitude, StringBuilder out) {
+    // StringBuilder formats doubles into its own buffer, the same as Double.toString but without the string
+    out.append(magnitude);
+  }
+
+  private static void appendFixed(double magnitude, int decimals, StringBuilder out) {
+    final double scaled = Math.abs(magnitude) * POWERS_OF_TEN[decimals];
+    if (!(scaled < MAX_FIXED)) {
+      // Too large to round exactly, or NaN or infinite
+      appendShortest(magnitude, out);
+      return;
+    }
+    final long rounded = Math.round(scaled);
+    if (rounded != 0 && magnitude < 0) {
+      out.append('-');
+    }
+    final long power = POWERS_OF_TEN[decimals];
+    out.append(rounded / power);
+    if (decimals == 0) {
+      return;
+    }
+    out.append('.');
+    final long fraction = rounded % power;
+    // Pad the fraction with leading zeros
+    for (long p = power / 10; p > 1 && fraction < p; p /= 10) {
+      out.append('0');
+    }
+    out.append(fraction);
+  }
+
+}
@@ -0,0 +1,274 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A histogram of measures with logarithmically sized buckets, for estimating percentiles such as the median or
+ * 99th percentile of loop times in bounded memory. Like HdrHistogram, each power of two between the lowest and
+ * highest tracked magnitudes is split into the same number of linear sub-buckets, so every recorded value is
+ * reported with the same relative precision. Bucket indices come straight from the exponent and top mantissa bits
+ * of the value, so recording costs a few bit operations and does not allocate.
+ *
+ * <p>Negative values are tracked in a mirror image of the positive buckets. Values closer to zero than the lowest
+ * tracked magnitude are counted as zero, and values farther from zero than the highest tracked magnitude are
+ * counted in the outermost bucket. The exact minimum and maximum are always kept; percentiles are clamped to
+ * them, and percentiles landing in an outermost bucket are reported as the extreme itself.
+ *
+ * <p>Histograms are kept in a unit fixed when they're created; measures of other units are converted through a
+ * conversion that is looked up once and reused while the input unit stays the same. Histograms are not thread safe;
+ * give each thread its own histogram with the same configuration and {@link #merge(MeasureHistogram) merge} them.
+ *
+ * @param <U> the unit type of the measures
+ */
+public final class MeasureHistogram<U extends Unit<U>> {
+
+  private final Unit<U> unit;
+  private final double lowest;
+  private final double highest;
+  private final int subBucketBits;
+  private final int minExponent;
+  private final int maxExponent;
+
+  private final long[] positive;
+  private final long[] negative;
+  private long zeros;
+  private long count;
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+
+  private final ConversionCache<U> inputConversion;
+
+  /**
+   * Creates a new, empty histogram.
+   *
+   * @param unit              the unit to keep the histogram in
+   * @param lowest            the smallest nonzero magnitude to tell apart from zero, in terms of the unit
+   * @param highest           the largest magnitude to track, in terms of the unit
+   * @param significantDigits the number of significant decimal digits to keep, from 1 to 5. Each additional digit
+   *                          costs about ten times as much memory.
+   */
+  public MeasureHistogram(Unit<U> unit, double lowest, double highest, int significantDigits) {
+    this.unit = Objects.requireNonNull(unit, "Unit cannot be null");
+    if (!(lowest > 0) || !(highest >= lowest) || Double.isInfinite(highest)) {
+      throw new IllegalArgumentException("Must have 0 < lowest <= highest < infinity");
+    }
+    if (significantDigits < 1 || significantDigits > 5) {
+      throw new IllegalArgumentException("Significant digits must be in [1, 5], but was " + significantDigits);
+    }
+    this.lowest = lowest;
+    this.highest = highest;
+    // Enough sub-buckets per power of two to resolve one part in 10^digits
+    this.subBucketBits = (int) Math.ceil(significantDigits * Math.log(10) / Math.log(2));
+    this.minExponent = Math.getExponent(lowest);
+    this.maxExponent = Math.getExponent(highest);
+    final int buckets = (maxExponent - minExponent + 1) << subBucketBits;
+    this.positive = new long[buckets];
+    this.negative = new long[buckets];
+    this.inputConversion = new ConversionCache<>(unit);
+  }
+
+  /**
+   * Creates a copy of a histogram, which can be read while the original is still being updated.
+   */
+  public MeasureHistogram<U> copy() {
+    MeasureHistogram<U> copy = new MeasureHistogram<>(this);
+    copy.merge(this);
+    return copy;
+  }
+
+  private MeasureHistogram(MeasureHistogram<U> config) {
+    this.unit = config.unit;
+    this.lowest = config.lowest;
+    this.highest = config.highest;
+    this.subBucketBits = config.subBucketBits;
+    this.minExponent = config.minExponent;
+    this.maxExponent = config.maxExponent;
+    this.positive = new long[config.positive.length];
+    this.negative = new long[config.negative.length];
+    this.inputConversion = new ConversionCache<>(unit);
+  }
+
+  /**
+   * Gets the unit the histogram is kept in.
+   */
+  public Unit<U> unit() {
+    return unit;
+  }
+
+  /**
+   * Records a magnitude.
+   *
+   * @param magnitude the magnitude, in terms of the histogram's unit
+   *
+   * @throws IllegalArgumentException if the magnitude is NaN
+   */
+  public void add(double magnitude) {
+    if (Double.isNaN(magnitude)) {
+      throw new IllegalArgumentException("Cannot record NaN");
+    }
+    final double abs = Math.abs(magnitude);
+    if (abs < lowest) {
+      zeros++;
+    } else if (magnitude > 0) {
+      positive[index(abs)]++;
+    } else {
+      negative[index(abs)]++;
+    }
+    count++;
+    if (magnitude < min) {
+      min = magnitude;
+    }
+    if (magnitude > max) {
+      max = magnitude;
+    }
+  }
+
+  /**
+   * Records a measure, converting it to the histogram's unit.
+   *
+   * @param measure the measure to record
+   *
+   * @throws IllegalArgumentException if the magnitude is NaN
+   */
+  public void add(Quantity<U> measure) {
+    add(inputConversion.apply(measure));
+  }
+
+  /**
+   * Adds the counts of another histogram to this one. The other histogram is unchanged.
+   *
+   * @param other the histogram to merge into this one
+   *
+   * @throws IllegalArgumentException if the other histogram has a different unit, range or precision
+   */
+  public void merge(MeasureHistogram<U> other) {
+    if (other.unit != unit || other.lowest != lowest || other.highest != highest
+        || other.subBucketBits != subBucketBits) {
+      throw new IllegalArgumentException("Can only merge histograms with the same unit, range and precision");
+    }
+    for (int i = 0; i < positive.length; i++) {
+      positive[i] += other.positive[i];
+      negative[i] += other.negative[i];
+    }
+    zeros += other.zeros;
+    count += other.count;
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+  }
+
+  /**
+   * Forgets all recorded measures.
+   */
+  public void reset() {
+    Arrays.fill(positive, 0);
+    Arrays.fill(negative, 0);
+    zeros = 0;
+    count = 0;
+    min = Double.POSITIVE_INFINITY;
+    max = Double.NEGATIVE_INFINITY;
+  }
+
+  /**
+   * Gets the number of recorded measures.
+   */
+  public long count() {
+    return count;
+  }
+
+  /**
+   * Gets the smallest recorded measure.
+   *
+   * @throws NoSuchElementException if nothing has been recorded
+   */
+  public Measure<U> min() {
+    checkNotEmpty();
+    return unit.of(min);
+  }
+
+  /**
+   * Gets the largest recorded measure.
+   *
+   * @throws NoSuchElementException if nothing has been recorded
+   */
+  public Measure<U> max() {
+    checkNotEmpty();
+    return unit.of(max);
+  }
+
+  /**
+   * Estimates a percentile of the recorded measures.
+   *
+   * @param percentile the percentile, from 0 to 100; eg 50 for the median
+   *
+   * @throws NoSuchElementException if nothing has been recorded
+   */
+  public Measure<U> percentile(double percentile) {
+    return unit.of(percentile(percentile, unit));
+  }
+
+  /**
+   * Estimates a percentile of the recorded measures, in terms of the given unit. The estimate is the middle of
+   * the bucket holding the measure at that rank, clamped to the recorded minimum and maximum.
+   *
+   * @param percentile the percentile, from 0 to 100; eg 50 for the median
+   * @param unit       the unit of the result
+   *
+   * @throws NoSuchElementException if nothing has been recorded
+   */
+  public double percentile(double percentile, Unit<U> unit) {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("Percentile must be in [0, 100], but was " + percentile);
+    }
+    checkNotEmpty();
+    final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+    return unit.convert(Math.max(min, Math.min(max, valueAtRank(rank))), this.unit);
+  }
+
+  private double valueAtRank(long rank) {
+    long seen = 0;
+    for (int i = negative.length - 1; i >= 0; i--) {
+      seen += negative[i];
+      if (seen >= rank) {
+        // The outermost bucket has no upper bound, so the best estimate is the extreme itself
+        return i == negative.length - 1 ? min : -midpoint(i);
+      }
+    }
+    seen += zeros;
+    if (seen >= rank) {
+      return 0;
+    }
+    for (int i = 0; i < positive.length; i++) {
+      seen += positive[i];
+      if (seen >= rank) {
+        return i == positive.length - 1 ? max : midpoint(i);
+      }
+    }
+    return max;
+  }
+
+  private int index(double abs) {
+    final int exponent = Math.getExponent(abs);
+    if (exponent > maxExponent) {
+      // Past the top of the range
+      return positive.length - 1;
+    }
+    final long mantissa = Double.doubleToRawLongBits(abs) & 0x000FFFFFFFFFFFFFL;
+    final int subBucket = (int) (mantissa >>> (52 - subBucketBits));
+    return ((exponent - minExponent) << subBucketBits) | subBucket;
+  }
+
+  private double midpoint(int index) {
+    final int exponent = (index >>> subBucketBits) + minExponent;
+    final int subBucket = index & ((1 << subBucketBits) - 1);
+    return Math.scalb(1 + (subBucket + 0.5) / (1 << subBucketBits), exponent);
+  }
+
+  private void checkNotEmpty() {
+    if (count == 0) {
+      throw new NoSuchElementException("No measures have been recorded");
+    }
+  }
+
+}
@@ -0,0 +1,204 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleFunction;
+
+/**
+ * An opt-in, bounded cache of canonical measure instances, in the spirit of {@link Integer#valueOf(int)}. Every unit
+ * and every per-unit measure class (eg {@code distance.Feet}) creates measures through an interner, so repeatedly
+ * creating the same constants returns the same object instead of allocating a new one.
+ *
+ * <p>Interning is disabled by default, since it makes {@code of(...)} slightly slower for values that are never
+ * repeated. Enable it with {@link #setEnabled(boolean)} or by setting the {@value #ENABLED_PROPERTY} system property
+ * to {@code true}. Zero and one are always cached; other values are held in a small set-associative table with
+ * clock eviction, sized by the {@value #CAPACITY_PROPERTY} system property. Use the hit and miss counters to tune
+ * the capacity.
+ *
+ * <p>Interned measures are only <i>likely</i> to be identical: a value can be evicted, and concurrent callers may
+ * race to create the same value. Always compare measures with {@code equals} or
+ * {@link Measure#isEquivalent(Quantity) isEquivalent}.
+ *
+ * @param <M> the type of measure being interned
+ */
+public final class MeasureInterner<M extends Measure<?>> {
+
+  /**
+   * The system property that enables interning when set to {@code true}.
+   */
+  public static final String ENABLED_PROPERTY = "edu.wpi.first.wpilib.units.intern";
+
+  /**
+   * The system property that sets the number of values each interner can hold, besides zero and one.
+   * The capacity is rounded up to a power of two. Defaults to 64.
+   */
+  public static final String CAPACITY_PROPERTY = "edu.wpi.first.wpilib.units.intern.capacity";
+
+  private static final int WAYS = 4;
+  private static final int CAPACITY = capacity(Integer.getInteger(CAPACITY_PROPERTY, 64));
+
+  private static final long ZERO_BITS = Double.doubleToRawLongBits(0.0);
+  private static final long ONE_BITS = Double.doubleToRawLongBits(1.0);
+
+  private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+  private static final LongAdder totalHits = new LongAdder();
+  private static final LongAdder totalMisses = new LongAdder();
+
+  private final DoubleFunction<M> factory;
+  private final M zero;
+  private final M one;
+  private volatile Table<M> table;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * A set-associative table of cached measures. Each set has its own clock hand; an entry's referenced flag is set
+   * when it's hit, and the hand clears flags until it finds an unreferenced entry to evict.
+   */
+  private static final class Table<M> {
+    final Object[] entries = new Object[CAPACITY];
+    final boolean[] referenced = new boolean[CAPACITY];
+    final int[] hands = new int[CAPACITY / WAYS];
+  }
+
+  /**
+   * Creates a new interner.
+   *
+   * @param factory the function to use to create new measures. This should not capture any state, to avoid
+   *                allocating on every call (eg {@code Feet::new}).
+   */
+  public MeasureInterner(DoubleFunction<M> factory) {
+    this.factory = factory;
+    this.zero = factory.apply(0);
+    this.one = factory.apply(1);
+  }
+
+  /**
+   * Checks if interning is enabled.
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enables or disables interning for all interners.
+   *
+   * @param enabled true to enable interning, false to always create new measures
+   */
+  public static void setEnabled(boolean enabled) {
+    MeasureInterner.enabled = enabled;
+  }
+
+  /**
+   * Gets the total number of lookups that returned a cached measure, across all interners.
+   */
+  public static long totalHits() {
+    return totalHits.sum();
+  }
+
+  /**
+   * Gets the total number of lookups that had to create a new measure, across all interners.
+   */
+  public static long totalMisses() {
+    return totalMisses.sum();
+  }
+
+  /**
+   * Gets a measure with the given magnitude, reusing a cached instance if possible.
+   *
+   * @param magnitude the magnitude of the measure
+   */
+  @SuppressWarnings("unchecked")
+  public M get(double magnitude) {
+    if (!enabled) {
+      return factory.apply(magnitude);
+    }
+    final long bits = Double.doubleToRawLongBits(magnitude);
+    if (bits == ZERO_BITS) {
+      hit();
+      return zero;
+    }
+    if (bits == ONE_BITS) {
+      hit();
+      return one;
+    }
+
+    Table<M> table = table();
+    final int set = hash(bits) & (table.hands.length - 1);
+    final int base = set * WAYS;
+    for (int i = base; i < base + WAYS; i++) {
+      M entry = (M) table.entries[i];
+      if (entry != null && Double.doubleToRawLongBits(entry.magnitude()) == bits) {
+        table.referenced[i] = true;
+        hit();
+        return entry;
+      }
+    }
+
+    misses.increment();
+    totalMisses.increment();
+    M measure = factory.apply(magnitude);
+    int hand = table.hands[set];
+    for (int i = 0; i < WAYS && table.referenced[base + hand]; i++) {
+      // Give referenced entries a second chance
+      table.referenced[base + hand] = false;
+      hand = (hand + 1) & (WAYS - 1);
+    }
+    table.entries[base + hand] = measure;
+    table.hands[set] = (hand + 1) & (WAYS - 1);
+    return measure;
+  }
+
+  /**
+   * Gets the number of lookups on this interner that returned a cached measure.
+   */
+  public long hits() {
+    return hits.sum();
+  }
+
+  /**
+   * Gets the number of lookups on this interner that had to create a new measure.
+   */
+  public long misses() {
+    return misses.sum();
+  }
+
+  /**
+   * Removes all cached measures, except for zero and one, and resets the hit and miss counters of this interner.
+   */
+  public void clear() {
+    table = null;
+    hits.reset();
+    misses.reset();
+  }
+
+  private void hit() {
+    hits.increment();
+    totalHits.increment();
+  }
+
+  private Table<M> table() {
+    Table<M> table = this.table;
+    if (table == null) {
+      // Racing threads may each create a table; only one wins and the others' entries are simply lost
+      table = new Table<>();
+      this.table = table;
+    }
+    return table;
+  }
+
+  private static int hash(long bits) {
+    long h = bits * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  private static int capacity(int requested) {
+    int capacity = WAYS;
+    while (capacity < requested && capacity < (1 << 20)) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+}
@@ -0,0 +1,553 @@
+package edu.wpi.first.wpilib.units;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An append-only log of timestamped measures of a single channel, stored in a memory-mapped file. Appending a
+ * sample writes two values to mapped memory and allocates nothing, so a log can record thousands of samples per
+ * second for hours.
+ *
+ * <p>The file starts with a 64 byte header holding the {@link UnitRegistry#idOf(Unit) ID} of the channel's unit,
+ * the block size and the number of committed samples. Samples follow in fixed-size blocks, each holding the
+ * timestamps of its samples followed by their magnitudes, all little-endian. The committed count is only updated
+ * after a sample has been written, so if the process crashes the log reopens with every sample that was committed
+ * and nothing needs to be rewritten. Call {@link #force()} to also survive the operating system crashing.
+ *
+ * <p>Timestamps are opaque longs, such as microseconds since the robot started, and must never decrease. The first
+ * timestamp of every block is kept in memory as a sparse index, so {@linkplain #series(long, long) time ranges} are
+ * found with two binary searches. Ranges are {@link Series views} directly over the mapped file, and can be read in
+ * any unit of the same dimension.
+ *
+ * <p>A log can only be appended to by one thread at a time. Series can be read by other threads, which see the
+ * samples that were committed when the series was created. Other processes can follow a log with
+ * {@link #openReadOnly(Path, Unit)} and {@link #refresh()}.
+ *
+ * @param <U> the unit type of the measures in the log
+ */
+public final class MeasureLog<U extends Unit<U>> implements Closeable {
+
+  /**
+   * The default number of samples in each block.
+   */
+  public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+  private static final int MAGIC = 0x474F4C4D; // "MLOG" when read as little-endian bytes
+  private static final int VERSION = 1;
+
+  private static final int HEADER_BYTES = 64;
+  private static final int MAGIC_OFFSET = 0;
+  private static final int VERSION_OFFSET = 4;
+  private static final int UNIT_ID_OFFSET = 8;
+  private static final int BLOCK_SIZE_OFFSET = 12;
+  private static final int COUNT_OFFSET = 16;
+
+  // Blocks are mapped in segments of about this many bytes
+  private static final int SEGMENT_BYTES = 4 << 20;
+
+  private final FileChannel channel;
+  private final boolean readOnly;
+  private final MappedByteBuffer header;
+  private final Unit<U> unit;
+
+  private final int blockShift;
+  private final int blockSize;
+  private final int blockBytes;
+  private final int blocksPerSegment;
+
+  private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+
+  // The first timestamp of every block
+  private volatile long[] blockStarts = new long[16];
+
+  private volatile int committed;
+  private long lastTimestamp = Long.MIN_VALUE;
+
+  @SuppressWarnings("unchecked")
+  private MeasureLog(FileChannel channel, boolean readOnly, Unit<U> unit, int blockSize) throws IOException {
+    this.channel = channel;
+    this.readOnly = readOnly;
+    final boolean created = channel.size() == 0;
+    if (created && readOnly) {
+      throw new IllegalArgumentException("Log file is empty");
+    }
+    this.header = channel.map(readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE,
+        0, HEADER_BYTES);
+    header.order(ByteOrder.LITTLE_ENDIAN);
+
+    if (created) {
+      final int id = UnitRegistry.idOf(unit);
+      if (id == UnitRegistry.NO_ID) {
+        throw new IllegalArgumentException("Unit " + unit.symbol() + " has no ID and cannot be logged");
+      }
+      header.putInt(MAGIC_OFFSET, MAGIC);
+      header.putInt(VERSION_OFFSET, VERSION);
+      header.putInt(UNIT_ID_OFFSET, id);
+      header.putInt(BLOCK_SIZE_OFFSET, blockSize);
+      header.putLong(COUNT_OFFSET, 0);
+      this.unit = unit;
+    } else {
+      if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+        throw new IllegalArgumentException("Not a measure log");
+      }
+      if (header.getInt(VERSION_OFFSET) != VERSION) {
+        throw new IllegalArgumentException("Unsupported log version: " + header.getInt(VERSION_OFFSET));
+      }
+      final Unit<?> stored = UnitRegistry.forId(header.getInt(UNIT_ID_OFFSET));
+      if (stored == null) {
+        throw new IllegalArgumentException("Unknown unit ID: " + header.getInt(UNIT_ID_OFFSET));
+      }
+      if (stored.dimension() != unit.dimension()) {
+        throw new IllegalArgumentException(
+            "Log contains " + Dimension.toString(stored.dimension())
+                + ", not " + Dimension.toString(unit.dimension()));
+      }
+      // A unit of the same dimension is a unit of type U, though it may differ in scale and offset (eg Celsius and
+      // Fahrenheit). Values stay in the unit they were written in, and conversions to other units handle offsets
+      this.unit = (Unit<U>) stored;
+      blockSize = header.getInt(BLOCK_SIZE_OFFSET);
+      if (blockSize <= 0 || Integer.bitCount(blockSize) != 1) {
+        throw new IllegalArgumentException("Corrupt log header: block size " + blockSize);
+      }
+    }
+
+    this.blockShift = Integer.numberOfTrailingZeros(blockSize);
+    this.blockSize = blockSize;
+    this.blockBytes = blockSize * 2 * Long.BYTES;
+    this.blocksPerSegment = Math.max(1, SEGMENT_BYTES / blockBytes);
+    if (!created) {
+      load(count(header.getLong(COUNT_OFFSET)));
+    }
+  }
+
+  /**
+   * Opens a log for appending, creating it if the file does not exist, with the default block size.
+   *
+   * @param path the log file
+   * @param unit the unit of the channel. New logs store magnitudes in this unit; existing logs keep the unit they
+   *             were created with, which must have the same dimension.
+   *
+   * @throws IOException              if the file cannot be opened or mapped
+   * @throws IllegalArgumentException if the file is not a log, or a log of a different dimension, or if the unit
+   *                                  has no ID
+   */
+  public static <U extends Unit<U>> MeasureLog<U> open(Path path, Unit<U> unit) throws IOException {
+    return open(path, unit, DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Opens a log for appending, creating it if the file does not exist.
+   *
+   * @param path      the log file
+   * @param unit      the unit of the channel. New logs store magnitudes in this unit; existing logs keep the unit
+   *                  they were created with, which must have the same dimension.
+   * @param blockSize the number of samples in each block of a new log; must be a power of two. Existing logs keep
+   *                  the block size they were created with.
+   *
+   * @throws IOException              if the file cannot be opened or mapped
+   * @throws IllegalArgumentException if the file is not a log, or a log of a different dimension, or if the unit
+   *                                  has no ID
+   */
+  public static <U extends Unit<U>> MeasureLog<U> open(Path path, Unit<U> unit, int blockSize) throws IOException {
+    Objects.requireNonNull(unit, "Unit cannot be null");
+    if (blockSize <= 0 || Integer.bitCount(blockSize) != 1 || blockSize > (1 << 20)) {
+      throw new IllegalArgumentException("Block size must be a power of two up to 2^20, but was " + blockSize);
+    }
+    FileChannel channel = FileChannel.open(path,
+        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      return new MeasureLog<>(channel, false, unit, blockSize);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Opens an existing log for reading. Samples appended by another process become visible after
+   * {@link #refresh()}.
+   *
+   * @param path the log file
+   * @param unit a unit of the same dimension as the log
+   *
+   * @throws IOException              if the file cannot be opened or mapped
+   * @throws IllegalArgumentException if the file is not a log, or a log of a different dimension
+   */
+  public static <U extends Unit<U>> MeasureLog<U> openReadOnly(Path path, Unit<U> unit) throws IOException {
+    Objects.requireNonNull(unit, "Unit cannot be null");
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new MeasureLog<>(channel, true, unit, DEFAULT_BLOCK_SIZE);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Gets the unit that magnitudes are stored in.
+   */
+  public Unit<U> unit() {
+    return unit;
+  }
+
+  /**
+   * Gets the number of committed samples in the log.
+   */
+  public int size() {
+    return committed;
+  }
+
+  /**
+   * Checks if this log was opened read-only.
+   */
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  /**
+   * Appends a sample to the log.
+   *
+   * @param timestamp the time of the sample; must not be before the previous sample
+   * @param magnitude the magnitude of the sample, in terms of the log's {@link #unit() unit}
+   *
+   * @throws IOException              if the log needs to grow and the file cannot be mapped
+   * @throws IllegalArgumentException if the timestamp is before the previous sample
+   * @throws IllegalStateException    if the log is read-only
+   */
+  public void append(long timestamp, double magnitude) throws IOException {
+    if (readOnly) {
+      throw new IllegalStateException("Log is read-only");
+    }
+    if (timestamp < lastTimestamp) {
+      throw new IllegalArgumentException("Timestamp " + timestamp + " is before the previous sample");
+    }
+    final int index = committed;
+    if (index == Integer.MAX_VALUE) {
+      throw new IllegalStateException("Log is full");
+    }
+    final int block = index >>> blockShift;
+    if ((index & (blockSize - 1)) == 0) {
+      startBlock(block, timestamp);
+    }
+    final ByteBuffer segment = segments[block / blocksPerSegment];
+    final int position = timestampPosition(block, index);
+    segment.putLong(position, timestamp);
+    segment.putDouble(position + blockSize * Long.BYTES, magnitude);
+    lastTimestamp = timestamp;
+
+    // Writing and then reading the volatile count keeps the sample from being reordered after the header update
+    committed = index + 1;
+    header.putLong(COUNT_OFFSET, committed);
+  }
+
+  /**
+   * Appends a sample to the log, converting it to the log's unit.
+   *
+   * @param timestamp the time of the sample; must not be before the previous sample
+   * @param measure   the sample
+   *
+   * @throws IOException              if the log needs to grow and the file cannot be mapped
+   * @throws IllegalArgumentException if the timestamp is before the previous sample
+   * @throws IllegalStateException    if the log is read-only
+   */
+  public void append(long timestamp, Quantity<U> measure) throws IOException {
+    append(timestamp, unit.convert(measure.magnitude(), measure.unit()));
+  }
+
+  /**
+   * Gets a view of every committed sample in the log.
+   */
+  public Series<U> series() {
+    return new Series<>(this, 0, committed, unit);
+  }
+
+  /**
+   * Gets a view of the committed samples in a time range.
+   *
+   * @param from the earliest timestamp to include
+   * @param to   the timestamp to stop before
+   */
+  public Series<U> series(long from, long to) {
+    final int count = committed;
+    final int start = lowerBound(from, count);
+    final int end = Math.max(start, lowerBound(to, count));
+    return new Series<>(this, start, end - start, unit);
+  }
+
+  /**
+   * Writes all changes to the log to the storage device.
+   */
+  public void force() {
+    for (MappedByteBuffer segment : segments) {
+      segment.force();
+    }
+    header.force();
+  }
+
+  /**
+   * Picks up samples that were committed by another process since this log was opened or last refreshed.
+   *
+   * @throws IOException if the file cannot be mapped
+   */
+  public void refresh() throws IOException {
+    load(count(header.getLong(COUNT_OFFSET)));
+  }
+
+  /**
+   * Closes the log file. Mapped memory stays valid until it is garbage collected, but the log and its series must
+   * not be used after closing.
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private void load(int count) throws IOException {
+    final int blocks = (int) (((long) count + blockSize - 1) >>> blockShift);
+    final int firstNewBlock = (committed + blockSize - 1) >>> blockShift;
+    for (int block = firstNewBlock; block < blocks; block++) {
+      final int segment = block / blocksPerSegment;
+      if (segment >= segments.length) {
+        mapSegment(segment);
+      }
+      indexBlock(block, segments[segment].getLong(timestampPosition(block, block << blockShift)));
+    }
+    if (count > 0) {
+      final int last = count - 1;
+      lastTimestamp = segments[(last >>> blockShift) / blocksPerSegment]
+          .getLong(timestampPosition(last >>> blockShift, last));
+    }
+    committed = count;
+  }
+
+  private void startBlock(int block, long timestamp) throws IOException {
+    final int segment = block / blocksPerSegment;
+    if (segment >= segments.length) {
+      mapSegment(segment);
+    }
+    indexBlock(block, timestamp);
+  }
+
+  private void indexBlock(int block, long timestamp) {
+    long[] starts = blockStarts;
+    if (block >= starts.length) {
+      starts = Arrays.copyOf(starts, Math.max(block + 1, starts.length * 2));
+    }
+    starts[block] = timestamp;
+    blockStarts = starts;
+  }
+
+  private void mapSegment(int segment) throws IOException {
+    final long size = (long) blocksPerSegment * blockBytes;
+    final MappedByteBuffer buffer = channel.map(
+        readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE,
+        HEADER_BYTES + segment * size, size);
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    MappedByteBuffer[] mapped = Arrays.copyOf(segments, segment + 1);
+    mapped[segment] = buffer;
+    segments = mapped;
+  }
+
+  private int count(long count) {
+    if (count < 0 || count > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Corrupt log header: " + count + " samples");
+    }
+    return (int) count;
+  }
+
+  /**
+   * Finds the index of the first sample at or after a timestamp.
+   */
+  private int lowerBound(long timestamp, int count) {
+    if (count == 0) {
+      return 0;
+    }
+    // Find the last block that starts before the timestamp, then search within it
+    final long[] starts = blockStarts;
+    int low = 0;
+    int high = ((count - 1) >>> blockShift) + 1;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (starts[mid] < timestamp) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    if (low == 0) {
+      return 0;
+    }
+    final int block = low - 1;
+    int lowIndex = block << blockShift;
+    int highIndex = Math.min(lowIndex + blockSize, count);
+    while (lowIndex < highIndex) {
+      final int mid = (lowIndex + highIndex) >>> 1;
+      if (timestamp(mid) < timestamp) {
+        lowIndex = mid + 1;
+      } else {
+        highIndex = mid;
+      }
+    }
+    return lowIndex;
+  }
+
+  long timestamp(int index) {
+    final int block = index >>> blockShift;
+    return segments[block / blocksPerSegment].getLong(timestampPosition(block, index));
+  }
+
+  double magnitude(int index) {
+    final int block = index >>> blockShift;
+    return segments[block / blocksPerSegment]
+        .getDouble(timestampPosition(block, index) + blockSize * Long.BYTES);
+  }
+
+  private int timestampPosition(int block, int index) {
+    return (block % blocksPerSegment) * blockBytes + (index & (blockSize - 1)) * Long.BYTES;
+  }
+
+  /**
+   * A read-only view of a range of samples in a log. Samples are read directly from the mapped file and converted
+   * to the unit of the series as they are read.
+   *
+   * @param <U> the unit type of the measures in the series
+   */
+  public static final class Series<U extends Unit<U>> {
+
+    private final MeasureLog<U> log;
+    private final int start;
+    private final int length;
+    private final Unit<U> unit;
+    private final Conversion read;
+
+    Series(MeasureLog<U> log, int start, int length, Unit<U> unit) {
+      this.log = log;
+      this.start = start;
+      this.length = length;
+      this.unit = unit;
+      this.read = unit.conversionFrom(log.unit);
+    }
+
+    /**
+     * Gets the unit of the magnitudes in this series.
+     */
+    public Unit<U> unit() {
+      return unit;
+    }
+
+    /**
+     * Gets the number of samples in this series.
+     */
+    public int length() {
+      return length;
+    }
+
+    /**
+     * Gets the timestamp of the sample at the given index.
+     *
+     * @param index the index of the sample
+     */
+    public long timestamp(int index) {
+      Magnitudes.checkIndex(index, length);
+      return log.timestamp(start + index);
+    }
+
+    /**
+     * Gets the magnitude of the sample at the given index, in terms of this series' unit.
+     *
+     * @param index the index of the sample
+     */
+    public double magnitude(int index) {
+      Magnitudes.checkIndex(index, length);
+      return read.apply(log.magnitude(start + index));
+    }
+
+    /**
+     * Gets the sample at the given index as a measure.
+     *
+     * @param index the index of the sample
+     */
+    public Measure<U> get(int index) {
+      return unit.of(magnitude(index));
+    }
+
+    /**
+     * Gets a view of this series in a different unit.
+     *
+     * @param unit the unit of the view
+     */
+    public Series<U> as(Unit<U> unit) {
+      if (unit == this.unit) {
+        return this;
+      }
+      return new Series<>(log, start, length, unit);
+    }
+
+    /**
+     * Gets the samples of this series in a time range.
+     *
+     * @param from the earliest timestamp to include
+     * @param to   the timestamp to stop before
+     */
+    public Series<U> slice(long from, long to) {
+      final Series<U> range = log.series(from, to);
+      final int sliceStart = Math.max(start, range.start);
+      final int sliceEnd = Math.max(sliceStart, Math.min(start + length, range.start + range.length));
+      return new Series<>(log, sliceStart, sliceEnd - sliceStart, unit);
+    }
+
+    /**
+     * Copies the magnitudes in this series, in terms of this series' unit, to the remaining space of a buffer.
+     * The position of the buffer is advanced by the length of this series.
+     *
+     * @param dst the buffer to copy the magnitudes to
+     *
+     * @throws BufferOverflowException if the buffer has less space remaining than the length of this series
+     */
+    public void getMagnitudes(DoubleBuffer dst) {
+      if (dst.remaining() < length) {
+        throw new BufferOverflowException();
+      }
+      final int position = dst.position();
+      for (int i = 0; i < length; i++) {
+        dst.put(position + i, read.apply(log.magnitude(start + i)));
+      }
+      dst.position(position + length);
+    }
+
+    /**
+     * Copies the timestamps in this series into a new array.
+     */
+    public long[] toTimestampArray() {
+      long[] timestamps = new long[length];
+      for (int i = 0; i < length; i++) {
+        timestamps[i] = log.timestamp(start + i);
+      }
+      return timestamps;
+    }
+
+    /**
+     * Copies the magnitudes in this series into a new measure array of this series' unit.
+     */
+    public MeasureArray<U> toMeasureArray() {
+      MeasureArray<U> array = new MeasureArray<>(length, unit);
+      for (int i = 0; i < length; i++) {
+        array.setMagnitude(i, read.apply(log.magnitude(start + i)));
+      }
+      return array;
+    }
+
+  }
+
+}
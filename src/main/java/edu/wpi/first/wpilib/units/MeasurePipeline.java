@@ -0,0 +1,397 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A pipeline that carries a stream of measures from a producer through conversions, filters and mappings to a
+ * {@link MeasureSink} on a thread of its own. Measures travel in batches of raw magnitudes that share a single unit,
+ * so the cost of handing work between threads is paid per batch rather than per measure, and each stage runs as a
+ * tight loop over a primitive array.
+ *
+ * <p>A pipeline owns a fixed number of batches that circulate between the producer and the pipeline thread. The
+ * producer fills a free batch and hands it off; the pipeline thread runs it through the stages and the sink, then
+ * returns it. Free batches are the pipeline's demand signal: when the sink falls behind, every batch ends up in
+ * flight and the producer blocks in {@link #offer(double)}, or is refused by {@link #tryOffer(double)}, until the
+ * sink catches up. Memory use is bounded by the batch size and count, and nothing is allocated per measure.
+ *
+ * <pre>{@code
+ * MeasurePipeline<ElectricCurrent> pipeline = MeasurePipeline.from(Units.Milliamps)
+ *     .convert(Units.Amps)
+ *     .filter(new MovingAverageFilter<>(Units.Amps, 10))
+ *     .batchSize(256)
+ *     .start(logger);
+ * }</pre>
+ *
+ * <p>Measures are offered by a single producer thread; a pipeline is not safe for concurrent producers. If a
+ * stage or the sink throws, the pipeline drops all later batches and the exception is rethrown, wrapped in an
+ * {@link IllegalStateException}, by the producer's next call.
+ *
+ * @param <I> the unit type of the measures going into the pipeline
+ */
+public final class MeasurePipeline<I extends Unit<I>> implements AutoCloseable {
+
+  private final Unit<I> inputUnit;
+  private final BlockingQueue<Batch> free;
+  private final BlockingQueue<Batch> full;
+  private final Thread thread;
+
+  // The batch being filled by the producer, or null if it needs to take a free one
+  private Batch current;
+
+  private final ConversionCache<I> inputConversion;
+
+  private volatile Throwable failure;
+  private boolean closed;
+
+  // Marks the end of the stream for the pipeline thread
+  private static final Batch END = new Batch(0);
+
+  private static final class Batch {
+    final double[] values;
+    int length;
+
+    Batch(int size) {
+      this.values = new double[size];
+    }
+  }
+
+  private interface Stage {
+    void apply(double[] values, int length);
+  }
+
+  private MeasurePipeline(Builder<I, ?> builder, MeasureSink<?> sink) {
+    this.inputUnit = builder.inputUnit;
+    this.inputConversion = new ConversionCache<>(inputUnit);
+    this.free = new ArrayBlockingQueue<>(builder.batchCount);
+    // Room for every batch and the end marker, so handing off never blocks
+    this.full = new ArrayBlockingQueue<>(builder.batchCount + 1);
+    for (int i = 0; i < builder.batchCount; i++) {
+      free.add(new Batch(builder.batchSize));
+    }
+    final Stage[] stages = builder.stages.toArray(new Stage[0]);
+    final Unit<?> outputUnit = builder.unit;
+    this.thread = new Thread(() -> run(stages, sink, outputUnit), "MeasurePipeline");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Starts building a pipeline for measures of the given unit.
+   *
+   * @param inputUnit the unit of measures offered to the pipeline
+   */
+  public static <I extends Unit<I>> Builder<I, I> from(Unit<I> inputUnit) {
+    return new Builder<>(inputUnit);
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private void run(Stage[] stages, MeasureSink sink, Unit outputUnit) {
+    try {
+      while (true) {
+        final Batch batch = full.take();
+        if (batch == END) {
+          return;
+        }
+        if (failure == null) {
+          try {
+            for (Stage stage : stages) {
+              stage.apply(batch.values, batch.length);
+            }
+            sink.accept(batch.values, batch.length, outputUnit);
+          } catch (Throwable t) {
+            // Keep recycling batches so a blocked producer wakes up and sees the failure
+            failure = t;
+          }
+        }
+        batch.length = 0;
+        free.add(batch);
+      }
+    } catch (InterruptedException e) {
+      failure = e;
+    }
+  }
+
+  /**
+   * Offers a measure to the pipeline, blocking while every batch is in flight.
+   *
+   * @param magnitude the magnitude of the measure, in terms of the pipeline's input unit
+   *
+   * @throws InterruptedException  if interrupted while waiting for a free batch
+   * @throws IllegalStateException if the pipeline is closed, or a stage or the sink has failed
+   */
+  public void offer(double magnitude) throws InterruptedException {
+    checkOpen();
+    if (current == null) {
+      current = free.take();
+    }
+    append(magnitude);
+  }
+
+  /**
+   * Offers a measure to the pipeline, converting it to the input unit and blocking while every batch is in flight.
+   *
+   * @param measure the measure
+   *
+   * @throws InterruptedException  if interrupted while waiting for a free batch
+   * @throws IllegalStateException if the pipeline is closed, or a stage or the sink has failed
+   */
+  public void offer(Quantity<I> measure) throws InterruptedException {
+    offer(inputConversion.apply(measure));
+  }
+
+  /**
+   * Offers a run of measures to the pipeline, blocking whenever every batch is in flight.
+   *
+   * @param magnitudes the magnitudes of the measures, in terms of the pipeline's input unit
+   * @param offset     the index of the first magnitude to offer
+   * @param length     the number of magnitudes to offer
+   *
+   * @throws InterruptedException  if interrupted while waiting for a free batch. Some of the measures may have
+   *                               been accepted.
+   * @throws IllegalStateException if the pipeline is closed, or a stage or the sink has failed
+   */
+  public void offer(double[] magnitudes, int offset, int length) throws InterruptedException {
+    if (offset < 0 || length < 0 || offset > magnitudes.length - length) {
+      throw new IndexOutOfBoundsException(
+          "Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + magnitudes.length);
+    }
+    checkOpen();
+    while (length > 0) {
+      if (current == null) {
+        current = free.take();
+      }
+      final int count = Math.min(length, current.values.length - current.length);
+      System.arraycopy(magnitudes, offset, current.values, current.length, count);
+      current.length += count;
+      offset += count;
+      length -= count;
+      if (current.length == current.values.length) {
+        handOff();
+      }
+    }
+  }
+
+  /**
+   * Offers a measure to the pipeline if there's room for it without waiting.
+   *
+   * @param magnitude the magnitude of the measure, in terms of the pipeline's input unit
+   *
+   * @return true if the measure was accepted, or false if every batch is in flight
+   *
+   * @throws IllegalStateException if the pipeline is closed, or a stage or the sink has failed
+   */
+  public boolean tryOffer(double magnitude) {
+    checkOpen();
+    if (current == null) {
+      current = free.poll();
+      if (current == null) {
+        return false;
+      }
+    }
+    append(magnitude);
+    return true;
+  }
+
+  /**
+   * Offers a measure to the pipeline if there's room for it without waiting, converting it to the input unit.
+   *
+   * @param measure the measure
+   *
+   * @return true if the measure was accepted, or false if every batch is in flight
+   *
+   * @throws IllegalStateException if the pipeline is closed, or a stage or the sink has failed
+   */
+  public boolean tryOffer(Quantity<I> measure) {
+    return tryOffer(inputConversion.apply(measure));
+  }
+
+  /**
+   * Hands the partly filled batch, if any, to the pipeline thread without waiting for it to fill up. Use this
+   * when the stream pauses, so the last few measures don't wait in the producer.
+   *
+   * @throws IllegalStateException if the pipeline is closed, or a stage or the sink has failed
+   */
+  public void flush() {
+    checkOpen();
+    if (current != null && current.length > 0) {
+      handOff();
+    }
+  }
+
+  /**
+   * Gets the unit of measures offered to the pipeline.
+   */
+  public Unit<I> inputUnit() {
+    return inputUnit;
+  }
+
+  /**
+   * Flushes any remaining measures, then waits for the pipeline thread to pass them to the sink and stop. Closing
+   * a closed pipeline has no effect.
+   *
+   * @throws IllegalStateException if a stage or the sink failed, or if interrupted while waiting for the pipeline
+   *                               thread. The thread's interrupt status is restored before throwing.
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    if (current != null && current.length > 0) {
+      handOff();
+    }
+    closed = true;
+    full.add(END);
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the pipeline thread", e);
+    }
+    checkFailure();
+  }
+
+  private void append(double magnitude) {
+    current.values[current.length++] = magnitude;
+    if (current.length == current.values.length) {
+      handOff();
+    }
+  }
+
+  private void handOff() {
+    // Never blocks: the queue has room for every batch
+    full.add(current);
+    current = null;
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("Pipeline is closed");
+    }
+    checkFailure();
+  }
+
+  private void checkFailure() {
+    final Throwable t = failure;
+    if (t != null) {
+      throw new IllegalStateException("Pipeline failed", t);
+    }
+  }
+
+  /**
+   * Assembles the stages of a {@link MeasurePipeline}. Each stage works on measures of the unit produced by the
+   * stage before it.
+   *
+   * @param <I> the unit type of the measures going into the pipeline
+   * @param <O> the unit type of the measures produced by the stages so far
+   */
+  public static final class Builder<I extends Unit<I>, O extends Unit<O>> {
+
+    private final Unit<I> inputUnit;
+    private final List<Stage> stages;
+    private Unit<O> unit;
+    private int batchSize = 256;
+    private int batchCount = 4;
+
+    @SuppressWarnings("unchecked")
+    private Builder(Unit<I> inputUnit) {
+      this.inputUnit = Objects.requireNonNull(inputUnit, "Input unit cannot be null");
+      this.stages = new ArrayList<>();
+      this.unit = (Unit<O>) inputUnit;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V extends Unit<V>> Builder<I, V> then(Stage stage, Unit<V> unit) {
+      stages.add(stage);
+      final Builder<I, V> next = (Builder<I, V>) this;
+      next.unit = unit;
+      return next;
+    }
+
+    /**
+     * Adds a stage that converts measures to another unit of the same type.
+     *
+     * @param unit the unit to convert to
+     */
+    public Builder<I, O> convert(Unit<O> unit) {
+      Objects.requireNonNull(unit, "Unit cannot be null");
+      if (unit == this.unit) {
+        return this;
+      }
+      final Conversion conversion = unit.conversionFrom(this.unit);
+      return then((values, length) -> conversion.apply(values, 0, values, 0, length), unit);
+    }
+
+    /**
+     * Adds a stage that passes measures through a filter. Measures are converted to the filter's unit first if
+     * needed. The filter is only used by the pipeline thread, so it must not be used elsewhere while the pipeline
+     * runs.
+     *
+     * @param filter the filter
+     */
+    public Builder<I, O> filter(MeasureFilter<O> filter) {
+      convert(filter.unit());
+      return then((values, length) -> {
+        for (int i = 0; i < length; i++) {
+          values[i] = filter.calculate(values[i]);
+        }
+      }, filter.unit());
+    }
+
+    /**
+     * Adds a stage that maps each measure to a measure of another unit, which may be a different type; eg current
+     * to power at a fixed voltage.
+     *
+     * @param unit     the unit of the mapped measures
+     * @param function maps a magnitude in the current unit to a magnitude in the new unit
+     */
+    public <V extends Unit<V>> Builder<I, V> map(Unit<V> unit, DoubleUnaryOperator function) {
+      Objects.requireNonNull(unit, "Unit cannot be null");
+      Objects.requireNonNull(function, "Function cannot be null");
+      return then((values, length) -> {
+        for (int i = 0; i < length; i++) {
+          values[i] = function.applyAsDouble(values[i]);
+        }
+      }, unit);
+    }
+
+    /**
+     * Sets the number of measures per batch. Defaults to 256.
+     */
+    public Builder<I, O> batchSize(int batchSize) {
+      if (batchSize < 1) {
+        throw new IllegalArgumentException("Batch size must be positive, but was " + batchSize);
+      }
+      this.batchSize = batchSize;
+      return this;
+    }
+
+    /**
+     * Sets the number of batches that can be in flight at once, which bounds how far the producer can get ahead of
+     * the sink. Defaults to 4.
+     */
+    public Builder<I, O> batchCount(int batchCount) {
+      if (batchCount < 1) {
+        throw new IllegalArgumentException("Batch count must be positive, but was " + batchCount);
+      }
+      this.batchCount = batchCount;
+      return this;
+    }
+
+    /**
+     * Starts a pipeline that runs the stages on a new daemon thread and passes the results to a sink.
+     *
+     * @param sink the sink
+     */
+    public MeasurePipeline<I> start(MeasureSink<O> sink) {
+      return new MeasurePipeline<>(this, Objects.requireNonNull(sink, "Sink cannot be null"));
+    }
+
+  }
+
+}
@@ -0,0 +1,21 @@
+package edu.wpi.first.wpilib.units;
+
+/**
+ * The end of a {@link MeasurePipeline}, which receives measures in batches of raw magnitudes that share a unit.
+ *
+ * @param <U> the unit type of the measures
+ */
+@FunctionalInterface
+public interface MeasureSink<U extends Unit<U>> {
+
+  /**
+   * Accepts a batch of measures. The array belongs to the pipeline and is reused for later batches once this
+   * returns, so its contents must be copied if they're needed afterwards.
+   *
+   * @param magnitudes the magnitudes of the measures, in {@code [0, length)}
+   * @param length     the number of measures in the batch
+   * @param unit       the unit of the magnitudes
+   */
+  void accept(double[] magnitudes, int length, Unit<U> unit);
+
+}
@@ -0,0 +1,273 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Running statistics over a stream of measures: count, sum, mean, variance, minimum and maximum, in constant
+ * memory. The mean and variance are updated with Welford's algorithm and the sum with compensated summation, so
+ * they stay accurate over long streams. Adding a measure does not allocate.
+ *
+ * <p>Statistics are kept in a unit fixed when they're created; measures of other units are converted through a
+ * conversion that is looked up once and reused while the input unit stays the same. Results can be read in any unit
+ * of the same type.
+ *
+ * <p>Statistics are not thread safe. To gather statistics from several threads, give each thread its own instance
+ * and {@link #merge(MeasureStatistics) merge} them, or {@link #copy() copy} one to take a snapshot.
+ *
+ * @param <U> the unit type of the measures
+ */
+public final class MeasureStatistics<U extends Unit<U>> {
+
+  private final Unit<U> unit;
+
+  private final ConversionCache<U> inputConversion;
+
+  private long count;
+  private double mean;
+  private double m2;
+  private double sum;
+  private double sumCompensation;
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+
+  /**
+   * Creates new, empty statistics.
+   *
+   * @param unit the unit to keep the statistics in
+   */
+  public MeasureStatistics(Unit<U> unit) {
+    this.unit = Objects.requireNonNull(unit, "Unit cannot be null");
+    this.inputConversion = new ConversionCache<>(unit);
+  }
+
+  /**
+   * Creates a copy of some statistics, which can be read while the original is still being updated.
+   */
+  public MeasureStatistics<U> copy() {
+    MeasureStatistics<U> copy = new MeasureStatistics<>(unit);
+    copy.count = count;
+    copy.mean = mean;
+    copy.m2 = m2;
+    copy.sum = sum;
+    copy.sumCompensation = sumCompensation;
+    copy.min = min;
+    copy.max = max;
+    return copy;
+  }
+
+  /**
+   * Gets the unit the statistics are kept in.
+   */
+  public Unit<U> unit() {
+    return unit;
+  }
+
+  /**
+   * Adds a magnitude to the statistics.
+   *
+   * @param magnitude the magnitude, in terms of the statistics' unit
+   */
+  public void add(double magnitude) {
+    count++;
+    final double delta = magnitude - mean;
+    mean += delta / count;
+    m2 += delta * (magnitude - mean);
+    addToSum(magnitude);
+    if (magnitude < min) {
+      min = magnitude;
+    }
+    if (magnitude > max) {
+      max = magnitude;
+    }
+  }
+
+  /**
+   * Adds a measure to the statistics, converting it to the statistics' unit.
+   *
+   * @param measure the measure to add
+   */
+  public void add(Quantity<U> measure) {
+    add(inputConversion.apply(measure));
+  }
+
+  /**
+   * Adds all the measures counted by other statistics to these ones, as if they had been added here directly.
+   * The other statistics are unchanged.
+   *
+   * @param other the statistics to merge into these ones
+   *
+   * @throws IllegalArgumentException if the other statistics are kept in a nonlinear unit that differs from the
+   *                                  unit of these ones
+   */
+  public void merge(MeasureStatistics<U> other) {
+    if (other.count == 0) {
+      return;
+    }
+    final Conversion conversion = unit.conversionFrom(other.unit);
+    if (!conversion.isAffine()) {
+      throw new IllegalArgumentException("Cannot merge statistics kept in a nonlinear unit");
+    }
+    final double factor = conversion.factor();
+    final double otherMean = conversion.apply(other.mean);
+    final double otherM2 = other.m2 * factor * factor;
+    final double otherMin = conversion.apply(factor < 0 ? other.max : other.min);
+    final double otherMax = conversion.apply(factor < 0 ? other.min : other.max);
+
+    // Chan et al.'s parallel variance update
+    final long total = count + other.count;
+    final double delta = otherMean - mean;
+    mean += delta * other.count / total;
+    m2 += otherM2 + delta * delta * ((double) count * other.count / total);
+    count = total;
+
+    addToSum((other.sum + other.sumCompensation) * factor + other.count * conversion.offset());
+    min = Math.min(min, otherMin);
+    max = Math.max(max, otherMax);
+  }
+
+  /**
+   * Forgets all measures.
+   */
+  public void reset() {
+    count = 0;
+    mean = 0;
+    m2 = 0;
+    sum = 0;
+    sumCompensation = 0;
+    min = Double.POSITIVE_INFINITY;
+    max = Double.NEGATIVE_INFINITY;
+  }
+
+  /**
+   * Gets the number of measures added.
+   */
+  public long count() {
+    return count;
+  }
+
+  /**
+   * Gets the sum of the measures.
+   */
+  public Measure<U> sum() {
+    return unit.of(sum + sumCompensation);
+  }
+
+  /**
+   * Gets the sum of the measures, in terms of the given unit. For units with an offset, such as degrees
+   * Fahrenheit, each measure is converted before summing.
+   *
+   * @param unit the unit of the result
+   *
+   * @throws IllegalArgumentException if the statistics' unit or the given unit is nonlinear and they differ
+   */
+  public double sum(Unit<U> unit) {
+    final Conversion conversion = unit.conversionFrom(this.unit);
+    if (conversion.isAffine()) {
+      return (sum + sumCompensation) * conversion.factor() + count * conversion.offset();
+    }
+    throw new IllegalArgumentException("Cannot convert a sum to a nonlinear unit");
+  }
+
+  /**
+   * Gets the mean of the measures.
+   *
+   * @throws NoSuchElementException if no measures have been added
+   */
+  public Measure<U> mean() {
+    return unit.of(mean(unit));
+  }
+
+  /**
+   * Gets the mean of the measures, in terms of the given unit.
+   *
+   * @param unit the unit of the result
+   *
+   * @throws NoSuchElementException if no measures have been added
+   */
+  public double mean(Unit<U> unit) {
+    checkNotEmpty();
+    return unit.convert(mean, this.unit);
+  }
+
+  /**
+   * Gets the population variance of the measures, in terms of the square of the statistics' unit.
+   *
+   * @throws NoSuchElementException if no measures have been added
+   */
+  public double variance() {
+    checkNotEmpty();
+    return m2 / count;
+  }
+
+  /**
+   * Gets the sample variance of the measures (with Bessel's correction), in terms of the square of the statistics'
+   * unit. The sample variance of a single measure is zero.
+   *
+   * @throws NoSuchElementException if no measures have been added
+   */
+  public double sampleVariance() {
+    checkNotEmpty();
+    return count > 1 ? m2 / (count - 1) : 0;
+  }
+
+  /**
+   * Gets the population standard deviation of the measures.
+   *
+   * @throws NoSuchElementException if no measures have been added
+   */
+  public Measure<U> standardDeviation() {
+    return unit.of(standardDeviation(unit));
+  }
+
+  /**
+   * Gets the population standard deviation of the measures, in terms of the given unit. Only the scale of the unit
+   * matters; offsets such as the one between Celsius and Fahrenheit don't apply to a spread of values.
+   *
+   * @param unit the unit of the result
+   *
+   * @throws NoSuchElementException if no measures have been added
+   */
+  public double standardDeviation(Unit<U> unit) {
+    final double deviation = Math.sqrt(variance());
+    return Math.abs(unit.convert(deviation, this.unit) - unit.convert(0, this.unit));
+  }
+
+  /**
+   * Gets the smallest measure.
+   *
+   * @throws NoSuchElementException if no measures have been added
+   */
+  public Measure<U> min() {
+    checkNotEmpty();
+    return unit.of(min);
+  }
+
+  /**
+   * Gets the largest measure.
+   *
+   * @throws NoSuchElementException if no measures have been added
+   */
+  public Measure<U> max() {
+    checkNotEmpty();
+    return unit.of(max);
+  }
+
+  private void addToSum(double value) {
+    // Neumaier's compensated summation
+    final double t = sum + value;
+    if (Math.abs(sum) >= Math.abs(value)) {
+      sumCompensation += (sum - t) + value;
+    } else {
+      sumCompensation += (value - t) + sum;
+    }
+    sum = t;
+  }
+
+  private void checkNotEmpty() {
+    if (count == 0) {
+      throw new NoSuchElementException("No measures have been added");
+    }
+  }
+
+}
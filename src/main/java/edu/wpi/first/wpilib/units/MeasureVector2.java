@@ -0,0 +1,220 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.Objects;
+
+/**
+ * An immutable two-dimensional vector of measures that share a single unit, such as a position on the field or a
+ * velocity. Keeping the components as raw magnitudes of one unit means a vector is one object rather than one
+ * {@link Measure} per component, and vector arithmetic converts the other operand's unit once instead of once per
+ * component.
+ *
+ * <p>Use a {@link MeasureVectorArray} to work on many vectors at once without allocating.
+ *
+ * @param <U> the unit type of the components
+ */
+public final class MeasureVector2<U extends Unit<U>> {
+
+  private final double x;
+  private final double y;
+  private final Unit<U> unit;
+
+  private MeasureVector2(double x, double y, Unit<U> unit) {
+    this.x = x;
+    this.y = y;
+    this.unit = Objects.requireNonNull(unit, "Unit cannot be null");
+  }
+
+  /**
+   * Creates a vector from magnitudes of a unit.
+   *
+   * @param x    the x component
+   * @param y    the y component
+   * @param unit the unit of the components
+   */
+  public static <U extends Unit<U>> MeasureVector2<U> of(double x, double y, Unit<U> unit) {
+    return new MeasureVector2<>(x, y, unit);
+  }
+
+  /**
+   * Creates a vector from two measures, in the unit of the x component.
+   *
+   * @param x the x component
+   * @param y the y component
+   */
+  public static <U extends Unit<U>> MeasureVector2<U> of(Quantity<U> x, Quantity<U> y) {
+    final Unit<U> unit = Unit.unitOf(x);
+    return new MeasureVector2<>(x.magnitude(), y.as(unit), unit);
+  }
+
+  /**
+   * Creates a vector with a given length pointing in a given direction.
+   *
+   * @param norm  the length of the vector
+   * @param angle the direction of the vector, counterclockwise from the x axis
+   */
+  public static <U extends Unit<U>> MeasureVector2<U> ofPolar(Quantity<U> norm, Quantity<Angle> angle) {
+    final double radians = angle.as(Units.Radians);
+    final Unit<U> unit = Unit.unitOf(norm);
+    return new MeasureVector2<>(norm.magnitude() * Math.cos(radians), norm.magnitude() * Math.sin(radians), unit);
+  }
+
+  /**
+   * Gets the x component, in terms of the vector's unit.
+   */
+  public double x() {
+    return x;
+  }
+
+  /**
+   * Gets the y component, in terms of the vector's unit.
+   */
+  public double y() {
+    return y;
+  }
+
+  /**
+   * Gets the unit of the components.
+   */
+  public Unit<U> unit() {
+    return unit;
+  }
+
+  /**
+   * Gets the x component as a measure.
+   */
+  public Measure<U> getX() {
+    return unit.of(x);
+  }
+
+  /**
+   * Gets the y component as a measure.
+   */
+  public Measure<U> getY() {
+    return unit.of(y);
+  }
+
+  /**
+   * Converts this vector to another unit of the same type.
+   *
+   * @param unit the unit to convert to
+   */
+  public MeasureVector2<U> in(Unit<U> unit) {
+    if (unit == this.unit) {
+      return this;
+    }
+    final Conversion conversion = unit.conversionFrom(this.unit);
+    return new MeasureVector2<>(conversion.apply(x), conversion.apply(y), unit);
+  }
+
+  /**
+   * Gets the length of this vector.
+   */
+  public Measure<U> norm() {
+    return unit.of(Math.sqrt(x * x + y * y));
+  }
+
+  /**
+   * Gets the direction of this vector, counterclockwise from the x axis, in radians.
+   */
+  public Measure<Angle> angle() {
+    return Units.Radians.of(Math.atan2(y, x));
+  }
+
+  /**
+   * Computes the dot product of this vector and another. The other vector is converted to this vector's unit, so
+   * the result is in terms of this vector's unit squared.
+   *
+   * @param other the other vector
+   */
+  public double dot(MeasureVector2<U> other) {
+    final MeasureVector2<U> o = other.in(unit);
+    return x * o.x + y * o.y;
+  }
+
+  /**
+   * Adds another vector to this one. The result has the same unit as this vector.
+   *
+   * @param other the vector to add
+   */
+  public MeasureVector2<U> add(MeasureVector2<U> other) {
+    final MeasureVector2<U> o = other.in(unit);
+    return new MeasureVector2<>(x + o.x, y + o.y, unit);
+  }
+
+  /**
+   * Subtracts another vector from this one. The result has the same unit as this vector.
+   *
+   * @param other the vector to subtract
+   */
+  public MeasureVector2<U> subtract(MeasureVector2<U> other) {
+    final MeasureVector2<U> o = other.in(unit);
+    return new MeasureVector2<>(x - o.x, y - o.y, unit);
+  }
+
+  /**
+   * Multiplies this vector by a constant.
+   *
+   * @param multiplier the constant to multiply by
+   */
+  public MeasureVector2<U> times(double multiplier) {
+    return new MeasureVector2<>(x * multiplier, y * multiplier, unit);
+  }
+
+  /**
+   * Negates this vector.
+   */
+  public MeasureVector2<U> negate() {
+    return new MeasureVector2<>(-x, -y, unit);
+  }
+
+  /**
+   * Rotates this vector counterclockwise about the origin.
+   *
+   * @param angle the angle to rotate by
+   */
+  public MeasureVector2<U> rotateBy(Quantity<Angle> angle) {
+    final double radians = angle.as(Units.Radians);
+    final double cos = Math.cos(radians);
+    final double sin = Math.sin(radians);
+    return new MeasureVector2<>(x * cos - y * sin, x * sin + y * cos, unit);
+  }
+
+  /**
+   * Checks if this vector is equivalent to another, ie every component is equivalent after converting to the same
+   * unit.
+   *
+   * @param other the vector to compare to
+   */
+  public boolean isEquivalent(MeasureVector2<U> other) {
+    return Math.abs(unit.toBase(x) - other.unit.toBase(other.x)) <= Measure.EQUIVALENCE_THRESHOLD
+        && Math.abs(unit.toBase(y) - other.unit.toBase(other.y)) <= Measure.EQUIVALENCE_THRESHOLD;
+  }
+
+  /**
+   * Checks for <i>object equality</i>: the same unit and components. To check if two vectors are
+   * <i>equivalent</i>, use {@link #isEquivalent(MeasureVector2) isEquivalent}.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof MeasureVector2)) {
+      return false;
+    }
+    MeasureVector2<?> v = (MeasureVector2<?>) obj;
+    return v.unit == unit && v.x == x && v.y == y;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * (31 + Double.hashCode(x)) + Double.hashCode(y)) + unit.hashCode();
+  }
+
+  /**
+   * Describes this vector with its unit symbol, eg {@code "(1.5, 2.0) ft"}.
+   */
+  @Override
+  public String toString() {
+    final String symbol = unit.symbol();
+    return "(" + x + ", " + y + ")" + (symbol.isEmpty() ? "" : " " + symbol);
+  }
+
+}
@@ -0,0 +1,242 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.Objects;
+
+/**
+ * An immutable three-dimensional vector of measures that share a single unit. See {@link MeasureVector2} for the
+ * two-dimensional version.
+ *
+ * <p>Use a {@link MeasureVectorArray} to work on many vectors at once without allocating.
+ *
+ * @param <U> the unit type of the components
+ */
+public final class MeasureVector3<U extends Unit<U>> {
+
+  private final double x;
+  private final double y;
+  private final double z;
+  private final Unit<U> unit;
+
+  private MeasureVector3(double x, double y, double z, Unit<U> unit) {
+    this.x = x;
+    this.y = y;
+    this.z = z;
+    this.unit = Objects.requireNonNull(unit, "Unit cannot be null");
+  }
+
+  /**
+   * Creates a vector from magnitudes of a unit.
+   *
+   * @param x    the x component
+   * @param y    the y component
+   * @param z    the z component
+   * @param unit the unit of the components
+   */
+  public static <U extends Unit<U>> MeasureVector3<U> of(double x, double y, double z, Unit<U> unit) {
+    return new MeasureVector3<>(x, y, z, unit);
+  }
+
+  /**
+   * Creates a vector from three measures, in the unit of the x component.
+   *
+   * @param x the x component
+   * @param y the y component
+   * @param z the z component
+   */
+  public static <U extends Unit<U>> MeasureVector3<U> of(Quantity<U> x, Quantity<U> y, Quantity<U> z) {
+    final Unit<U> unit = Unit.unitOf(x);
+    return new MeasureVector3<>(x.magnitude(), y.as(unit), z.as(unit), unit);
+  }
+
+  /**
+   * Gets the x component, in terms of the vector's unit.
+   */
+  public double x() {
+    return x;
+  }
+
+  /**
+   * Gets the y component, in terms of the vector's unit.
+   */
+  public double y() {
+    return y;
+  }
+
+  /**
+   * Gets the z component, in terms of the vector's unit.
+   */
+  public double z() {
+    return z;
+  }
+
+  /**
+   * Gets the unit of the components.
+   */
+  public Unit<U> unit() {
+    return unit;
+  }
+
+  /**
+   * Gets the x component as a measure.
+   */
+  public Measure<U> getX() {
+    return unit.of(x);
+  }
+
+  /**
+   * Gets the y component as a measure.
+   */
+  public Measure<U> getY() {
+    return unit.of(y);
+  }
+
+  /**
+   * Gets the z component as a measure.
+   */
+  public Measure<U> getZ() {
+    return unit.of(z);
+  }
+
+  /**
+   * Converts this vector to another unit of the same type.
+   *
+   * @param unit the unit to convert to
+   */
+  public MeasureVector3<U> in(Unit<U> unit) {
+    if (unit == this.unit) {
+      return this;
+    }
+    final Conversion conversion = unit.conversionFrom(this.unit);
+    return new MeasureVector3<>(conversion.apply(x), conversion.apply(y), conversion.apply(z), unit);
+  }
+
+  /**
+   * Gets the length of this vector.
+   */
+  public Measure<U> norm() {
+    return unit.of(Math.sqrt(x * x + y * y + z * z));
+  }
+
+  /**
+   * Computes the dot product of this vector and another. The other vector is converted to this vector's unit, so
+   * the result is in terms of this vector's unit squared.
+   *
+   * @param other the other vector
+   */
+  public double dot(MeasureVector3<U> other) {
+    final MeasureVector3<U> o = other.in(unit);
+    return x * o.x + y * o.y + z * o.z;
+  }
+
+  /**
+   * Adds another vector to this one. The result has the same unit as this vector.
+   *
+   * @param other the vector to add
+   */
+  public MeasureVector3<U> add(MeasureVector3<U> other) {
+    final MeasureVector3<U> o = other.in(unit);
+    return new MeasureVector3<>(x + o.x, y + o.y, z + o.z, unit);
+  }
+
+  /**
+   * Subtracts another vector from this one. The result has the same unit as this vector.
+   *
+   * @param other the vector to subtract
+   */
+  public MeasureVector3<U> subtract(MeasureVector3<U> other) {
+    final MeasureVector3<U> o = other.in(unit);
+    return new MeasureVector3<>(x - o.x, y - o.y, z - o.z, unit);
+  }
+
+  /**
+   * Multiplies this vector by a constant.
+   *
+   * @param multiplier the constant to multiply by
+   */
+  public MeasureVector3<U> times(double multiplier) {
+    return new MeasureVector3<>(x * multiplier, y * multiplier, z * multiplier, unit);
+  }
+
+  /**
+   * Negates this vector.
+   */
+  public MeasureVector3<U> negate() {
+    return new MeasureVector3<>(-x, -y, -z, unit);
+  }
+
+  /**
+   * Rotates this vector about the x axis, counterclockwise when looking down the axis towards the origin.
+   *
+   * @param angle the angle to rotate by
+   */
+  public MeasureVector3<U> rotateAroundX(Quantity<Angle> angle) {
+    final double radians = angle.as(Units.Radians);
+    final double cos = Math.cos(radians);
+    final double sin = Math.sin(radians);
+    return new MeasureVector3<>(x, y * cos - z * sin, y * sin + z * cos, unit);
+  }
+
+  /**
+   * Rotates this vector about the y axis, counterclockwise when looking down the axis towards the origin.
+   *
+   * @param angle the angle to rotate by
+   */
+  public MeasureVector3<U> rotateAroundY(Quantity<Angle> angle) {
+    final double radians = angle.as(Units.Radians);
+    final double cos = Math.cos(radians);
+    final double sin = Math.sin(radians);
+    return new MeasureVector3<>(x * cos + z * sin, y, z * cos - x * sin, unit);
+  }
+
+  /**
+   * Rotates this vector about the z axis, counterclockwise when looking down the axis towards the origin.
+   *
+   * @param angle the angle to rotate by
+   */
+  public MeasureVector3<U> rotateAroundZ(Quantity<Angle> angle) {
+    final double radians = angle.as(Units.Radians);
+    final double cos = Math.cos(radians);
+    final double sin = Math.sin(radians);
+    return new MeasureVector3<>(x * cos - y * sin, x * sin + y * cos, z, unit);
+  }
+
+  /**
+   * Checks if this vector is equivalent to another, ie every component is equivalent after converting to the same
+   * unit.
+   *
+   * @param other the vector to compare to
+   */
+  public boolean isEquivalent(MeasureVector3<U> other) {
+    return Math.abs(unit.toBase(x) - other.unit.toBase(other.x)) <= Measure.EQUIVALENCE_THRESHOLD
+        && Math.abs(unit.toBase(y) - other.unit.toBase(other.y)) <= Measure.EQUIVALENCE_THRESHOLD
+        && Math.abs(unit.toBase(z) - other.unit.toBase(other.z)) <= Measure.EQUIVALENCE_THRESHOLD;
+  }
+
+  /**
+   * Checks for <i>object equality</i>: the same unit and components. To check if two vectors are
+   * <i>equivalent</i>, use {@link #isEquivalent(MeasureVector3) isEquivalent}.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (!(obj instanceof MeasureVector3)) {
+      return false;
+    }
+    MeasureVector3<?> v = (MeasureVector3<?>) obj;
+    return v.unit == unit && v.x == x && v.y == y && v.z == z;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * (31 * (31 + Double.hashCode(x)) + Double.hashCode(y)) + Double.hashCode(z)) + unit.hashCode();
+  }
+
+  /**
+   * Describes this vector with its unit symbol, eg {@code "(1.5, 2.0, 0.0) ft"}.
+   */
+  @Override
+  public String toString() {
+    final String symbol = unit.symbol();
+    return "(" + x + ", " + y + ", " + z + ")" + (symbol.isEmpty() ? "" : " " + symbol);
+  }
+
+}
@@ -0,0 +1,419 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.Objects;
+
+/**
+ * A fixed-length array of two- or three-dimensional vectors of a single unit, stored as a struct of arrays: one
+ * {@code double[]} column per axis. Bulk operations run as plain loops over the columns, so transforming thousands
+ * of positions or velocities at once doesn't allocate a vector, or a measure, per element.
+ *
+ * <p>Bulk operations that take another array convert its components to this array's unit through a conversion
+ * that is looked up once per call. Each column can also be {@link #xs() viewed} as a {@link MeasureArray} for the
+ * scalar reductions it offers.
+ *
+ * @param <U> the unit type of the vector components
+ */
+public final class MeasureVectorArray<U extends Unit<U>> {
+
+  private final Unit<U> unit;
+  private final int length;
+  private final double[] xs;
+  private final double[] ys;
+
+  // Null for two-dimensional arrays
+  private final double[] zs;
+
+  private MeasureVectorArray(int length, int dimensions, Unit<U> unit) {
+    this.unit = Objects.requireNonNull(unit, "Unit cannot be null");
+    this.length = length;
+    this.xs = new double[length];
+    this.ys = new double[length];
+    this.zs = dimensions == 3 ? new double[length] : null;
+  }
+
+  /**
+   * Creates an array of two-dimensional vectors, all zero.
+   *
+   * @param length the number of vectors in the array
+   * @param unit   the unit of the vector components
+   */
+  public static <U extends Unit<U>> MeasureVectorArray<U> twoDimensional(int length, Unit<U> unit) {
+    return new MeasureVectorArray<>(length, 2, unit);
+  }
+
+  /**
+   * Creates an array of three-dimensional vectors, all zero.
+   *
+   * @param length the number of vectors in the array
+   * @param unit   the unit of the vector components
+   */
+  public static <U extends Unit<U>> MeasureVectorArray<U> threeDimensional(int length, Unit<U> unit) {
+    return new MeasureVectorArray<>(length, 3, unit);
+  }
+
+  /**
+   * Gets the unit of the vector components.
+   */
+  public Unit<U> unit() {
+    return unit;
+  }
+
+  /**
+   * Gets the number of vectors in this array.
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Gets the number of dimensions of the vectors in this array, either 2 or 3.
+   */
+  public int dimensions() {
+    return zs == null ? 2 : 3;
+  }
+
+  /**
+   * Gets the x component of a vector, in terms of this array's unit.
+   *
+   * @param index the index of the vector
+   */
+  public double x(int index) {
+    Magnitudes.checkIndex(index, length);
+    return xs[index];
+  }
+
+  /**
+   * Gets the y component of a vector, in terms of this array's unit.
+   *
+   * @param index the index of the vector
+   */
+  public double y(int index) {
+    Magnitudes.checkIndex(index, length);
+    return ys[index];
+  }
+
+  /**
+   * Gets the z component of a vector, in terms of this array's unit.
+   *
+   * @param index the index of the vector
+   *
+   * @throws IllegalStateException if this array is two-dimensional
+   */
+  public double z(int index) {
+    checkThreeDimensional();
+    Magnitudes.checkIndex(index, length);
+    return zs[index];
+  }
+
+  /**
+   * Sets a two-dimensional vector.
+   *
+   * @param index the index of the vector
+   * @param x     the x component, in terms of this array's unit
+   * @param y     the y component, in terms of this array's unit
+   *
+   * @throws IllegalStateException if this array is three-dimensional
+   */
+  public void set(int index, double x, double y) {
+    checkTwoDimensional();
+    Magnitudes.checkIndex(index, length);
+    xs[index] = x;
+    ys[index] = y;
+  }
+
+  /**
+   * Sets a three-dimensional vector.
+   *
+   * @param index the index of the vector
+   * @param x     the x component, in terms of this array's unit
+   * @param y     the y component, in terms of this array's unit
+   * @param z     the z component, in terms of this array's unit
+   *
+   * @throws IllegalStateException if this array is two-dimensional
+   */
+  public void set(int index, double x, double y, double z) {
+    checkThreeDimensional();
+    Magnitudes.checkIndex(index, length);
+    xs[index] = x;
+    ys[index] = y;
+    zs[index] = z;
+  }
+
+  /**
+   * Sets a two-dimensional vector, converting it to this array's unit.
+   *
+   * @param index  the index of the vector
+   * @param vector the new vector
+   *
+   * @throws IllegalStateException if this array is three-dimensional
+   */
+  public void set(int index, MeasureVector2<U> vector) {
+    final MeasureVector2<U> v = vector.in(unit);
+    set(index, v.x(), v.y());
+  }
+
+  /**
+   * Sets a three-dimensional vector, converting it to this array's unit.
+   *
+   * @param index  the index of the vector
+   * @param vector the new vector
+   *
+   * @throws IllegalStateException if this array is two-dimensional
+   */
+  public void set(int index, MeasureVector3<U> vector) {
+    final MeasureVector3<U> v = vector.in(unit);
+    set(index, v.x(), v.y(), v.z());
+  }
+
+  /**
+   * Gets a vector of a two-dimensional array.
+   *
+   * @param index the index of the vector
+   *
+   * @throws IllegalStateException if this array is three-dimensional
+   */
+  public MeasureVector2<U> getVector2(int index) {
+    checkTwoDimensional();
+    Magnitudes.checkIndex(index, length);
+    return MeasureVector2.of(xs[index], ys[index], unit);
+  }
+
+  /**
+   * Gets a vector of a three-dimensional array.
+   *
+   * @param index the index of the vector
+   *
+   * @throws IllegalStateException if this array is two-dimensional
+   */
+  public MeasureVector3<U> getVector3(int index) {
+    checkThreeDimensional();
+    Magnitudes.checkIndex(index, length);
+    return MeasureVector3.of(xs[index], ys[index], zs[index], unit);
+  }
+
+  /**
+   * Gets a view of the x components. The view shares storage with this array.
+   */
+  public MeasureArray<U> xs() {
+    return MeasureArray.wrap(xs, unit);
+  }
+
+  /**
+   * Gets a view of the y components. The view shares storage with this array.
+   */
+  public MeasureArray<U> ys() {
+    return MeasureArray.wrap(ys, unit);
+  }
+
+  /**
+   * Gets a view of the z components. The view shares storage with this array.
+   *
+   * @throws IllegalStateException if this array is two-dimensional
+   */
+  public MeasureArray<U> zs() {
+    checkThreeDimensional();
+    return MeasureArray.wrap(zs, unit);
+  }
+
+  /**
+   * Computes the length of every vector.
+   *
+   * @param out the array to store the lengths in, in terms of this array's unit
+   */
+  public void norms(double[] out) {
+    checkOutput(out);
+    if (zs == null) {
+      for (int i = 0; i < length; i++) {
+        out[i] = Math.sqrt(xs[i] * xs[i] + ys[i] * ys[i]);
+      }
+    } else {
+      for (int i = 0; i < length; i++) {
+        out[i] = Math.sqrt(xs[i] * xs[i] + ys[i] * ys[i] + zs[i] * zs[i]);
+      }
+    }
+  }
+
+  /**
+   * Computes the dot product of each vector with the vector at the same index of another array. The other
+   * array's components are converted to this array's unit, so the results are in terms of this array's unit
+   * squared.
+   *
+   * @param other the other array
+   * @param out   the array to store the dot products in
+   *
+   * @throws IllegalArgumentException if the arrays have different lengths or dimensions
+   */
+  public void dot(MeasureVectorArray<U> other, double[] out) {
+    checkCompatible(other);
+    checkOutput(out);
+    final Conversion conversion = unit.conversionFrom(other.unit);
+    for (int i = 0; i < length; i++) {
+      out[i] = xs[i] * conversion.apply(other.xs[i]) + ys[i] * conversion.apply(other.ys[i]);
+    }
+    if (zs != null) {
+      for (int i = 0; i < length; i++) {
+        out[i] += zs[i] * conversion.apply(other.zs[i]);
+      }
+    }
+  }
+
+  /**
+   * Adds the vectors of another array to the vectors at the same indices of this array, in place.
+   *
+   * @param other the vectors to add
+   *
+   * @throws IllegalArgumentException if the arrays have different lengths or dimensions
+   */
+  public void add(MeasureVectorArray<U> other) {
+    checkCompatible(other);
+    final Conversion conversion = unit.conversionFrom(other.unit);
+    addColumn(xs, other.xs, conversion, 1);
+    addColumn(ys, other.ys, conversion, 1);
+    if (zs != null) {
+      addColumn(zs, other.zs, conversion, 1);
+    }
+  }
+
+  /**
+   * Subtracts the vectors of another array from the vectors at the same indices of this array, in place.
+   *
+   * @param other the vectors to subtract
+   *
+   * @throws IllegalArgumentException if the arrays have different lengths or dimensions
+   */
+  public void subtract(MeasureVectorArray<U> other) {
+    checkCompatible(other);
+    final Conversion conversion = unit.conversionFrom(other.unit);
+    addColumn(xs, other.xs, conversion, -1);
+    addColumn(ys, other.ys, conversion, -1);
+    if (zs != null) {
+      addColumn(zs, other.zs, conversion, -1);
+    }
+  }
+
+  /**
+   * Adds a vector to every vector of a two-dimensional array, in place.
+   *
+   * @param offset the vector to add
+   *
+   * @throws IllegalStateException if this array is three-dimensional
+   */
+  public void add(MeasureVector2<U> offset) {
+    checkTwoDimensional();
+    final MeasureVector2<U> v = offset.in(unit);
+    addConstant(xs, v.x());
+    addConstant(ys, v.y());
+  }
+
+  /**
+   * Adds a vector to every vector of a three-dimensional array, in place.
+   *
+   * @param offset the vector to add
+   *
+   * @throws IllegalStateException if this array is two-dimensional
+   */
+  public void add(MeasureVector3<U> offset) {
+    checkThreeDimensional();
+    final MeasureVector3<U> v = offset.in(unit);
+    addConstant(xs, v.x());
+    addConstant(ys, v.y());
+    addConstant(zs, v.z());
+  }
+
+  /**
+   * Multiplies every vector by a constant, in place.
+   *
+   * @param multiplier the constant to multiply by
+   */
+  public void scale(double multiplier) {
+    for (int i = 0; i < length; i++) {
+      xs[i] *= multiplier;
+      ys[i] *= multiplier;
+    }
+    if (zs != null) {
+      for (int i = 0; i < length; i++) {
+        zs[i] *= multiplier;
+      }
+    }
+  }
+
+  /**
+   * Rotates every vector counterclockwise about the z axis (the origin, for two-dimensional vectors), in place.
+   *
+   * @param angle the angle to rotate by
+   */
+  public void rotate(Quantity<Angle> angle) {
+    final double radians = angle.as(Units.Radians);
+    final double cos = Math.cos(radians);
+    final double sin = Math.sin(radians);
+    for (int i = 0; i < length; i++) {
+      final double x = xs[i];
+      final double y = ys[i];
+      xs[i] = x * cos - y * sin;
+      ys[i] = x * sin + y * cos;
+    }
+  }
+
+  /**
+   * Rotates each vector counterclockwise about the z axis by the angle at the same index of an array of angles, in
+   * place; eg to turn robot-relative velocities into field-relative ones using the heading at each sample.
+   *
+   * @param angles the angles to rotate by
+   *
+   * @throws IllegalArgumentException if the arrays have different lengths
+   */
+  public void rotate(MeasureArray<Angle> angles) {
+    if (angles.length() != length) {
+      throw new IllegalArgumentException("Expected " + length + " angles, but there are " + angles.length());
+    }
+    final Conversion toRadians = Units.Radians.conversionFrom(angles.unit());
+    for (int i = 0; i < length; i++) {
+      final double radians = toRadians.apply(angles.magnitude(i));
+      final double cos = Math.cos(radians);
+      final double sin = Math.sin(radians);
+      final double x = xs[i];
+      final double y = ys[i];
+      xs[i] = x * cos - y * sin;
+      ys[i] = x * sin + y * cos;
+    }
+  }
+
+  private void addColumn(double[] column, double[] other, Conversion conversion, double sign) {
+    for (int i = 0; i < length; i++) {
+      column[i] += sign * conversion.apply(other[i]);
+    }
+  }
+
+  private void addConstant(double[] column, double value) {
+    for (int i = 0; i < length; i++) {
+      column[i] += value;
+    }
+  }
+
+  private void checkCompatible(MeasureVectorArray<U> other) {
+    if (other.length != length || other.dimensions() != dimensions()) {
+      throw new IllegalArgumentException(
+          "Expected " + length + " vectors of " + dimensions() + " dimensions, but got " + other.length
+              + " of " + other.dimensions());
+    }
+  }
+
+  private void checkOutput(double[] out) {
+    if (out.length < length) {
+      throw new IllegalArgumentException("Output array needs room for " + length + " values, but has " + out.length);
+    }
+  }
+
+  private void checkTwoDimensional() {
+    if (zs != null) {
+      throw new IllegalStateException("Array is three-dimensional");
+    }
+  }
+
+  private void checkThreeDimensional() {
+    if (zs == null) {
+      throw new IllegalStateException("Array is two-dimensional");
+    }
+  }
+
+}
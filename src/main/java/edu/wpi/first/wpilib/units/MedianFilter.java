@@ -0,0 +1,177 @@
+package edu.wpi.first.wpilib.units;
+
+/**
+ * Outputs the median of the most recent inputs over a fixed-size window, which rejects short spikes that an average
+ * would smear out. Until the window fills up, the median is over the inputs seen so far.
+ *
+ * <p>The window is split between a max-heap of its lower half and a min-heap of its upper half, so the median is
+ * always at the top of the heaps. Each heap entry is the index of an input in a ring buffer, and every slot of the
+ * ring buffer knows where it is in the heaps, so the oldest input can be replaced in place. Each input costs
+ * O(log n) time for a window of n inputs.
+ *
+ * @param <U> the unit type of the filtered measures
+ */
+public final class MedianFilter<U extends Unit<U>> extends MeasureFilter<U> {
+
+  private final double[] values;
+
+  // Ring buffer slots in each heap. The lower heap holds the same number of slots as the upper one, or one more
+  private final int[] lower;
+  private final int[] upper;
+  private int lowerSize;
+  private int upperSize;
+
+  // The index of each slot in its heap, encoded as ~index for slots in the upper heap
+  private final int[] positions;
+
+  private int next;
+  private int count;
+
+  /**
+   * Creates a new median filter.
+   *
+   * @param unit the unit the filter works in
+   * @param size the number of inputs to take the median of
+   */
+  public MedianFilter(Unit<U> unit, int size) {
+    super(unit);
+    if (size <= 0) {
+      throw new IllegalArgumentException("Window size must be positive, but was " + size);
+    }
+    this.values = new double[size];
+    this.lower = new int[size];
+    this.upper = new int[size];
+    this.positions = new int[size];
+  }
+
+  @Override
+  protected double filter(double magnitude) {
+    final int slot = next;
+    if (count == values.length) {
+      remove(slot);
+    } else {
+      count++;
+    }
+    values[slot] = magnitude;
+    insert(slot);
+    next = next + 1 == values.length ? 0 : next + 1;
+
+    if (lowerSize > upperSize) {
+      return values[lower[0]];
+    }
+    return (values[lower[0]] + values[upper[0]]) / 2;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    next = 0;
+    count = 0;
+    lowerSize = 0;
+    upperSize = 0;
+  }
+
+  private void insert(int slot) {
+    if (lowerSize == 0 || values[slot] <= values[lower[0]]) {
+      lower[lowerSize] = slot;
+      positions[slot] = lowerSize;
+      siftUp(true, lowerSize++);
+    } else {
+      upper[upperSize] = slot;
+      positions[slot] = ~upperSize;
+      siftUp(false, upperSize++);
+    }
+    rebalance();
+  }
+
+  private void remove(int slot) {
+    final int position = positions[slot];
+    if (position >= 0) {
+      removeAt(true, position);
+    } else {
+      removeAt(false, ~position);
+    }
+    rebalance();
+  }
+
+  private void rebalance() {
+    if (lowerSize > upperSize + 1) {
+      final int slot = lower[0];
+      removeAt(true, 0);
+      upper[upperSize] = slot;
+      positions[slot] = ~upperSize;
+      siftUp(false, upperSize++);
+    } else if (upperSize > lowerSize) {
+      final int slot = upper[0];
+      removeAt(false, 0);
+      lower[lowerSize] = slot;
+      positions[slot] = lowerSize;
+      siftUp(true, lowerSize++);
+    }
+  }
+
+  private void removeAt(boolean isLower, int index) {
+    final int[] heap = isLower ? lower : upper;
+    final int last = isLower ? --lowerSize : --upperSize;
+    if (index == last) {
+      return;
+    }
+    set(isLower, index, heap[last]);
+    siftUp(isLower, index);
+    siftDown(isLower, index);
+  }
+
+  private void siftUp(boolean isLower, int index) {
+    final int[] heap = isLower ? lower : upper;
+    final int slot = heap[index];
+    while (index > 0) {
+      final int parent = (index - 1) >>> 1;
+      if (!before(isLower, slot, heap[parent])) {
+        break;
+      }
+      set(isLower, index, heap[parent]);
+      index = parent;
+    }
+    set(isLower, index, slot);
+  }
+
+  private void siftDown(boolean isLower, int index) {
+    final int[] heap = isLower ? lower : upper;
+    final int size = isLower ? lowerSize : upperSize;
+    final int slot = heap[index];
+    while (true) {
+      int child = 2 * index + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size && before(isLower, heap[child + 1], heap[child])) {
+        child++;
+      }
+      if (!before(isLower, heap[child], slot)) {
+        break;
+      }
+      set(isLower, index, heap[child]);
+      index = child;
+    }
+    set(isLower, index, slot);
+  }
+
+  /**
+   * Checks if one slot belongs above another in a heap: larger values go first in the lower heap, and smaller
+   * values in the upper heap.
+   */
+  private boolean before(boolean isLower, int a, int b) {
+    return isLower ? values[a] > values[b] : values[a] < values[b];
+  }
+
+  private void set(boolean isLower, int index, int slot) {
+    if (isLower) {
+      lower[index] = slot;
+      positions[slot] = index;
+    } else {
+      upper[index] = slot;
+      positions[slot] = ~index;
+    }
+  }
+
+}
@@ -0,0 +1,457 @@
+package edu.wpi.first.wpilib.units;
+
+/**
+ * A rest-to-rest motion profile that moves a distance while respecting velocity and acceleration limits, and
+ * optionally a jerk limit.
+ *
+ * <p>{@link #trapezoidal(Quantity, Quantity, Quantity) Trapezoidal} profiles accelerate at the limit, cruise, and
+ * decelerate at the limit. {@link #sCurve(Quantity, Quantity, Quantity, Quantity) S-curve} profiles also limit
+ * jerk, which splits the move into seven segments and ramps the acceleration in and out of each phase. Moves too
+ * short to reach a limit use the fastest profile that stays within it.
+ *
+ * <p>The distance and limits can be given in any units; they are converted to meters and seconds once, when the
+ * profile is created. Profiles are immutable. Sampling one writes into a caller-supplied {@link MutableState} and
+ * does not allocate, and {@link #precompute(double, double[], double[], double[]) precompute} fills primitive
+ * arrays with a whole profile at a fixed period for playback.
+ */
+public final class MotionProfile {
+
+  private static final long JERK = Dimension.of(1, -3, 0, 0, 0, 0);
+
+  // Sign of the move; segments are computed for the absolute distance
+  private final double direction;
+  private final double distance;
+  private final double duration;
+
+  // The state at the start of each segment, in meters and seconds. Trapezoidal profiles have three segments and no
+  // jerk; S-curves have seven
+  private final double[] startTimes;
+  private final double[] startPositions;
+  private final double[] startVelocities;
+  private final double[] startAccelerations;
+  private final double[] jerks;
+
+  private MotionProfile(double distance, double[] durations, double[] accelerations, double[] jerks) {
+    this.direction = distance < 0 ? -1 : 1;
+    this.distance = Math.abs(distance);
+    final int count = durations.length;
+    this.startTimes = new double[count];
+    this.startPositions = new double[count];
+    this.startVelocities = new double[count];
+    this.startAccelerations = accelerations;
+    this.jerks = jerks;
+    double t = 0;
+    double p = 0;
+    double v = 0;
+    for (int i = 0; i < count; i++) {
+      startTimes[i] = t;
+      startPositions[i] = p;
+      startVelocities[i] = v;
+      final double dt = durations[i];
+      final double a = accelerations[i];
+      final double j = jerks[i];
+      p += v * dt + a * dt * dt / 2 + j * dt * dt * dt / 6;
+      v += a * dt + j * dt * dt / 2;
+      t += dt;
+    }
+    this.duration = t;
+  }
+
+  /**
+   * Creates a trapezoidal profile.
+   *
+   * @param distance        the distance to move; negative to move backwards
+   * @param maxVelocity     the velocity limit
+   * @param maxAcceleration the acceleration limit, used for both speeding up and slowing down
+   *
+   * @throws IllegalArgumentException if a limit is not positive and finite, or the distance is not finite
+   */
+  public static MotionProfile trapezoidal(Quantity<Distance> distance,
+                                          Quantity<Velocity> maxVelocity,
+                                          Quantity<Acceleration> maxAcceleration) {
+    final double d = toCoherentDistance(distance);
+    final double v = toCoherentLimit(maxVelocity, "Velocity limit");
+    final double a = toCoherentLimit(maxAcceleration, "Acceleration limit");
+    final double length = Math.abs(d);
+
+    final double cruiseVelocity = Math.min(v, Math.sqrt(length * a));
+    final double accelerationTime = cruiseVelocity / a;
+    final double cruiseTime = cruiseVelocity > 0 ? (length - cruiseVelocity * accelerationTime) / cruiseVelocity : 0;
+    return new MotionProfile(
+        d,
+        new double[] {accelerationTime, Math.max(cruiseTime, 0), accelerationTime},
+        new double[] {a, 0, -a},
+        new double[3]);
+  }
+
+  /**
+   * Creates an S-curve profile.
+   *
+   * @param distance        the distance to move; negative to move backwards
+   * @param maxVelocity     the velocity limit
+   * @param maxAcceleration the acceleration limit, used for both speeding up and slowing down
+   * @param maxJerk         the jerk limit, a measure of length per time cubed; eg
+   *                        {@code Units.MetersPerSecondPerSecond.of(20).per(Units.Seconds.of(1))}
+   *
+   * @throws IllegalArgumentException if a limit is not positive and finite, the distance is not finite, or the jerk
+   *                                  limit has the wrong dimension
+   */
+  public static MotionProfile sCurve(Quantity<Distance> distance,
+                                     Quantity<Velocity> maxVelocity,
+                                     Quantity<Acceleration> maxAcceleration,
+                                     Quantity<?> maxJerk) {
+    if (maxJerk.unit().dimension() != JERK) {
+      throw new IllegalArgumentException(
+          "Jerk must be " + Dimension.toString(JERK) + ", not " + Dimension.toString(maxJerk.unit().dimension()));
+    }
+    final double d = toCoherentDistance(distance);
+    final double v = toCoherentLimit(maxVelocity, "Velocity limit");
+    final double a = toCoherentLimit(maxAcceleration, "Acceleration limit");
+    final double j = toCoherentLimit(maxJerk, "Jerk limit");
+    final double length = Math.abs(d);
+
+    // Speeding up to a peak velocity and slowing back down covers the peak velocity times the time spent speeding
+    // up, since the velocity curve is symmetric. Use the velocity limit if that fits in the distance, otherwise
+    // solve for the peak velocity that covers exactly the distance
+    double peakVelocity = v;
+    if (peakVelocity * accelerationPhaseTime(peakVelocity, a, j) > length) {
+      // Peak velocity if the acceleration limit is never reached: v * 2 * sqrt(v / j) = d
+      peakVelocity = Math.cbrt(length * length * j / 4);
+      if (peakVelocity > a * a / j) {
+        // The acceleration limit is reached: v * (v / a + a / j) = d
+        final double b = a * a / j;
+        peakVelocity = (Math.sqrt(b * b + 4 * length * a) - b) / 2;
+      }
+    }
+
+    final double jerkTime = Math.min(a / j, Math.sqrt(peakVelocity / j));
+    final double peakAcceleration = j * jerkTime;
+    final double constantTime = peakAcceleration > 0 ? Math.max(peakVelocity / peakAcceleration - jerkTime, 0) : 0;
+    final double cruiseTime =
+        peakVelocity > 0 ? Math.max((length - peakVelocity * (2 * jerkTime + constantTime)) / peakVelocity, 0) : 0;
+    return new MotionProfile(
+        d,
+        new double[] {jerkTime, constantTime, jerkTime, cruiseTime, jerkTime, constantTime, jerkTime},
+        new double[] {0, peakAcceleration, peakAcceleration, 0, 0, -peakAcceleration, -peakAcceleration},
+        new double[] {j, 0, -j, 0, -j, 0, j});
+  }
+
+  private static double accelerationPhaseTime(double velocity, double acceleration, double jerk) {
+    if (velocity >= acceleration * acceleration / jerk) {
+      return velocity / acceleration + acceleration / jerk;
+    } else {
+      return 2 * Math.sqrt(velocity / jerk);
+    }
+  }
+
+  private static double toCoherentDistance(Quantity<Distance> distance) {
+    final double d = Unit.unitOf(distance).toCoherent(distance.magnitude());
+    if (!Double.isFinite(d)) {
+      throw new IllegalArgumentException("Distance must be finite, but was " + distance);
+    }
+    return d;
+  }
+
+  private static double toCoherentLimit(Quantity<?> limit, String name) {
+    final double value = limit.unit().toCoherent(limit.magnitude());
+    if (!(value > 0) || Double.isInfinite(value)) {
+      throw new IllegalArgumentException(name + " must be positive and finite, but was " + limit);
+    }
+    return value;
+  }
+
+  /**
+   * Gets the time the profile takes, in seconds.
+   */
+  public double totalTime() {
+    return duration;
+  }
+
+  /**
+   * Gets the time the profile takes.
+   */
+  public Measure<Time> duration() {
+    return Units.Seconds.of(duration);
+  }
+
+  /**
+   * Gets the distance the profile moves, negative if it moves backwards.
+   */
+  public Measure<Distance> distance() {
+    return Units.Meters.of(direction * distance);
+  }
+
+  /**
+   * Samples the profile. Times before the start of the profile are at rest at the start, and times after the end
+   * are at rest at the end.
+   *
+   * @param seconds the time since the start of the profile, in seconds
+   * @param state   the state to store the sample in
+   *
+   * @return the state, for chaining
+   */
+  public MutableState sample(double seconds, MutableState state) {
+    if (!(seconds > 0)) {
+      return state.set(seconds, 0, 0, 0);
+    }
+    if (seconds >= duration) {
+      return state.set(seconds, direction * distance, 0, 0);
+    }
+    int segment = startTimes.length - 1;
+    while (startTimes[segment] > seconds) {
+      segment--;
+    }
+    return evaluate(segment, seconds, state);
+  }
+
+  /**
+   * Samples the profile. Times before the start of the profile are at rest at the start, and times after the end
+   * are at rest at the end.
+   *
+   * @param time  the time since the start of the profile
+   * @param state the state to store the sample in
+   *
+   * @return the state, for chaining
+   */
+  public MutableState sample(Quantity<Time> time, MutableState state) {
+    return sample(Unit.unitOf(time).toCoherent(time.magnitude()), state);
+  }
+
+  /**
+   * Gets the number of samples {@link #precompute(double, double[], double[], double[]) precompute} writes for a
+   * period: one at the start, one for every full period after it, and one at the end if the end falls between
+   * periods.
+   *
+   * @param periodSeconds the time between samples, in seconds
+   */
+  public int sampleCount(double periodSeconds) {
+    if (!(periodSeconds > 0) || Double.isInfinite(periodSeconds)) {
+      throw new IllegalArgumentException("Period must be positive and finite, but was " + periodSeconds + " s");
+    }
+    final long full = (long) Math.floor(duration / periodSeconds);
+    final long count = full + 1 + (full * periodSeconds < duration ? 1 : 0);
+    if (count > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "Period " + periodSeconds + " s is too short for a profile of " + duration + " s");
+    }
+    return (int) count;
+  }
+
+  /**
+   * Gets the number of samples {@link #precompute(Quantity, double[], double[], double[]) precompute} writes for a
+   * period.
+   *
+   * @param period the time between samples
+   *
+   * @see #sampleCount(double)
+   */
+  public int sampleCount(Quantity<Time> period) {
+    return sampleCount(toCoherentLimit(period, "Period"));
+  }
+
+  /**
+   * Samples the whole profile at a fixed period, for playback. Sample {@code i} is at {@code i * period}, except
+   * the last, which is at the end of the profile. Positions are in meters, velocities in meters per second and
+   * accelerations in meters per second per second.
+   *
+   * @param period        the time between samples
+   * @param positions     the array to store positions in, or null to skip them
+   * @param velocities    the array to store velocities in, or null to skip them
+   * @param accelerations the array to store accelerations in, or null to skip them
+   *
+   * @return the number of samples written
+   *
+   * @throws IllegalArgumentException if an array is too short for {@link #sampleCount(Quantity) sampleCount} samples
+   */
+  public int precompute(Quantity<Time> period, double[] positions, double[] velocities, double[] accelerations) {
+    return precompute(toCoherentLimit(period, "Period"), positions, velocities, accelerations);
+  }
+
+  /**
+   * Samples the whole profile at a fixed period in seconds, for playback. Sample {@code i} is at
+   * {@code i * periodSeconds}, except the last, which is at the end of the profile. Positions are in meters,
+   * velocities in meters per second and accelerations in meters per second per second.
+   *
+   * @param periodSeconds the time between samples, in seconds
+   * @param positions     the array to store positions in, or null to skip them
+   * @param velocities    the array to store velocities in, or null to skip them
+   * @param accelerations the array to store accelerations in, or null to skip them
+   *
+   * @return the number of samples written
+   *
+   * @throws IllegalArgumentException if an array is too short for {@link #sampleCount(double) sampleCount} samples
+   */
+  public int precompute(double periodSeconds, double[] positions, double[] velocities, double[] accelerations) {
+    final int count = sampleCount(periodSeconds);
+    checkOutput(positions, count);
+    checkOutput(velocities, count);
+    checkOutput(accelerations, count);
+    final double dt = periodSeconds;
+    int segment = 0;
+    for (int i = 0; i < count; i++) {
+      double position = direction * distance;
+      double velocity = 0;
+      double acceleration = 0;
+      if (i < count - 1) {
+        final double t = i * dt;
+        // Samples are in order, so the segment only ever moves forward
+        while (segment < startTimes.length - 1 && startTimes[segment + 1] <= t) {
+          segment++;
+        }
+        final double elapsed = t - startTimes[segment];
+        final double v = startVelocities[segment];
+        final double a = startAccelerations[segment];
+        final double j = jerks[segment];
+        position = direction * (startPositions[segment] + v * elapsed + a * elapsed * elapsed / 2
+            + j * elapsed * elapsed * elapsed / 6);
+        velocity = direction * (v + a * elapsed + j * elapsed * elapsed / 2);
+        acceleration = direction * (a + j * elapsed);
+      }
+      if (positions != null) {
+        positions[i] = position;
+      }
+      if (velocities != null) {
+        velocities[i] = velocity;
+      }
+      if (accelerations != null) {
+        accelerations[i] = acceleration;
+      }
+    }
+    return count;
+  }
+
+  private MutableState evaluate(int segment, double seconds, MutableState state) {
+    final double dt = seconds - startTimes[segment];
+    final double v = startVelocities[segment];
+    final double a = startAccelerations[segment];
+    final double j = jerks[segment];
+    return state.set(
+        seconds,
+        direction * (startPositions[segment] + v * dt + a * dt * dt / 2 + j * dt * dt * dt / 6),
+        direction * (v + a * dt + j * dt * dt / 2),
+        direction * (a + j * dt));
+  }
+
+  private static void checkOutput(double[] out, int count) {
+    if (out != null && out.length < count) {
+      throw new IllegalArgumentException("Output array needs room for " + count + " samples, but has " + out.length);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "MotionProfile(" + (direction * distance) + " m in " + duration + " s, " + jerks.length + " segments)";
+  }
+
+  /**
+   * A sample of a profile: the time, position, velocity and acceleration. Values are stored in seconds and meters,
+   * and can be read in other units. Reuse one state for every sample to avoid allocating.
+   */
+  public static final class MutableState {
+
+    private double time;
+    private double position;
+    private double velocity;
+    private double acceleration;
+
+    /**
+     * Gets the time of the sample, in seconds.
+     */
+    public double time() {
+      return time;
+    }
+
+    /**
+     * Gets the position, in meters.
+     */
+    public double position() {
+      return position;
+    }
+
+    /**
+     * Gets the velocity, in meters per second.
+     */
+    public double velocity() {
+      return velocity;
+    }
+
+    /**
+     * Gets the acceleration, in meters per second per second.
+     */
+    public double acceleration() {
+      return acceleration;
+    }
+
+    /**
+     * Gets the position in a given unit.
+     *
+     * @param unit the unit to get the position in
+     */
+    public double position(Unit<Distance> unit) {
+      return unit.fromCoherent(position);
+    }
+
+    /**
+     * Gets the velocity in a given unit.
+     *
+     * @param unit the unit to get the velocity in
+     */
+    public double velocity(Unit<Velocity> unit) {
+      return unit.fromCoherent(velocity);
+    }
+
+    /**
+     * Gets the acceleration in a given unit.
+     *
+     * @param unit the unit to get the acceleration in
+     */
+    public double acceleration(Unit<Acceleration> unit) {
+      return unit.fromCoherent(acceleration);
+    }
+
+    /**
+     * Stores the position in a mutable measure, in the measure's current unit.
+     *
+     * @param result the measure to store the position in
+     */
+    public MutableMeasure<Distance> position(MutableMeasure<Distance> result) {
+      final Unit<Distance> unit = Unit.unitOf(result);
+      return result.mut_replace(unit.fromCoherent(position), unit);
+    }
+
+    /**
+     * Stores the velocity in a mutable measure, in the measure's current unit.
+     *
+     * @param result the measure to store the velocity in
+     */
+    public MutableMeasure<Velocity> velocity(MutableMeasure<Velocity> result) {
+      final Unit<Velocity> unit = Unit.unitOf(result);
+      return result.mut_replace(unit.fromCoherent(velocity), unit);
+    }
+
+    /**
+     * Stores the acceleration in a mutable measure, in the measure's current unit.
+     *
+     * @param result the measure to store the acceleration in
+     */
+    public MutableMeasure<Acceleration> acceleration(MutableMeasure<Acceleration> result) {
+      final Unit<Acceleration> unit = Unit.unitOf(result);
+      return result.mut_replace(unit.fromCoherent(acceleration), unit);
+    }
+
+    private MutableState set(double time, double position, double velocity, double acceleration) {
+      this.time = time;
+      this.position = position;
+      this.velocity = velocity;
+      this.acceleration = acceleration;
+      return this;
+    }
+
+    @Override
+    public String toString() {
+      return "t=" + time + " s, x=" + position + " m, v=" + velocity + " m/s, a=" + acceleration + " m/s/s";
+    }
+
+  }
+
+}
@@ -0,0 +1,58 @@
+package edu.wpi.first.wpilib.units;
+
+/**
+ * Averages the most recent inputs over a fixed-size window. Inputs are kept in a ring buffer and the average is
+ * updated from a running sum, so each input costs constant time regardless of the window size. Until the window
+ * fills up, the average is over the inputs seen so far.
+ *
+ * @param <U> the unit type of the filtered measures
+ */
+public final class MovingAverageFilter<U extends Unit<U>> extends MeasureFilter<U> {
+
+  private final double[] window;
+  private int next;
+  private int count;
+
+  // The running sum, recomputed from the window every time it wraps around to stop rounding errors from building up
+  private double sum;
+
+  /**
+   * Creates a new moving average filter.
+   *
+   * @param unit the unit the filter works in
+   * @param size the number of inputs to average
+   */
+  public MovingAverageFilter(Unit<U> unit, int size) {
+    super(unit);
+    if (size <= 0) {
+      throw new IllegalArgumentException("Window size must be positive, but was " + size);
+    }
+    this.window = new double[size];
+  }
+
+  @Override
+  protected double filter(double magnitude) {
+    if (count == window.length) {
+      sum -= window[next];
+    } else {
+      count++;
+    }
+    window[next] = magnitude;
+    sum += magnitude;
+    next++;
+    if (next == window.length) {
+      next = 0;
+      sum = Magnitudes.sum(window, 0, count);
+    }
+    return sum / count;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    next = 0;
+    count = 0;
+    sum = 0;
+  }
+
+}
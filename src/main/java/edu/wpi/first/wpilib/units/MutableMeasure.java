@@ -0,0 +1,219 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.Objects;
+
+/**
+ * A mutable measure, for use in tight loops where allocating a new {@link Measure} for every operation would
+ * create too much garbage. Arithmetic methods prefixed with {@code mut_} modify the measure in place and return it
+ * for chaining.
+ *
+ * <p>Mutable measures are <i>not</i> thread safe, and should not be shared or stored where an immutable measure
+ * is expected; use {@link #copy()} to get an immutable snapshot. Because their state can change, mutable measures
+ * use identity for {@code equals} and {@code hashCode}.
+ *
+ * @param <U> the unit type of the measure
+ */
+public final class MutableMeasure<U extends Unit<U>> implements Quantity<U> {
+
+  private double magnitude;
+  private U unit;
+
+  @SuppressWarnings("unchecked")
+  private MutableMeasure(double magnitude, Unit<U> unit) {
+    this.magnitude = magnitude;
+    this.unit = (U) Objects.requireNonNull(unit, "Unit cannot be null");
+  }
+
+  /**
+   * Creates a new mutable measure with a magnitude of zero.
+   *
+   * @param unit the unit of the measure
+   */
+  public static <U extends Unit<U>> MutableMeasure<U> zero(Unit<U> unit) {
+    return new MutableMeasure<>(0, unit);
+  }
+
+  /**
+   * Creates a new mutable measure with the given magnitude and unit.
+   *
+   * @param magnitude the magnitude of the measure
+   * @param unit      the unit of the measure
+   */
+  public static <U extends Unit<U>> MutableMeasure<U> of(double magnitude, Unit<U> unit) {
+    return new MutableMeasure<>(magnitude, unit);
+  }
+
+  /**
+   * Creates a new mutable measure with the same magnitude and unit as another quantity.
+   *
+   * @param quantity the quantity to copy
+   */
+  public static <U extends Unit<U>> MutableMeasure<U> mutableCopyOf(Quantity<U> quantity) {
+    return new MutableMeasure<>(quantity.magnitude(), quantity.unit());
+  }
+
+  @Override
+  public double magnitude() {
+    return magnitude;
+  }
+
+  @Override
+  public U unit() {
+    return unit;
+  }
+
+  @Override
+  public double as(Unit<U> unit) {
+    if (unit == this.unit) {
+      return magnitude;
+    }
+    return unit.convert(magnitude, this.unit);
+  }
+
+  /**
+   * Sets the magnitude of this measure, keeping the current unit.
+   *
+   * @param magnitude the new magnitude
+   *
+   * @return this measure
+   */
+  public MutableMeasure<U> mut_setMagnitude(double magnitude) {
+    this.magnitude = magnitude;
+    return this;
+  }
+
+  /**
+   * Replaces the magnitude and unit of this measure.
+   *
+   * @param magnitude the new magnitude
+   * @param unit      the new unit
+   *
+   * @return this measure
+   */
+  @SuppressWarnings("unchecked")
+  public MutableMeasure<U> mut_replace(double magnitude, Unit<U> unit) {
+    this.magnitude = magnitude;
+    this.unit = (U) Objects.requireNonNull(unit, "Unit cannot be null");
+    return this;
+  }
+
+  /**
+   * Replaces the magnitude and unit of this measure with those of another quantity.
+   *
+   * @param other the quantity to copy
+   *
+   * @return this measure
+   */
+  public MutableMeasure<U> mut_replace(Quantity<U> other) {
+    return mut_replace(other.magnitude(), other.unit());
+  }
+
+  /**
+   * Adds another quantity to this measure, keeping the current unit.
+   *
+   * @param other the quantity to add
+   *
+   * @return this measure
+   */
+  public MutableMeasure<U> mut_add(Quantity<U> other) {
+    return mut_add(other.magnitude(), other.unit());
+  }
+
+  /**
+   * Adds a magnitude of some unit to this measure, keeping the current unit.
+   *
+   * @param magnitude the magnitude to add
+   * @param unit      the unit of the magnitude to add
+   *
+   * @return this measure
+   */
+  public MutableMeasure<U> mut_add(double magnitude, Unit<U> unit) {
+    this.magnitude += this.unit.convert(magnitude, unit);
+    return this;
+  }
+
+  /**
+   * Subtracts another quantity from this measure, keeping the current unit.
+   *
+   * @param other the quantity to subtract
+   *
+   * @return this measure
+   */
+  public MutableMeasure<U> mut_subtract(Quantity<U> other) {
+    return mut_subtract(other.magnitude(), other.unit());
+  }
+
+  /**
+   * Subtracts a magnitude of some unit from this measure, keeping the current unit.
+   *
+   * @param magnitude the magnitude to subtract
+   * @param unit      the unit of the magnitude to subtract
+   *
+   * @return this measure
+   */
+  public MutableMeasure<U> mut_subtract(double magnitude, Unit<U> unit) {
+    this.magnitude -= this.unit.convert(magnitude, unit);
+    return this;
+  }
+
+  /**
+   * Multiplies this measure by a constant.
+   *
+   * @param multiplier the constant to multiply by
+   *
+   * @return this measure
+   */
+  public MutableMeasure<U> mut_times(double multiplier) {
+    this.magnitude *= multiplier;
+    return this;
+  }
+
+  /**
+   * Divides this measure by a constant.
+   *
+   * @param divisor the constant to divide by
+   *
+   * @return this measure
+   */
+  public MutableMeasure<U> mut_divide(double divisor) {
+    this.magnitude /= divisor;
+    return this;
+  }
+
+  /**
+   * Negates this measure.
+   *
+   * @return this measure
+   */
+  public MutableMeasure<U> mut_negate() {
+    this.magnitude = -magnitude;
+    return this;
+  }
+
+  /**
+   * Converts this measure to a different unit of the same type, in place.
+   *
+   * @param unit the unit to convert to
+   *
+   * @return this measure
+   */
+  public MutableMeasure<U> mut_convertTo(Unit<U> unit) {
+    return mut_replace(as(unit), unit);
+  }
+
+  /**
+   * Creates an immutable copy of this measure.
+   */
+  public Measure<U> copy() {
+    return new Measure<>(magnitude, unit);
+  }
+
+  /**
+   * Describes the current value of this measure with its unit symbol, eg {@code "12.5 ft"}.
+   */
+  @Override
+  public String toString() {
+    return MeasureFormat.toString(this);
+  }
+
+}
@@ -0,0 +1,256 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join versions of the reductions in {@link Magnitudes}, for runs of magnitudes large enough to be worth
+ * spreading across cores. Tasks run in the pool of the calling thread if it's a fork/join worker, and in the common
+ * pool otherwise.
+ *
+ * <p>Runs are always split into the same leaves and combined in the same order, no matter how many threads take
+ * part. Sums are compensated within each leaf and the compensations are carried up the tree, so a sum is accurate to
+ * a few ulps and is the same on every run.
+ *
+ * <p>Minimums and maximums skip NaN values like the sequential versions in {@link Magnitudes}, and are only NaN if
+ * every value is NaN.
+ */
+final class ParallelMagnitudes {
+
+  // Fixed so the split points, and so the rounding of sums, depend only on the number of values
+  static final int LEAF_SIZE = 1 << 14;
+
+  private ParallelMagnitudes() {
+    // Prevent instantiation
+  }
+
+  static double sum(double[] values, int from, int to, Conversion conversion) {
+    if (conversion.isAffine()) {
+      final SumTask task = new SumTask(values, from, to, null);
+      task.invoke();
+      return task.total() * conversion.factor() + (to - from) * conversion.offset();
+    }
+    final SumTask task = new SumTask(values, from, to, conversion);
+    task.invoke();
+    return task.total();
+  }
+
+  static double mean(double[] values, int from, int to, Conversion conversion) {
+    checkNotEmpty(from, to);
+    if (conversion.isAffine()) {
+      final SumTask task = new SumTask(values, from, to, null);
+      task.invoke();
+      return conversion.apply(task.total() / (to - from));
+    }
+    return sum(values, from, to, conversion) / (to - from);
+  }
+
+  static double min(double[] values, int from, int to, Conversion conversion) {
+    checkNotEmpty(from, to);
+    if (conversion.isAffine()) {
+      // A negative factor flips the order
+      final boolean flip = conversion.factor() < 0;
+      return conversion.apply(values[extreme(values, from, to, null, flip)]);
+    }
+    return conversion.apply(values[extreme(values, from, to, conversion, false)]);
+  }
+
+  static double max(double[] values, int from, int to, Conversion conversion) {
+    checkNotEmpty(from, to);
+    if (conversion.isAffine()) {
+      final boolean flip = conversion.factor() < 0;
+      return conversion.apply(values[extreme(values, from, to, null, !flip)]);
+    }
+    return conversion.apply(values[extreme(values, from, to, conversion, true)]);
+  }
+
+  /**
+   * Finds the index of the smallest value after conversion. Ties go to the lowest index.
+   */
+  static int argMin(double[] values, int from, int to, Conversion conversion) {
+    checkNotEmpty(from, to);
+    if (conversion.isAffine()) {
+      return extreme(values, from, to, null, conversion.factor() < 0);
+    }
+    return extreme(values, from, to, conversion, false);
+  }
+
+  /**
+   * Finds the index of the largest value after conversion. Ties go to the lowest index.
+   */
+  static int argMax(double[] values, int from, int to, Conversion conversion) {
+    checkNotEmpty(from, to);
+    if (conversion.isAffine()) {
+      return extreme(values, from, to, null, conversion.factor() >= 0);
+    }
+    return extreme(values, from, to, conversion, true);
+  }
+
+  static void convert(double[] src, int srcFrom, double[] dst, int dstFrom, int length, Conversion conversion) {
+    new ConvertTask(src, srcFrom, dst, dstFrom, length, conversion).invoke();
+  }
+
+  private static int extreme(double[] values, int from, int to, Conversion conversion, boolean max) {
+    final ExtremeTask task = new ExtremeTask(values, from, to, conversion, max);
+    task.invoke();
+    return task.index;
+  }
+
+  private static void checkNotEmpty(int from, int to) {
+    if (to <= from) {
+      throw new NoSuchElementException("No values");
+    }
+  }
+
+  /**
+   * Sums a range as a compensated pair, converting each value first if there's a conversion.
+   */
+  @SuppressWarnings("serial")
+  private static final class SumTask extends RecursiveAction {
+    private final double[] values;
+    private final int from;
+    private final int to;
+    private final Conversion conversion;
+
+    double sum;
+    double compensation;
+
+    SumTask(double[] values, int from, int to, Conversion conversion) {
+      this.values = values;
+      this.from = from;
+      this.to = to;
+      this.conversion = conversion;
+    }
+
+    double total() {
+      return sum + compensation;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= LEAF_SIZE) {
+        double sum = 0;
+        double compensation = 0;
+        for (int i = from; i < to; i++) {
+          final double value = conversion == null ? values[i] : conversion.apply(values[i]);
+          final double t = sum + value;
+          if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - t) + value;
+          } else {
+            compensation += (value - t) + sum;
+          }
+          sum = t;
+        }
+        this.sum = sum;
+        this.compensation = compensation;
+        return;
+      }
+      final int middle = split(from, to);
+      final SumTask left = new SumTask(values, from, middle, conversion);
+      final SumTask right = new SumTask(values, middle, to, conversion);
+      left.fork();
+      right.compute();
+      left.join();
+      // Add the two sums exactly, keeping the rounding error with the compensations
+      final double t = left.sum + right.sum;
+      final double error = Math.abs(left.sum) >= Math.abs(right.sum)
+          ? (left.sum - t) + right.sum
+          : (right.sum - t) + left.sum;
+      sum = t;
+      compensation = left.compensation + right.compensation + error;
+    }
+  }
+
+  /**
+   * Finds the index of the smallest or largest value in a range. NaNs are skipped unless every value is NaN.
+   */
+  @SuppressWarnings("serial")
+  private static final class ExtremeTask extends RecursiveAction {
+    private final double[] values;
+    private final int from;
+    private final int to;
+    private final Conversion conversion;
+    private final boolean max;
+
+    int index;
+    double value;
+
+    ExtremeTask(double[] values, int from, int to, Conversion conversion, boolean max) {
+      this.values = values;
+      this.from = from;
+      this.to = to;
+      this.conversion = conversion;
+      this.max = max;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= LEAF_SIZE) {
+        int index = from;
+        double best = Double.NaN;
+        for (int i = from; i < to; i++) {
+          final double value = conversion == null ? values[i] : conversion.apply(values[i]);
+          if (best != best || (max ? value > best : value < best)) {
+            if (value == value) {
+              index = i;
+              best = value;
+            }
+          }
+        }
+        this.index = index;
+        this.value = best;
+        return;
+      }
+      final int middle = split(from, to);
+      final ExtremeTask left = new ExtremeTask(values, from, middle, conversion, max);
+      final ExtremeTask right = new ExtremeTask(values, middle, to, conversion, max);
+      left.fork();
+      right.compute();
+      left.join();
+      // Prefer the left half on ties, so the lowest index wins
+      final boolean useRight = left.value != left.value
+          || (right.value == right.value && (max ? right.value > left.value : right.value < left.value));
+      index = useRight ? right.index : left.index;
+      value = useRight ? right.value : left.value;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static final class ConvertTask extends RecursiveAction {
+    private final double[] src;
+    private final int srcFrom;
+    private final double[] dst;
+    private final int dstFrom;
+    private final int length;
+    private final Conversion conversion;
+
+    ConvertTask(double[] src, int srcFrom, double[] dst, int dstFrom, int length, Conversion conversion) {
+      this.src = src;
+      this.srcFrom = srcFrom;
+      this.dst = dst;
+      this.dstFrom = dstFrom;
+      this.length = length;
+      this.conversion = conversion;
+    }
+
+    @Override
+    protected void compute() {
+      if (length <= LEAF_SIZE) {
+        conversion.apply(src, srcFrom, dst, dstFrom, length);
+        return;
+      }
+      final int half = split(0, length);
+      invokeAll(new ConvertTask(src, srcFrom, dst, dstFrom, half, conversion),
+          new ConvertTask(src, srcFrom + half, dst, dstFrom + half, length - half, conversion));
+    }
+  }
+
+  /**
+   * Splits a range on a multiple of the leaf size, so leaves line up the same way at every level.
+   */
+  private static int split(int from, int to) {
+    final int leaves = (to - from + LEAF_SIZE - 1) / LEAF_SIZE;
+    return from + (leaves / 2) * LEAF_SIZE;
+  }
+
+}
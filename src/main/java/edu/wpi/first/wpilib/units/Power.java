@@ -4,7 +4,7 @@ public class Power extends Unit<Power> {
 
 
   Power(double baseUnitEquivalent) {
-    super(baseUnitEquivalent);
+    super(baseUnitEquivalent, 0, Dimension.of(2, -3, 1, 0, 0, 0), 1);
   }
 
 }
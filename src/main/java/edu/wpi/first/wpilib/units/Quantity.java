@@ -0,0 +1,50 @@
+package edu.wpi.first.wpilib.units;
+
+/**
+ * The read-only view of a magnitude and unit shared by {@link Measure immutable} and
+ * {@link MutableMeasure mutable} measures. Code that only reads measures can accept a quantity to work with both.
+ *
+ * @param <U> the unit type of the quantity
+ */
+public interface Quantity<U extends Unit<U>> extends Comparable<Quantity<U>> {
+
+  /**
+   * Gets the unitless magnitude of this quantity.
+   */
+  double magnitude();
+
+  /**
+   * Gets the units of this quantity.
+   */
+  U unit();
+
+  /**
+   * Converts this quantity to a different unit of the same type, eg minutes to seconds.
+   *
+   * @param unit the unit to convert this quantity to
+   *
+   * @return the value of this quantity in the given unit
+   */
+  default double as(Unit<U> unit) {
+    return unit.convert(magnitude(), unit());
+  }
+
+  /**
+   * Checks if this quantity is equivalent to another. Two quantities are equivalent if they have equal magnitudes
+   * when converted to the same unit, within {@link Measure#EQUIVALENCE_THRESHOLD}.
+   *
+   * @param other the quantity to compare to
+   *
+   * @return true if this quantity is equivalent to the given one, false if not
+   */
+  default boolean isEquivalent(Quantity<U> other) {
+    return Math.abs(unit().toBase(magnitude()) - other.unit().toBase(other.magnitude()))
+        <= Measure.EQUIVALENCE_THRESHOLD;
+  }
+
+  @Override
+  default int compareTo(Quantity<U> o) {
+    return Double.compare(unit().toBase(magnitude()), o.unit().toBase(o.magnitude()));
+  }
+
+}
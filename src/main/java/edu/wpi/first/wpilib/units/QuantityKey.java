@@ -0,0 +1,63 @@
+package edu.wpi.first.wpilib.units;
+
+/**
+ * A map key that identifies a measure by the physical quantity it represents rather than by its magnitude and unit.
+ * Keys are based on the magnitude of the measure in its base unit, quantized to {@link Measure#EQUIVALENCE_THRESHOLD},
+ * so equivalent measures in different units (eg 1 foot and 12 inches) produce equal keys and can share map entries.
+ *
+ * <p>Because magnitudes are quantized, two equivalent measures that happen to fall on either side of a quantization
+ * boundary produce different keys. Measures of different unit types should not be mixed in the same map, since
+ * keys only record the magnitude in the base unit.
+ *
+ * @param <U> the unit type of the measures used as keys
+ */
+public final class QuantityKey<U extends Unit<U>> {
+
+  /**
+   * The largest quantized magnitude that can be represented. Past this point the spacing between doubles is already
+   * larger than the equivalence threshold, so the base unit magnitude is used as-is.
+   */
+  private static final double MAX_QUANTIZED = 0x1p62;
+
+  private final long bits;
+  private final boolean exact;
+
+  private QuantityKey(long bits, boolean exact) {
+    this.bits = bits;
+    this.exact = exact;
+  }
+
+  /**
+   * Creates a key for the given quantity.
+   *
+   * @param quantity the quantity to create a key for
+   */
+  public static <U extends Unit<U>> QuantityKey<U> of(Quantity<U> quantity) {
+    final double base = quantity.unit().toBase(quantity.magnitude());
+    final double quantized = base / Measure.EQUIVALENCE_THRESHOLD;
+    if (Math.abs(quantized) < MAX_QUANTIZED) {
+      return new QuantityKey<>(Math.round(quantized), false);
+    } else {
+      // Too large to quantize (or NaN); doubles this large are coarser than the threshold anyway
+      return new QuantityKey<>(Double.doubleToLongBits(base), true);
+    }
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof QuantityKey)) {
+      return false;
+    }
+    QuantityKey<?> other = (QuantityKey<?>) obj;
+    return bits == other.bits && exact == other.exact;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(bits);
+  }
+
+}
@@ -1,12 +1,9 @@
 package edu.wpi.first.wpilib.units;
 
-import java.util.function.DoubleUnaryOperator;
-
 public class Temperature extends Unit<Temperature> {
 
-  Temperature(DoubleUnaryOperator toBaseConverter,
-              DoubleUnaryOperator fromBaseConverter) {
-    super(toBaseConverter, fromBaseConverter);
+  Temperature(double baseUnitEquivalent) {
+    super(baseUnitEquivalent, 0, Dimension.TEMPERATURE, 1);
   }
 
 }
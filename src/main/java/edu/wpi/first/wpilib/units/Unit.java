@@ -1,11 +1,20 @@
 package edu.wpi.first.wpilib.units;
 
+import java.nio.DoubleBuffer;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.DoubleUnaryOperator;
 
 /**
  * A unit is some unit of measurement that defines a quantity, such as grams, meters, or seconds.
  *
+ * <p>Most units are <i>affine</i> with respect to their base unit: a value {@code x} converts to the base unit as
+ * {@code x * scale + offset}. Such units keep their scale and offset explicitly, units derived from them fold the
+ * factors together when they are created, and conversions between two of them reduce to a single multiply (and add,
+ * if either unit has an offset). Units created from arbitrary conversion functions are treated as nonlinear and
+ * always go through those functions.
+ *
  * @param <U> the self type, eg {@code class SomeUnit extends Unit<SomeUnit>}
  */
 public class Unit<U extends Unit<U>> {
@@ -13,26 +22,106 @@ public class Unit<U extends Unit<U>> {
   private final DoubleUnaryOperator toBaseConverter;
   private final DoubleUnaryOperator fromBaseConverter;
 
+  private final boolean affine;
+  private final double scale;
+  private final double offset;
+
+  private final long dimension;
+  private final double coherentScale;
+
+  /**
+   * Conversions <i>to</i> this unit, keyed by the unit being converted from. Units do not override
+   * {@code equals} or {@code hashCode}, so this is effectively an identity map.
+   */
+  private final Map<Unit<U>, Conversion> conversions = new ConcurrentHashMap<>();
+
+  private final MeasureInterner<Measure<U>> interner = new MeasureInterner<>(m -> new Measure<>(m, this));
+
+  // Lazily created symbol for units that aren't in the registry
+  private volatile String unregisteredSymbol;
+
   /**
-   * Creates a new unit defined by its relationship to some base unit.
+   * Creates a new unit defined by its relationship to some base unit. The unit's dimension is
+   * {@link Dimension#UNKNOWN unknown}.
    *
    * @param toBaseConverter   a function for converting units of this type to the base unit
    * @param fromBaseConverter a function for converting units of the base unit to this one
+   *
+   * @deprecated give the unit a dimension with
+   *             {@link #Unit(DoubleUnaryOperator, DoubleUnaryOperator, long, double)}
    */
+  @Deprecated
   protected Unit(DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseConverter) {
+    this(toBaseConverter, fromBaseConverter, Dimension.UNKNOWN, 1);
+  }
+
+  /**
+   * Creates a new unit of some dimension defined by its relationship to some base unit.
+   *
+   * @param toBaseConverter   a function for converting units of this type to the base unit
+   * @param fromBaseConverter a function for converting units of the base unit to this one
+   * @param dimension         the {@link Dimension dimension vector} of this unit
+   * @param coherentScale     the size of the base unit in terms of the coherent SI unit of the dimension. For
+   *                          example, the base unit of mass is grams, which have a coherent scale of 1e-3.
+   */
+  protected Unit(DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseConverter,
+                 long dimension, double coherentScale) {
     this.toBaseConverter = Objects.requireNonNull(toBaseConverter);
     this.fromBaseConverter = Objects.requireNonNull(fromBaseConverter);
+    this.affine = false;
+    this.scale = Double.NaN;
+    this.offset = Double.NaN;
+    this.dimension = dimension;
+    this.coherentScale = coherentScale;
   }
 
   /**
-   * Creates a new unit with the given name and multiplier to the base unit.
+   * Creates a new unit with the given name and multiplier to the base unit. The unit's dimension is
+   * {@link Dimension#UNKNOWN unknown}.
    *
    * @param baseUnitEquivalent the multiplier to convert this unit to the base unit of this type. For example,
    *                           meters has a multiplier of 1, mm has a multiplier of 1e3, and km has a multiplier of 1e-3.
+   *
+   * @deprecated give the unit a dimension with {@link #Unit(double, double, long, double)}
    */
+  @Deprecated
   protected Unit(double baseUnitEquivalent) {
-    this(x -> x * baseUnitEquivalent,
-        x -> x / baseUnitEquivalent);
+    this(baseUnitEquivalent, 0);
+  }
+
+  /**
+   * Creates a new unit with an affine relationship to the base unit, such that a value {@code x} of the new unit
+   * is equivalent to {@code x * scale + offset} of the base unit. The unit's dimension is
+   * {@link Dimension#UNKNOWN unknown}.
+   *
+   * @param scale  the multiplier to convert this unit to the base unit of this type
+   * @param offset the value of the base unit that is equivalent to zero of this unit
+   *
+   * @deprecated give the unit a dimension with {@link #Unit(double, double, long, double)}
+   */
+  @Deprecated
+  protected Unit(double scale, double offset) {
+    this(scale, offset, Dimension.UNKNOWN, 1);
+  }
+
+  /**
+   * Creates a new unit of some dimension with an affine relationship to the base unit, such that a value {@code x}
+   * of the new unit is equivalent to {@code x * scale + offset} of the base unit.
+   *
+   * @param scale         the multiplier to convert this unit to the base unit of this type
+   * @param offset        the value of the base unit that is equivalent to zero of this unit
+   * @param dimension     the {@link Dimension dimension vector} of this unit
+   * @param coherentScale the size of the base unit in terms of the coherent SI unit of the dimension. For
+   *                      example, the base unit of mass is grams, which have a coherent scale of 1e-3.
+   */
+  protected Unit(double scale, double offset, long dimension, double coherentScale) {
+    this.toBaseConverter = x -> x * scale + offset;
+    this.fromBaseConverter = x -> (x - offset) / scale;
+    this.affine = true;
+    this.scale = scale;
+    this.offset = offset;
+    this.dimension = dimension;
+    this.coherentScale = coherentScale;
   }
 
   /**
@@ -42,7 +131,105 @@ public class Unit<U extends Unit<U>> {
    * @param otherUnit the unit to convert the value to
    */
   public double convert(double value, Unit<U> otherUnit) {
-    return otherUnit.toBaseConverter.andThen(this.fromBaseConverter).applyAsDouble(value);
+    if (otherUnit == this) {
+      return value;
+    }
+    return conversionFrom(otherUnit).apply(value);
+  }
+
+  /**
+   * Converts an array of values of another unit to this unit, in place. Each value is replaced by its converted
+   * value at the same index.
+   *
+   * @param values    the values to convert, measured in {@code otherUnit}
+   * @param offset    the index of the first value to convert
+   * @param length    the number of values to convert
+   * @param otherUnit the unit the values are measured in
+   */
+  public void convert(double[] values, int offset, int length, Unit<U> otherUnit) {
+    convert(values, offset, values, offset, length, otherUnit);
+  }
+
+  /**
+   * Converts an array of values of another unit to this unit, storing the results in a destination array. The
+   * source and destination may be the same array, even with overlapping ranges: like {@link System#arraycopy},
+   * every value is read before it is overwritten.
+   *
+   * @param src       the values to convert, measured in {@code otherUnit}
+   * @param srcOffset the index of the first value to convert
+   * @param dst       the array to store the converted values in
+   * @param dstOffset the index in the destination array to store the first converted value at
+   * @param length    the number of values to convert
+   * @param otherUnit the unit the values are measured in
+   */
+  public void convert(double[] src, int srcOffset, double[] dst, int dstOffset, int length, Unit<U> otherUnit) {
+    if (otherUnit == this) {
+      System.arraycopy(src, srcOffset, dst, dstOffset, length);
+      return;
+    }
+    conversionFrom(otherUnit).apply(src, srcOffset, dst, dstOffset, length);
+  }
+
+  /**
+   * Converts values of another unit spread out at regular intervals in an array to this unit, storing the results
+   * at regular intervals in a destination array.
+   *
+   * @param src       the values to convert, measured in {@code otherUnit}
+   * @param srcOffset the index of the first value to convert
+   * @param srcStride the distance between consecutive values in the source array
+   * @param dst       the array to store the converted values in
+   * @param dstOffset the index in the destination array to store the first converted value at
+   * @param dstStride the distance between consecutive values in the destination array
+   * @param count     the number of values to convert
+   * @param otherUnit the unit the values are measured in
+   */
+  public void convert(double[] src, int srcOffset, int srcStride,
+                      double[] dst, int dstOffset, int dstStride,
+                      int count, Unit<U> otherUnit) {
+    conversionFrom(otherUnit).apply(src, srcOffset, srcStride, dst, dstOffset, dstStride, count);
+  }
+
+  /**
+   * Converts the remaining values of another unit in a buffer to this unit, writing them to a destination buffer.
+   * The positions of both buffers are advanced by the number of values converted.
+   *
+   * @param src       the values to convert, measured in {@code otherUnit}
+   * @param dst       the buffer to write the converted values to
+   * @param otherUnit the unit the values are measured in
+   */
+  public void convert(DoubleBuffer src, DoubleBuffer dst, Unit<U> otherUnit) {
+    conversionFrom(otherUnit).apply(src, dst);
+  }
+
+  /**
+   * Converts the values between the position and limit of a buffer from another unit to this unit, in place.
+   *
+   * @param values    the values to convert, measured in {@code otherUnit}
+   * @param otherUnit the unit the values are measured in
+   */
+  public void convert(DoubleBuffer values, Unit<U> otherUnit) {
+    if (otherUnit == this) {
+      return;
+    }
+    conversionFrom(otherUnit).apply(values);
+  }
+
+  /**
+   * Gets the conversion from another unit of the same type to this one. The conversion is created the first time
+   * it's requested and cached for later use.
+   *
+   * @param otherUnit the unit to convert values from
+   */
+  public Conversion conversionFrom(Unit<U> otherUnit) {
+    Conversion conversion = conversions.get(otherUnit);
+    if (conversion == null) {
+      conversion = Conversion.between(otherUnit, this);
+      Conversion existing = conversions.putIfAbsent(otherUnit, conversion);
+      if (existing != null) {
+        conversion = existing;
+      }
+    }
+    return conversion;
   }
 
   public DoubleUnaryOperator getConverterToBase() {
@@ -54,12 +241,142 @@ public class Unit<U extends Unit<U>> {
   }
 
   /**
-   * Creates a new measure of this unit with the given value.
+   * Checks if this unit has a known affine relationship to its base unit. Conversions between two affine units
+   * do not need to call any conversion functions.
+   */
+  public boolean isAffine() {
+    return affine;
+  }
+
+  /**
+   * Gets the {@link Dimension dimension vector} of this unit.
+   */
+  public long dimension() {
+    return dimension;
+  }
+
+  /**
+   * Gets the singular name of this unit, eg "foot", as registered in the {@link UnitRegistry}. Units that are
+   * not registered are named by their {@link #symbol() symbol}.
+   */
+  public String name() {
+    String name = UnitRegistry.nameOf(this);
+    return name == null ? symbol() : name;
+  }
+
+  /**
+   * Gets the plural name of this unit, eg "feet", as registered in the {@link UnitRegistry}. Units that are
+   * not registered are named by their {@link #symbol() symbol}.
+   */
+  public String plural() {
+    String plural = UnitRegistry.pluralOf(this);
+    return plural == null ? symbol() : plural;
+  }
+
+  /**
+   * Gets the symbol of this unit, eg "ft", as registered in the {@link UnitRegistry}. Units that are not
+   * registered are described by their dimension and, if they are not the coherent SI unit of that dimension, their
+   * size relative to it, eg {@code "[L^2]"} for square meters.
+   */
+  public String symbol() {
+    String symbol = UnitRegistry.symbolOf(this);
+    if (symbol != null) {
+      return symbol;
+    }
+    symbol = unregisteredSymbol;
+    if (symbol == null) {
+      double size = toCoherent(1) - toCoherent(0);
+      symbol = size == 1
+          ? "[" + Dimension.toString(dimension) + "]"
+          : "[" + Dimension.toString(dimension) + " x " + size + "]";
+      unregisteredSymbol = symbol;
+    }
+    return symbol;
+  }
+
+  /**
+   * Converts a value of this unit to the coherent SI unit of its dimension, eg grams to kilograms.
+   */
+  double toCoherent(double value) {
+    return toBase(value) * coherentScale;
+  }
+
+  /**
+   * Converts a value of the coherent SI unit of this unit's dimension to this unit.
+   */
+  double fromCoherent(double value) {
+    return fromBase(value / coherentScale);
+  }
+
+  /**
+   * Converts a value of this unit to the base unit.
+   */
+  double toBase(double value) {
+    if (affine) {
+      return value * scale + offset;
+    }
+    return toBaseConverter.applyAsDouble(value);
+  }
+
+  /**
+   * Converts a value of the base unit to this unit.
+   */
+  double fromBase(double value) {
+    if (affine) {
+      return (value - offset) / scale;
+    }
+    return fromBaseConverter.applyAsDouble(value);
+  }
+
+  /**
+   * The multiplier to convert this unit to the base unit. Only valid for affine units.
+   */
+  double scale() {
+    return scale;
+  }
+
+  /**
+   * The value of the base unit equivalent to zero of this unit. Only valid for affine units.
+   */
+  double offset() {
+    return offset;
+  }
+
+  /**
+   * The size of the base unit in terms of the coherent SI unit of this unit's dimension.
+   */
+  double coherentScale() {
+    return coherentScale;
+  }
+
+  /**
+   * Gets the unit of a quantity as a {@code Unit<U>}. {@link Quantity#unit()} returns {@code U}, so callers that
+   * know the unit type, eg {@code Quantity<Time>}, get a cast to {@code Time} that fails for units made with
+   * {@link #aggregate(double) aggregate} or {@link #splitInto(double) splitInto}; this erases to {@code Unit}
+   * without a cast.
+   *
+   * @param quantity the quantity to get the unit of
+   */
+  static <U extends Unit<U>> Unit<U> unitOf(Quantity<U> quantity) {
+    return quantity.unit();
+  }
+
+  /**
+   * Creates a new measure of this unit with the given value. If {@link MeasureInterner interning} is enabled,
+   * this may return a cached measure.
    *
    * @param magnitude the magnitude of the measure to create
    */
   public Measure<U> of(double magnitude) {
-    return new Measure<>(magnitude, this);
+    return interner.get(magnitude);
+  }
+
+  /**
+   * Gets the interner used to create measures of this unit. This can be used to check how effective interning is
+   * for this unit.
+   */
+  public MeasureInterner<Measure<U>> getInterner() {
+    return interner;
   }
 
   /**
@@ -76,8 +393,13 @@ public class Unit<U extends Unit<U>> {
       // Same units, just reuse this object.
       return this;
     }
-    return new Unit<>(this.toBaseConverter.andThen(x -> x * amount),
-        this.fromBaseConverter.andThen(x -> x / amount));
+    if (affine) {
+      // Fold the factor into the scale instead of wrapping the existing converters
+      return new Unit<>(scale * amount, offset, dimension, coherentScale);
+    }
+    return new Unit<>(x -> toBaseConverter.applyAsDouble(x * amount),
+        x -> fromBaseConverter.applyAsDouble(x) / amount,
+        dimension, coherentScale);
   }
 
   /**
@@ -0,0 +1,571 @@
+package edu.wpi.first.wpilib.units;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of units by name, plural name, and symbol, and a parser for measures written as text such as
+ * {@code "12.5 ft"} or {@code "-3e2 milliseconds"}. Every unit in {@link Units} is registered; custom units made
+ * with {@link Unit#aggregate(double) aggregate}, {@link Unit#splitInto(double) splitInto} or
+ * {@link Units#derive(Unit) derive} can be added with {@link #register(Unit, String, String, String)}.
+ *
+ * <p>Lookups and parsing work directly on {@link CharSequence CharSequences} (including {@link java.nio.CharBuffer
+ * CharBuffers}) without creating substrings. Names are hashed straight from the input characters into an
+ * open-addressed index, and numbers with up to 15 significant digits and small exponents are parsed exactly without
+ * going through {@link Double#parseDouble(String)}.
+ */
+public final class UnitRegistry {
+
+  private UnitRegistry() {
+    // Prevent instantiation
+  }
+
+  /**
+   * The ID of units that don't have one.
+   */
+  public static final int NO_ID = -1;
+
+  /**
+   * The smallest ID that can be given to a custom unit. Smaller IDs are reserved for the units in {@link Units}.
+   */
+  public static final int FIRST_CUSTOM_ID = 1024;
+
+  /**
+   * The largest unit ID.
+   */
+  public static final int MAX_ID = 65535;
+
+  private static final class Entry {
+    final int id;
+    final Unit<?> unit;
+    final String name;
+    final String plural;
+    final String symbol;
+
+    Entry(int id, Unit<?> unit, String name, String plural, String symbol) {
+      this.id = id;
+      this.unit = unit;
+      this.name = name;
+      this.plural = plural;
+      this.symbol = symbol;
+    }
+  }
+
+  /**
+   * An immutable open-addressed index from names to units.
+   */
+  private static final class Index {
+    final String[] keys;
+    final Unit<?>[] units;
+    final int size;
+
+    Index(int capacity, int size) {
+      this.keys = new String[capacity];
+      this.units = new Unit<?>[capacity];
+      this.size = size;
+    }
+  }
+
+  private static final Map<Unit<?>, Entry> entries = new ConcurrentHashMap<>();
+  private static volatile Index index = new Index(128, 0);
+  private static volatile Unit<?>[] byId = new Unit<?>[64];
+
+  // Powers of ten that are exactly representable as doubles
+  private static final double[] POWERS_OF_TEN = {
+      1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+      1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  static {
+    // Unit IDs are part of the binary format written by MeasureCodec; never renumber or reuse them
+    add(1, Units.Meters, "meter", "meters", "m");
+    add(2, Units.Millimeters, "millimeter", "millimeters", "mm");
+    add(3, Units.Centimeters, "centimeter", "centimeters", "cm");
+    add(4, Units.Inches, "inch", "inches", "in");
+    add(5, Units.Feet, "foot", "feet", "ft");
+
+    add(6, Units.Seconds, "second", "seconds", "s");
+    add(7, Units.Milliseconds, "millisecond", "milliseconds", "ms");
+    add(8, Units.Minutes, "minute", "minutes", "min");
+
+    add(9, Units.MetersPerSecond, "meter per second", "meters per second", "m/s");
+    add(10, Units.FeetPerSecond, "foot per second", "feet per second", "ft/s");
+    add(11, Units.InchesPerSecond, "inch per second", "inches per second", "in/s");
+
+    add(12, Units.MetersPerSecondPerSecond,
+        "meter per second per second", "meters per second per second", "m/s/s");
+    add(13, Units.Gs, "G", "Gs", "g-force");
+
+    add(14, Units.Grams, "gram", "grams", "g");
+    add(15, Units.Kilograms, "kilogram", "kilograms", "kg");
+    add(16, Units.Pounds, "pound", "pounds", "lb");
+    add(17, Units.Ounces, "ounce", "ounces", "oz");
+
+    add(18, Units.Revolutions, "revolution", "revolutions", "rev");
+    add(19, Units.Radians, "radian", "radians", "rad");
+    add(20, Units.Degrees, "degree", "degrees", "deg");
+
+    add(21, Units.Value, "value", "values", "");
+    add(22, Units.Percent, "percent", "percent", "%");
+
+    add(23, Units.Volts, "volt", "volts", "V");
+    add(24, Units.Millivolts, "millivolt", "millivolts", "mV");
+
+    add(25, Units.Amps, "amp", "amps", "A");
+    add(26, Units.Milliamps, "milliamp", "milliamps", "mA");
+
+    add(27, Units.Watts, "watt", "watts", "W");
+    add(28, Units.Milliwatts, "milliwatt", "milliwatts", "mW");
+    add(29, Units.Horsepower, "horsepower", "horsepower", "hp");
+
+    add(30, Units.Celsius, "degree Celsius", "degrees Celsius", "\u00b0C");
+    add(31, Units.Fahrenheit, "degree Fahrenheit", "degrees Fahrenheit", "\u00b0F");
+
+    alias(Units.MetersPerSecondPerSecond, "m/s^2");
+    alias(Units.Celsius, "degC");
+    alias(Units.Fahrenheit, "degF");
+  }
+
+  /**
+   * Registers a unit under a name, plural name, and symbol. Registering the same unit again replaces its
+   * metadata; the old names stay available as aliases. Units registered this way have no ID and cannot be encoded
+   * with a {@link MeasureCodec}, unless they were previously registered with one.
+   *
+   * @param unit   the unit to register
+   * @param name   the singular name of the unit, eg "foot"
+   * @param plural the plural name of the unit, eg "feet"
+   * @param symbol the symbol of the unit, eg "ft". May be empty for units without a symbol.
+   *
+   * @throws IllegalArgumentException if one of the names is already used by a different unit
+   */
+  public static synchronized void register(Unit<?> unit, String name, String plural, String symbol) {
+    Entry existing = entries.get(unit);
+    add(existing == null ? NO_ID : existing.id, unit, name, plural, symbol);
+  }
+
+  /**
+   * Registers a unit under a stable numeric ID, as well as a name, plural name, and symbol. IDs identify units in
+   * the binary format of {@link MeasureCodec}, so a unit must keep the same ID for as long as any encoded data
+   * refers to it. IDs below {@link #FIRST_CUSTOM_ID} are reserved for the units in {@link Units}.
+   *
+   * @param id     the ID of the unit, or {@link #NO_ID}
+   * @param unit   the unit to register
+   * @param name   the singular name of the unit, eg "foot"
+   * @param plural the plural name of the unit, eg "feet"
+   * @param symbol the symbol of the unit, eg "ft". May be empty for units without a symbol.
+   *
+   * @throws IllegalArgumentException if the ID is reserved or greater than {@link #MAX_ID}, if the ID or one of the
+   *                                  names is already used by a different unit, or if the unit already has a
+   *                                  different ID
+   */
+  public static synchronized void register(int id, Unit<?> unit, String name, String plural, String symbol) {
+    if (id != NO_ID && (id < FIRST_CUSTOM_ID || id > MAX_ID)) {
+      throw new IllegalArgumentException(
+          "Custom unit IDs must be from " + FIRST_CUSTOM_ID + " to " + MAX_ID + ", but was " + id);
+    }
+    add(id, unit, name, plural, symbol);
+  }
+
+  private static void add(int id, Unit<?> unit, String name, String plural, String symbol) {
+    Objects.requireNonNull(unit, "Unit cannot be null");
+    Objects.requireNonNull(name, "Name cannot be null");
+    Objects.requireNonNull(plural, "Plural name cannot be null");
+    Objects.requireNonNull(symbol, "Symbol cannot be null");
+    Entry existing = entries.get(unit);
+    if (existing != null && existing.id != NO_ID && existing.id != id) {
+      throw new IllegalArgumentException("Unit already has ID " + existing.id);
+    }
+    Unit<?> withId = forId(id);
+    if (withId != null && withId != unit) {
+      throw new IllegalArgumentException("ID " + id + " is already registered to a different unit");
+    }
+    checkAvailable(unit, name);
+    checkAvailable(unit, plural);
+    checkAvailable(unit, symbol);
+    alias(unit, name);
+    alias(unit, plural);
+    alias(unit, symbol);
+    if (id != NO_ID) {
+      Unit<?>[] current = byId;
+      if (id >= current.length) {
+        current = Arrays.copyOf(current, Math.max(id + 1, current.length * 2));
+      } else {
+        current = current.clone();
+      }
+      current[id] = unit;
+      byId = current;
+    }
+    entries.put(unit, new Entry(id, unit, name, plural, symbol));
+  }
+
+  /**
+   * Adds another name that a unit can be looked up and parsed by.
+   *
+   * @param unit  the unit
+   * @param alias the alternative name
+   *
+   * @throws IllegalArgumentException if the name is already used by a different unit
+   */
+  public static synchronized void alias(Unit<?> unit, String alias) {
+    checkAvailable(unit, alias);
+    if (alias.isEmpty() || find(index, alias, 0, alias.length()) != null) {
+      return;
+    }
+    Index current = index;
+    int capacity = current.keys.length;
+    if ((current.size + 1) * 2 > capacity) {
+      capacity *= 2;
+    }
+    Index next = new Index(capacity, current.size + 1);
+    for (int i = 0; i < current.keys.length; i++) {
+      if (current.keys[i] != null) {
+        insert(next, current.keys[i], current.units[i]);
+      }
+    }
+    insert(next, alias, unit);
+    index = next;
+  }
+
+  /**
+   * Looks up a unit by its name, plural name, symbol, or an alias.
+   *
+   * @param name the name to look up
+   *
+   * @return the unit, or null if no unit has that name
+   */
+  public static Unit<?> forName(CharSequence name) {
+    return forName(name, 0, name.length());
+  }
+
+  /**
+   * Looks up a unit by a name in a region of a character sequence.
+   *
+   * @param text  the text containing the name
+   * @param start the index of the first character of the name
+   * @param end   the index after the last character of the name
+   *
+   * @return the unit, or null if no unit has that name
+   */
+  public static Unit<?> forName(CharSequence text, int start, int end) {
+    return find(index, text, start, end);
+  }
+
+  /**
+   * Looks up a unit by name and checks that it has the same dimension as another unit.
+   *
+   * @param name the name to look up
+   * @param like a unit of the expected type
+   *
+   * @return the unit, or null if no unit has that name
+   *
+   * @throws IllegalArgumentException if the unit has a different dimension than expected
+   */
+  @SuppressWarnings("unchecked")
+  public static <U extends Unit<U>> Unit<U> forName(CharSequence name, Unit<U> like) {
+    Unit<?> unit = forName(name);
+    if (unit != null && unit.dimension() != like.dimension()) {
+      throw new IllegalArgumentException(
+          "'" + name + "' is a unit of " + Dimension.toString(unit.dimension())
+              + ", not " + Dimension.toString(like.dimension()));
+    }
+    return (Unit<U>) unit;
+  }
+
+  /**
+   * Gets the unit registered with an ID.
+   *
+   * @param id the ID of the unit
+   *
+   * @return the unit, or null if no unit has that ID
+   */
+  public static Unit<?> forId(int id) {
+    Unit<?>[] units = byId;
+    return id >= 0 && id < units.length ? units[id] : null;
+  }
+
+  /**
+   * Gets the ID of a unit, or {@link #NO_ID} if the unit is not registered or was registered without an ID.
+   */
+  public static int idOf(Unit<?> unit) {
+    Entry entry = entries.get(unit);
+    return entry == null ? NO_ID : entry.id;
+  }
+
+  /**
+   * Gets the registered singular name of a unit, or null if the unit is not registered.
+   */
+  public static String nameOf(Unit<?> unit) {
+    Entry entry = entries.get(unit);
+    return entry == null ? null : entry.name;
+  }
+
+  /**
+   * Gets the registered plural name of a unit, or null if the unit is not registered.
+   */
+  public static String pluralOf(Unit<?> unit) {
+    Entry entry = entries.get(unit);
+    return entry == null ? null : entry.plural;
+  }
+
+  /**
+   * Gets the registered symbol of a unit, or null if the unit is not registered.
+   */
+  public static String symbolOf(Unit<?> unit) {
+    Entry entry = entries.get(unit);
+    return entry == null ? null : entry.symbol;
+  }
+
+  /**
+   * Parses a measure from text such as {@code "12.5 ft"}: a decimal number, optional whitespace, and the name,
+   * plural name, symbol, or an alias of a registered unit. Leading and trailing whitespace is ignored.
+   *
+   * @param text the text to parse
+   *
+   * @throws IllegalArgumentException if the text is not a valid measure
+   */
+  public static Measure<?> parse(CharSequence text) {
+    return parse(text, 0, text.length());
+  }
+
+  /**
+   * Parses a measure from a region of a character sequence.
+   *
+   * @param text  the text to parse
+   * @param start the index of the first character to parse
+   * @param end   the index after the last character to parse
+   *
+   * @throws IllegalArgumentException if the text is not a valid measure
+   * @see #parse(CharSequence)
+   */
+  public static Measure<?> parse(CharSequence text, int start, int end) {
+    start = skipWhitespace(text, start, end);
+    int numberEnd = numberEnd(text, start, end);
+    double magnitude = parseNumber(text, start, numberEnd);
+    return unitAt(text, numberEnd, end).of(magnitude);
+  }
+
+  /**
+   * Parses a measure and converts it to the given unit.
+   *
+   * @param text the text to parse
+   * @param unit the unit to convert the parsed measure to
+   *
+   * @throws IllegalArgumentException if the text is not a valid measure, or if it's not a measure of the same
+   *                                  dimension as the given unit
+   */
+  public static <U extends Unit<U>> Measure<U> parse(CharSequence text, Unit<U> unit) {
+    return parse(text).in(unit);
+  }
+
+  /**
+   * Parses a measure from a region of a character sequence into a mutable measure, without allocating. The parsed
+   * measure is converted to the current unit of the result.
+   *
+   * @param text   the text to parse
+   * @param start  the index of the first character to parse
+   * @param end    the index after the last character to parse
+   * @param result the measure to store the parsed value in
+   *
+   * @return the result measure
+   *
+   * @throws IllegalArgumentException if the text is not a valid measure, or if it's not a measure of the same
+   *                                  dimension as the result
+   */
+  public static <U extends Unit<U>> MutableMeasure<U> parse(CharSequence text, int start, int end,
+                                                            MutableMeasure<U> result) {
+    start = skipWhitespace(text, start, end);
+    int numberEnd = numberEnd(text, start, end);
+    double magnitude = parseNumber(text, start, numberEnd);
+    Unit<?> unit = unitAt(text, numberEnd, end);
+    U resultUnit = result.unit();
+    if (unit.dimension() != resultUnit.dimension()) {
+      throw new IllegalArgumentException(
+          "Cannot convert " + Dimension.toString(unit.dimension())
+              + " to " + Dimension.toString(resultUnit.dimension()));
+    }
+    return result.mut_setMagnitude(
+        (Object) unit == resultUnit ? magnitude : resultUnit.fromCoherent(unit.toCoherent(magnitude)));
+  }
+
+  private static Unit<?> unitAt(CharSequence text, int start, int end) {
+    start = skipWhitespace(text, start, end);
+    while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+      end--;
+    }
+    Unit<?> unit = find(index, text, start, end);
+    if (unit == null) {
+      throw new IllegalArgumentException("Unknown unit: '" + text.subSequence(start, end) + "'");
+    }
+    return unit;
+  }
+
+  private static int skipWhitespace(CharSequence text, int start, int end) {
+    while (start < end && Character.isWhitespace(text.charAt(start))) {
+      start++;
+    }
+    return start;
+  }
+
+  /**
+   * Finds the end of the decimal number starting at {@code start}.
+   */
+  private static int numberEnd(CharSequence text, int start, int end) {
+    int i = start;
+    if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+      i++;
+    }
+    while (i < end && (isDigit(text.charAt(i)) || text.charAt(i) == '.')) {
+      i++;
+    }
+    if (i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+      int exponentStart = i + 1;
+      if (exponentStart < end && (text.charAt(exponentStart) == '-' || text.charAt(exponentStart) == '+')) {
+        exponentStart++;
+      }
+      if (exponentStart < end && isDigit(text.charAt(exponentStart))) {
+        i = exponentStart;
+        while (i < end && isDigit(text.charAt(i))) {
+          i++;
+        }
+      }
+    }
+    return i;
+  }
+
+  /**
+   * Parses the decimal number in {@code text[start, end)}. Numbers with at most 15 significant digits and a
+   * decimal exponent within +/-22 are computed exactly from a long mantissa and a power of ten; anything else
+   * falls back to {@link Double#parseDouble(String)}.
+   */
+  private static double parseNumber(CharSequence text, int start, int end) {
+    int i = start;
+    boolean negative = false;
+    if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+      negative = text.charAt(i) == '-';
+      i++;
+    }
+    long mantissa = 0;
+    int digits = 0;
+    int exponent = 0;
+    boolean anyDigits = false;
+    boolean seenPoint = false;
+    for (; i < end; i++) {
+      char c = text.charAt(i);
+      if (c == '.') {
+        if (seenPoint) {
+          throw invalidNumber(text, start, end);
+        }
+        seenPoint = true;
+      } else if (isDigit(c)) {
+        anyDigits = true;
+        if (mantissa == 0 && c == '0') {
+          // Leading zeros are not significant
+          if (seenPoint) {
+            exponent--;
+          }
+        } else {
+          digits++;
+          if (digits > 18) {
+            // Too many digits to hold in a long; let the JDK handle it
+            return Double.parseDouble(text.subSequence(start, end).toString());
+          }
+          mantissa = mantissa * 10 + (c - '0');
+          if (seenPoint) {
+            exponent--;
+          }
+        }
+      } else {
+        break;
+      }
+    }
+    if (!anyDigits) {
+      throw invalidNumber(text, start, end);
+    }
+    if (i < end) {
+      // Exponent; numberEnd() guarantees at least one digit follows
+      i++;
+      boolean negativeExponent = false;
+      if (text.charAt(i) == '-' || text.charAt(i) == '+') {
+        negativeExponent = text.charAt(i) == '-';
+        i++;
+      }
+      int explicitExponent = 0;
+      for (; i < end; i++) {
+        explicitExponent = Math.min(explicitExponent * 10 + (text.charAt(i) - '0'), 100_000);
+      }
+      exponent += negativeExponent ? -explicitExponent : explicitExponent;
+    }
+
+    double value;
+    if (mantissa == 0) {
+      value = 0;
+    } else if (digits <= 15 && exponent >= -22 && exponent <= 22) {
+      // Both operands are exact, so the single rounding of the multiply or divide gives the correct result
+      value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+    } else {
+      return Double.parseDouble(text.subSequence(start, end).toString());
+    }
+    return negative ? -value : value;
+  }
+
+  private static IllegalArgumentException invalidNumber(CharSequence text, int start, int end) {
+    return new IllegalArgumentException("Invalid number: '" + text.subSequence(start, end) + "'");
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static void checkAvailable(Unit<?> unit, String name) {
+    Unit<?> existing = find(index, name, 0, name.length());
+    if (existing != null && existing != unit) {
+      throw new IllegalArgumentException("'" + name + "' is already registered to a different unit");
+    }
+  }
+
+  private static Unit<?> find(Index index, CharSequence text, int start, int end) {
+    final int mask = index.keys.length - 1;
+    for (int i = hash(text, start, end) & mask; ; i = (i + 1) & mask) {
+      String key = index.keys[i];
+      if (key == null) {
+        return null;
+      }
+      if (matches(key, text, start, end)) {
+        return index.units[i];
+      }
+    }
+  }
+
+  private static void insert(Index index, String key, Unit<?> unit) {
+    final int mask = index.keys.length - 1;
+    int i = hash(key, 0, key.length()) & mask;
+    while (index.keys[i] != null) {
+      i = (i + 1) & mask;
+    }
+    index.keys[i] = key;
+    index.units[i] = unit;
+  }
+
+  private static boolean matches(String key, CharSequence text, int start, int end) {
+    if (key.length() != end - start) {
+      return false;
+    }
+    for (int i = 0; i < key.length(); i++) {
+      if (key.charAt(i) != text.charAt(start + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int hash(CharSequence text, int start, int end) {
+    int h = 0;
+    for (int i = start; i < end; i++) {
+      h = 31 * h + text.charAt(i);
+    }
+    return h ^ (h >>> 16);
+  }
+
+}
@@ -9,7 +9,7 @@ public class Unitless extends Unit<Unitless> {
    *                           meters has a multiplier of 1, mm has a multiplier of 1e3, and km has a multiplier of 1e-3.
    */
   protected Unitless(double baseUnitEquivalent) {
-    super(baseUnitEquivalent);
+    super(baseUnitEquivalent, 0, Dimension.NONE, 1);
   }
 
 }
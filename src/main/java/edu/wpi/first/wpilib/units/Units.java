@@ -64,8 +64,8 @@ public final class Units {
   public static final Unit<Temperature> Celsius = BaseUnits.Temperature;
   public static final Unit<Temperature> Fahrenheit =
       derive(Celsius)
-          .toBase(f -> (f - 32) * 5 / 9.)
-          .fromBase(c -> (c * 9. / 5) + 32)
+          .offset(-32)
+          .scale(5 / 9.)
           .make();
 
   /**
@@ -92,6 +92,8 @@ public final class Units {
     private U base;
     private DoubleUnaryOperator fromBase;
     private DoubleUnaryOperator toBase;
+    private double scale = 1;
+    private double offset = 0;
 
     private UnitBuilder(U base) {
       this.base = Objects.requireNonNull(base, "Base unit cannot be null");
@@ -107,11 +109,50 @@ public final class Units {
       return this;
     }
 
+    /**
+     * Sets the multiplier to convert the derived unit to the base unit, after the {@link #offset(double) offset}
+     * has been applied. Prefer this over conversion functions for affine units, since it lets conversions skip
+     * calling any functions.
+     *
+     * @param scale the multiplier to convert the derived unit to the base unit
+     */
+    public UnitBuilder<U> scale(double scale) {
+      this.scale = scale;
+      return this;
+    }
+
+    /**
+     * Sets the amount to add to a value of the derived unit before it's {@link #scale(double) scaled} to
+     * the base unit. For example, Fahrenheit is derived from Celsius with an offset of -32 and a scale of 5/9.
+     *
+     * @param offset the amount to add to values of the derived unit before scaling
+     */
+    public UnitBuilder<U> offset(double offset) {
+      this.offset = offset;
+      return this;
+    }
+
     public Unit<U> make() {
+      if (fromBase == null && toBase == null) {
+        // Affine: x -> base.toBase((x + offset) * scale)
+        if (base.isAffine()) {
+          return new Unit<>(scale * base.scale(), offset * scale * base.scale() + base.offset(),
+              base.dimension(), base.coherentScale());
+        }
+        double scale = this.scale;
+        double offset = this.offset;
+        return new Unit<>(x -> base.toBase((x + offset) * scale),
+            x -> base.fromBase(x) / scale - offset,
+            base.dimension(), base.coherentScale());
+      }
       Objects.requireNonNull(fromBase, "fromBase function was not set");
       Objects.requireNonNull(toBase, "toBase function was not set");
-      return new Unit<>(base.getConverterToBase().andThen(toBase),
-          base.getConverterFromBase().andThen(fromBase));
+      if (scale != 1 || offset != 0) {
+        throw new IllegalStateException("Cannot combine conversion functions with a scale or offset");
+      }
+      return new Unit<>(toBase.andThen(base.getConverterToBase()),
+          base.getConverterFromBase().andThen(fromBase),
+          base.dimension(), base.coherentScale());
     }
 
   }
@@ -3,7 +3,7 @@ package edu.wpi.first.wpilib.units;
 public class Velocity extends Unit<Velocity> {
 
   protected Velocity(double baseUnitEquivalent) {
-    super(baseUnitEquivalent);
+    super(baseUnitEquivalent, 0, Dimension.of(1, -1, 0, 0, 0, 0), 1);
   }
 
 }
@@ -0,0 +1,166 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class AlarmEngineTest {
+
+  private final List<String> events = new ArrayList<>();
+  private AlarmEngine engine;
+
+  @Before
+  public void setUp() {
+    engine = new AlarmEngine((alarm, active, magnitude) ->
+        events.add(alarm.name() + (active ? " on @ " : " off @ ") + magnitude));
+  }
+
+  @Test
+  public void testThresholdsAreConvertedOnce() {
+    AlarmEngine.Channel<ElectricCurrent> current = engine.addChannel("drive", Units.Milliamps);
+    AlarmEngine.Alarm high = current.alarmAbove("high", Units.Amps.of(40), Units.Amps.of(2));
+    assertEquals(40000, high.level(), 1e-9);
+    assertEquals(2000, high.hysteresis(), 1e-9);
+  }
+
+  @Test
+  public void testHysteresis() {
+    AlarmEngine.Channel<ElectricCurrent> current = engine.addChannel("drive", Units.Milliamps);
+    AlarmEngine.Alarm high = current.alarmAbove("high", Units.Amps.of(40), Units.Amps.of(2));
+    current.update(39999);
+    assertFalse(high.isActive());
+    current.update(40000);
+    assertTrue(high.isActive());
+    current.update(38500);
+    assertTrue(high.isActive());
+    current.update(41000);
+    current.update(37999);
+    assertFalse(high.isActive());
+    current.update(39000);
+    assertFalse(high.isActive());
+    assertEquals(2, events.size());
+    assertEquals("high on @ 40000.0", events.get(0));
+    assertEquals("high off @ 37999.0", events.get(1));
+  }
+
+  @Test
+  public void testAlarmBelow() {
+    AlarmEngine.Channel<ElectricPotential> battery = engine.addChannel("battery", Units.Volts);
+    AlarmEngine.Alarm brownout = battery.alarmBelow("brownout", Units.Volts.of(7), Units.Millivolts.of(500));
+    battery.update(12);
+    battery.update(7);
+    assertTrue(brownout.isActive());
+    battery.update(7.4);
+    assertTrue(brownout.isActive());
+    battery.update(7.6);
+    assertFalse(brownout.isActive());
+    assertEquals(2, events.size());
+  }
+
+  @Test
+  public void testJumpAcrossSeveralThresholds() {
+    AlarmEngine.Channel<ElectricCurrent> current = engine.addChannel("drive", Units.Amps);
+    current.alarmAbove("warn", Units.Amps.of(30), Units.Amps.of(1));
+    current.alarmAbove("high", Units.Amps.of(40), Units.Amps.of(1));
+    current.alarmAbove("critical", Units.Amps.of(50), Units.Amps.of(1));
+    current.alarmBelow("idle", Units.Amps.of(1), Units.Amps.of(0.5));
+    current.update(0);
+    current.update(60);
+    current.update(0);
+    assertEquals(9, events.size());
+    assertEquals("idle on @ 0.0", events.get(0));
+    assertEquals("warn on @ 60.0", events.get(1));
+    assertEquals("high on @ 60.0", events.get(2));
+    assertEquals("critical on @ 60.0", events.get(3));
+    assertEquals("idle off @ 60.0", events.get(4));
+    assertEquals("warn off @ 0.0", events.get(5));
+    assertEquals("idle on @ 0.0", events.get(8));
+  }
+
+  @Test
+  public void testFirstSampleRaisesButNeverClears() {
+    AlarmEngine.Channel<ElectricCurrent> current = engine.addChannel("drive", Units.Amps);
+    AlarmEngine.Alarm high = current.alarmAbove("high", Units.Amps.of(40), Units.Amps.of(2));
+    AlarmEngine.Alarm low = current.alarmBelow("low", Units.Amps.of(-40), Units.Amps.of(2));
+    current.update(45);
+    assertTrue(high.isActive());
+    assertFalse(low.isActive());
+    assertEquals(1, events.size());
+  }
+
+  @Test
+  public void testTemperatureHysteresisIgnoresOffset() {
+    AlarmEngine.Channel<Temperature> motor = engine.addChannel("motor", Units.Celsius);
+    AlarmEngine.Alarm hot = motor.alarmAbove("hot", Units.Fahrenheit.of(212), Units.Fahrenheit.of(18));
+    assertEquals(100, hot.level(), 1e-9);
+    assertEquals(10, hot.hysteresis(), 1e-9);
+    motor.update(Units.Fahrenheit.of(215));
+    assertTrue(hot.isActive());
+    motor.update(Units.Celsius.of(91));
+    assertTrue(hot.isActive());
+    motor.update(Units.Celsius.of(89));
+    assertFalse(hot.isActive());
+  }
+
+  @Test
+  public void testDeadband() {
+    AlarmEngine.Channel<ElectricCurrent> current = engine.addChannel("drive", Units.Amps);
+    AlarmEngine.Alarm high = current.alarmAbove("high", Units.Amps.of(40), Units.Amps.of(0));
+    current.setDeadband(Units.Milliamps.of(500));
+    current.update(39.8);
+    current.update(40.1);
+    assertFalse(high.isActive());
+    current.update(40.3);
+    assertTrue(high.isActive());
+  }
+
+  @Test
+  public void testNaNSamplesAreIgnored() {
+    AlarmEngine.Channel<ElectricCurrent> current = engine.addChannel("drive", Units.Amps);
+    AlarmEngine.Alarm high = current.alarmAbove("high", Units.Amps.of(40), Units.Amps.of(2));
+    current.update(45);
+    current.update(Double.NaN);
+    assertTrue(high.isActive());
+    assertEquals(1, events.size());
+  }
+
+  @Test
+  public void testAlarmAddedAfterSamples() {
+    AlarmEngine.Channel<ElectricCurrent> current = engine.addChannel("drive", Units.Amps);
+    current.alarmAbove("warn", Units.Amps.of(30), Units.Amps.of(1));
+    current.update(45);
+    AlarmEngine.Alarm high = current.alarmAbove("high", Units.Amps.of(40), Units.Amps.of(2));
+    assertTrue(high.isActive());
+    assertEquals(1, events.size());
+    current.update(37);
+    assertFalse(high.isActive());
+    assertEquals("high off @ 37.0", events.get(1));
+  }
+
+  @Test
+  public void testChannels() {
+    AlarmEngine.Channel<ElectricCurrent> current = engine.addChannel("drive", Units.Amps);
+    engine.addChannel("motor", Units.Celsius);
+    assertSame(current, engine.getChannel("drive"));
+    assertEquals(2, engine.channels().size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDuplicateChannel() {
+    engine.addChannel("drive", Units.Amps);
+    engine.addChannel("drive", Units.Milliamps);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeHysteresis() {
+    engine.addChannel("drive", Units.Amps).alarmAbove("high", Units.Amps.of(40), Units.Amps.of(-1));
+  }
+
+}
@@ -0,0 +1,197 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import static edu.wpi.first.wpilib.units.Allocations.assertNoAllocation;
+
+/**
+ * Checks that the hot parts of the API do not allocate once warmed up.
+ */
+public class AllocationTest {
+
+  // Results are written here so the operations can't be optimized away
+  private double sink;
+  private int intSink;
+  private boolean booleanSink;
+
+  private final Measure<Distance> feet = Units.Feet.of(1.5);
+  private final Measure<Distance> inches = Units.Inches.of(18);
+  private final Measure<Temperature> fahrenheit = Units.Fahrenheit.of(68);
+
+  @Test
+  public void testConvert() {
+    assertNoAllocation("Unit.convert", () -> sink = Units.Feet.convert(sink + 1, Units.Meters));
+    assertNoAllocation("Unit.convert (affine)", () -> sink = Units.Celsius.convert(sink, Units.Fahrenheit));
+  }
+
+  @Test
+  public void testBulkConvert() {
+    double[] values = new double[64];
+    assertNoAllocation("Unit.convert(double[])", () -> Units.Inches.convert(values, 0, values.length, Units.Feet));
+  }
+
+  @Test
+  public void testAs() {
+    assertNoAllocation("Measure.as", () -> sink = feet.as(Units.Meters));
+    assertNoAllocation("Measure.as (affine)", () -> sink = fahrenheit.as(Units.Celsius));
+  }
+
+  @Test
+  public void testCompareTo() {
+    assertNoAllocation("Measure.compareTo", () -> intSink = feet.compareTo(inches));
+  }
+
+  @Test
+  public void testIsEquivalent() {
+    assertNoAllocation("Measure.isEquivalent", () -> booleanSink = feet.isEquivalent(inches));
+  }
+
+  @Test
+  public void testHashCode() {
+    assertNoAllocation("Measure.hashCode", () -> intSink = feet.hashCode());
+  }
+
+  @Test
+  public void testMutableMeasureArithmetic() {
+    MutableMeasure<Distance> m = MutableMeasure.zero(Units.Meters);
+    assertNoAllocation("MutableMeasure arithmetic", () -> {
+      m.mut_add(feet).mut_subtract(inches).mut_times(0.5).mut_add(1, Units.Millimeters);
+      sink = m.magnitude();
+    });
+    assertNoAllocation("MutableMeasure.mut_replace", () -> m.mut_replace(sink, Units.Feet));
+  }
+
+  @Test
+  public void testMeasureArray() {
+    MeasureArray<Distance> array = new MeasureArray<>(16, Units.Inches).as(Units.Feet);
+    assertNoAllocation("MeasureArray get/set", () -> {
+      for (int i = 0; i < array.length(); i++) {
+        array.setMagnitude(i, array.magnitude(i) + 1);
+      }
+    });
+  }
+
+  @Test
+  public void testParse() {
+    MutableMeasure<Distance> m = MutableMeasure.zero(Units.Inches);
+    String text = "12.5 ft";
+    assertNoAllocation("UnitRegistry.parse", () -> UnitRegistry.parse(text, 0, text.length(), m));
+  }
+
+  @Test
+  public void testFormat() {
+    MeasureFormat format = MeasureFormat.fixed(3);
+    StringBuilder builder = new StringBuilder(64);
+    java.nio.ByteBuffer buffer = java.nio.ByteBuffer.allocate(64);
+    assertNoAllocation("MeasureFormat.format(StringBuilder)", () -> {
+      builder.setLength(0);
+      format.format(feet, builder);
+    });
+    assertNoAllocation("MeasureFormat.format(ByteBuffer)", () -> {
+      buffer.clear();
+      format.format(fahrenheit, buffer);
+    });
+  }
+
+  @Test
+  public void testCodec() {
+    MutableMeasure<Distance> m = MutableMeasure.zero(Units.Inches);
+    java.nio.ByteBuffer buffer = java.nio.ByteBuffer.allocate(16);
+    assertNoAllocation("MeasureCodec write/read", () -> {
+      buffer.clear();
+      MeasureCodec.write(sink, Units.Feet, buffer);
+      buffer.flip();
+      MeasureCodec.read(buffer, m);
+    });
+  }
+
+  @Test
+  public void testCalculus() {
+    Differentiator<Distance, Velocity> differentiator = Differentiator.velocity(Units.Feet, Units.Milliseconds);
+    Integrator<Velocity, Distance> integrator = Integrator.distance(Units.MetersPerSecond, Units.Milliseconds);
+    assertNoAllocation("Differentiator/Integrator.update", () -> {
+      sink += 1;
+      integrator.update(sink, differentiator.update(sink, sink * sink));
+    });
+  }
+
+  @Test
+  public void testFilters() {
+    MovingAverageFilter<Distance> average = new MovingAverageFilter<>(Units.Feet, 10);
+    MedianFilter<Distance> median = new MedianFilter<>(Units.Feet, 11);
+    assertNoAllocation("MeasureFilter.calculate", () -> {
+      sink = average.calculate(inches) + median.calculate(sink % 7);
+    });
+  }
+
+  @Test
+  public void testStatistics() {
+    MeasureStatistics<Distance> statistics = new MeasureStatistics<>(Units.Feet);
+    MeasureHistogram<Distance> histogram = new MeasureHistogram<>(Units.Feet, 1e-3, 1e6, 3);
+    assertNoAllocation("MeasureStatistics/MeasureHistogram.add", () -> {
+      statistics.add(inches);
+      histogram.add(inches);
+    });
+  }
+
+  @Test
+  public void testInterpolatingTable() {
+    InterpolatingMeasureTable<Distance, Velocity> table =
+        InterpolatingMeasureTable.builder(Units.Meters, Units.MetersPerSecond)
+            .put(0, 0).put(1, 3).put(2, 4).put(4, 9)
+            .interpolation(InterpolatingMeasureTable.Interpolation.CUBIC_SPLINE)
+            .search(InterpolatingMeasureTable.Search.EYTZINGER)
+            .build();
+    MutableMeasure<Velocity> result = MutableMeasure.zero(Units.MetersPerSecond);
+    assertNoAllocation("InterpolatingMeasureTable.get", () -> table.get(inches, result));
+  }
+
+  @Test
+  public void testVectorArray() {
+    MeasureVectorArray<Distance> positions = MeasureVectorArray.twoDimensional(64, Units.Meters);
+    MeasureVectorArray<Distance> deltas = MeasureVectorArray.twoDimensional(64, Units.Inches);
+    MeasureArray<Angle> headings = new MeasureArray<>(64, Units.Degrees);
+    double[] norms = new double[64];
+    assertNoAllocation("MeasureVectorArray bulk operations", () -> {
+      deltas.rotate(headings);
+      positions.add(deltas);
+      positions.scale(0.5);
+      positions.norms(norms);
+    });
+  }
+
+  @Test
+  public void testAlarmEngine() {
+    AlarmEngine engine = new AlarmEngine((alarm, active, magnitude) -> booleanSink = active);
+    AlarmEngine.Channel<ElectricCurrent> current = engine.addChannel("drive", Units.Milliamps);
+    current.alarmAbove("warn", Units.Amps.of(30), Units.Amps.of(1));
+    current.alarmAbove("high", Units.Amps.of(40), Units.Amps.of(2));
+    current.alarmBelow("idle", Units.Amps.of(1), Units.Milliamps.of(100));
+    Measure<ElectricCurrent> high = Units.Amps.of(45);
+    Measure<ElectricCurrent> low = Units.Milliamps.of(0);
+    assertNoAllocation("AlarmEngine.Channel.update", () -> {
+      current.update(high);
+      current.update(low);
+    });
+  }
+
+  @Test
+  public void testMotionProfile() {
+    MotionProfile profile = MotionProfile.sCurve(
+        Units.Feet.of(10), Units.FeetPerSecond.of(5), Units.Gs.of(0.5),
+        Units.MetersPerSecondPerSecond.of(20).per(Units.Seconds.of(1)));
+    MotionProfile.MutableState state = new MotionProfile.MutableState();
+    Measure<Time> time = Units.Milliseconds.of(750);
+    Measure<Time> period = Units.Milliseconds.of(20);
+    double[] positions = new double[profile.sampleCount(period)];
+    assertNoAllocation("MotionProfile.sample", () -> {
+      sink = profile.sample(time, state).position();
+      sink += profile.sample(sink, state).velocity();
+    });
+    assertNoAllocation("MotionProfile.precompute", () ->
+        intSink = profile.precompute(period, positions, null, null));
+    assertNoAllocation("MotionProfile.precompute(double)", () ->
+        intSink = profile.precompute(0.02, positions, null, null));
+  }
+
+}
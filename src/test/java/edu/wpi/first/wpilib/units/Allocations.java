@@ -0,0 +1,68 @@
+package edu.wpi.first.wpilib.units;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Test utility for checking that operations do not allocate, based on the per-thread allocation counters exposed
+ * by {@link com.sun.management.ThreadMXBean}. Tests using it are skipped on JVMs that don't support the counters.
+ */
+final class Allocations {
+
+  private static final int WARMUP_ITERATIONS = 20_000;
+  private static final int MEASURED_ITERATIONS = 10_000;
+  private static final int ATTEMPTS = 5;
+
+  private Allocations() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Asserts that an operation does not allocate any memory once warmed up. The operation is run enough times for
+   * the JIT to compile it, then the bytes allocated by the current thread over a measured run are checked. The
+   * measurement is repeated a few times so a single compilation or deoptimization event doesn't fail the test.
+   *
+   * @param message   the assertion message
+   * @param operation the operation to check
+   */
+  static void assertNoAllocation(String message, Runnable operation) {
+    com.sun.management.ThreadMXBean threads = threadBean();
+    Runnable noop = () -> {
+    };
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      operation.run();
+      noop.run();
+    }
+    long allocated = Long.MAX_VALUE;
+    for (int attempt = 0; attempt < ATTEMPTS && allocated > 0; attempt++) {
+      // Reading the counter can allocate on some JVMs; subtract the cost of measuring a no-op
+      long overhead = measure(threads, noop);
+      allocated = Math.min(allocated, Math.max(0, measure(threads, operation) - overhead));
+    }
+    assertEquals(message, 0, allocated);
+  }
+
+  private static long measure(com.sun.management.ThreadMXBean threads, Runnable operation) {
+    final long id = Thread.currentThread().getId();
+    final long before = threads.getThreadAllocatedBytes(id);
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      operation.run();
+    }
+    return threads.getThreadAllocatedBytes(id) - before;
+  }
+
+  private static com.sun.management.ThreadMXBean threadBean() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    assumeTrue("Thread allocation counters are not available",
+        bean instanceof com.sun.management.ThreadMXBean);
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+    assumeTrue("Thread allocation counters are not supported", threads.isThreadAllocatedMemorySupported());
+    if (!threads.isThreadAllocatedMemoryEnabled()) {
+      threads.setThreadAllocatedMemoryEnabled(true);
+    }
+    return threads;
+  }
+
+}
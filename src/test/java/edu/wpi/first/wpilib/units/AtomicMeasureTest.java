@@ -0,0 +1,70 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AtomicMeasureTest {
+
+  @Test
+  public void testAdd() {
+    AtomicMeasure<Distance> total = new AtomicMeasure<>(Units.Inches);
+    assertEquals(12, total.addAndGet(Units.Feet.of(1)), 1e-9);
+    assertEquals(12, total.getAndAdd(6), 1e-9);
+    assertEquals(18, total.get(), 1e-9);
+    assertEquals(Units.Feet.of(1.5).as(Units.Meters), total.toMeasure().as(Units.Meters), 1e-9);
+    assertEquals("18.0 in", new AtomicMeasure<>(Units.Inches, 18).toString());
+  }
+
+  @Test
+  public void testCompareAndSet() {
+    AtomicMeasure<Time> time = new AtomicMeasure<>(Units.Seconds, 1);
+    assertFalse(time.compareAndSet(2, 3));
+    assertTrue(time.compareAndSet(1, 3));
+    assertEquals(3, time.getAndSet(4), 0);
+    assertEquals(4, time.get(), 0);
+  }
+
+  @Test
+  public void testMinMax() {
+    AtomicMeasure<ElectricCurrent> peak = new AtomicMeasure<>(Units.Amps, Double.NEGATIVE_INFINITY);
+    assertEquals(10, peak.maxAndGet(10), 0);
+    assertEquals(10, peak.maxAndGet(5), 0);
+    assertEquals(20, peak.maxAndGet(Units.Milliamps.of(20_000)), 1e-12);
+    assertEquals(-1, peak.minAndGet(-1), 0);
+    assertEquals(-1, peak.minAndGet(Units.Amps.of(3)), 0);
+  }
+
+  @Test
+  public void testAccumulate() {
+    AtomicMeasure<Distance> measure = new AtomicMeasure<>(Units.Meters, 2);
+    assertEquals(6, measure.accumulateAndGet(3, (a, b) -> a * b), 0);
+    assertEquals(7, measure.updateAndGet(x -> x + 1), 0);
+    assertEquals(7.5, measure.accumulateAndGet(Units.Millimeters.of(500), Double::sum), 1e-12);
+  }
+
+  @Test
+  public void testConcurrentAdd() throws InterruptedException {
+    AtomicMeasure<Distance> total = new AtomicMeasure<>(Units.Meters);
+    AtomicMeasure<Distance> peak = new AtomicMeasure<>(Units.Meters);
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      final int offset = t;
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          total.addAndGet(1);
+          peak.maxAndGet(i * threads.length + offset);
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(40_000, total.get(), 0);
+    assertEquals(39_999, peak.get(), 0);
+  }
+
+}
@@ -0,0 +1,65 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class DifferentiatorTest {
+
+  @Test
+  public void testVelocity() {
+    Differentiator<Distance, Velocity> differentiator = Differentiator.velocity(Units.Feet, Units.Milliseconds);
+    assertEquals(0, differentiator.update(0, 0), 0);
+    // 1 foot in 100 ms = 10 ft/s
+    assertEquals(Units.Feet.of(10).as(Units.Meters), differentiator.update(100, 1), 1e-9);
+    // Irregular interval: 2 feet in 400 ms = 5 ft/s
+    assertEquals(Units.Feet.of(5).as(Units.Meters), differentiator.update(500, 3), 1e-9);
+    assertEquals(Units.Feet.of(5).as(Units.Meters), differentiator.get().magnitude(), 1e-9);
+  }
+
+  @Test
+  public void testSameTimestamp() {
+    Differentiator<Distance, Velocity> differentiator = Differentiator.velocity(Units.Meters, Units.Seconds);
+    differentiator.update(0, 0);
+    differentiator.update(1, 2);
+    assertEquals(2, differentiator.update(1, 5), 0);
+  }
+
+  @Test
+  public void testQuantities() {
+    Differentiator<Velocity, Acceleration> differentiator =
+        Differentiator.acceleration(Units.MetersPerSecond, Units.Seconds);
+    differentiator.update(Units.Seconds.of(1), Units.MetersPerSecond.of(0));
+    differentiator.update(Units.Milliseconds.of(1500), Units.FeetPerSecond.of(10));
+    MutableMeasure<Acceleration> result = MutableMeasure.zero(Units.Gs);
+    differentiator.output(result);
+    assertEquals(Units.MetersPerSecondPerSecond, result.unit());
+    assertEquals(Units.FeetPerSecond.of(10).as(Units.MetersPerSecond) * 2, result.magnitude(), 1e-9);
+  }
+
+  @Test
+  public void testBatch() {
+    Differentiator<Distance, Velocity> differentiator = Differentiator.velocity(Units.Meters, Units.Seconds);
+    double[] timestamps = {0, 0.5, 1, 2};
+    double[] distances = {0, 1, 3, 3};
+    double[] velocities = new double[4];
+    differentiator.update(timestamps, distances, velocities, 0, 4);
+    assertEquals(0, velocities[0], 0);
+    assertEquals(2, velocities[1], 1e-12);
+    assertEquals(4, velocities[2], 1e-12);
+    assertEquals(0, velocities[3], 1e-12);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongDimension() {
+    new Differentiator<>(Units.Meters, Units.Seconds, Units.Meters);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTimeGoesBackwards() {
+    Differentiator<Distance, Velocity> differentiator = Differentiator.velocity(Units.Meters, Units.Seconds);
+    differentiator.update(1, 0);
+    differentiator.update(0, 0);
+  }
+
+}
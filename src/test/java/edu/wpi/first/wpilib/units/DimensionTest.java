@@ -0,0 +1,49 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class DimensionTest {
+
+  @Test
+  public void testOf() {
+    long d = Dimension.of(1, -2, 3, -4, 5, -128);
+    assertEquals(1, Dimension.length(d));
+    assertEquals(-2, Dimension.time(d));
+    assertEquals(3, Dimension.mass(d));
+    assertEquals(-4, Dimension.current(d));
+    assertEquals(5, Dimension.temperature(d));
+    assertEquals(-128, Dimension.angle(d));
+  }
+
+  @Test
+  public void testMultiply() {
+    long velocity = Dimension.of(1, -1, 0, 0, 0, 0);
+    assertEquals(Dimension.LENGTH, Dimension.multiply(velocity, Dimension.TIME));
+    assertEquals(Dimension.of(2, -2, 0, 0, 0, 0), Dimension.multiply(velocity, velocity));
+    assertEquals(Dimension.NONE, Dimension.multiply(velocity, Dimension.inverse(velocity)));
+  }
+
+  @Test
+  public void testDivide() {
+    long acceleration = Dimension.of(1, -2, 0, 0, 0, 0);
+    assertEquals(acceleration, Dimension.divide(Dimension.of(1, -1, 0, 0, 0, 0), Dimension.TIME));
+    assertEquals(Dimension.of(-1, 2, -1, 1, -1, 1),
+        Dimension.divide(Dimension.NONE, Dimension.of(1, -2, 1, -1, 1, -1)));
+    assertEquals(Dimension.of(-3, 0, 0, 0, 0, 0), Dimension.divide(Dimension.of(-1, 0, 0, 0, 0, 0),
+        Dimension.of(2, 0, 0, 0, 0, 0)));
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals("L T^-1", Dimension.toString(Units.FeetPerSecond.dimension()));
+    assertEquals("1", Dimension.toString(Units.Percent.dimension()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOutOfRange() {
+    Dimension.of(128, 0, 0, 0, 0, 0);
+  }
+
+}
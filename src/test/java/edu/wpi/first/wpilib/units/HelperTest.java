@@ -1,13 +1,26 @@
 package edu.wpi.first.wpilib.units;
 
+import edu.wpi.first.wpilib.units.distance.Inches;
 import edu.wpi.first.wpilib.units.electriccurrent.Amps;
 import edu.wpi.first.wpilib.units.electricpotental.Volts;
 import edu.wpi.first.wpilib.units.power.Milliwatts;
 import edu.wpi.first.wpilib.units.power.Watts;
 
+import edu.wpi.first.wpilib.units.temperature.Fahrenheit;
+
 import org.junit.Test;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class HelperTest {
 
@@ -21,4 +34,50 @@ public class HelperTest {
     assertEquals(Milliwatts.of(10_000), Milliwatts.of(Volts.of(100), Amps.of(0.1)));
   }
 
+  @Test
+  public void testFahrenheit() {
+    assertSame(Units.Fahrenheit, Fahrenheit.of(212).unit());
+    assertEquals(100, Fahrenheit.of(212).toCelsius(), 1e-12);
+  }
+
+  @Test
+  public void testInchesToFeet() {
+    assertEquals(Units.Feet.convert(30, Units.Inches), Inches.of(30).toFeet(), 0);
+    assertEquals(2.5, Inches.of(30).toFeet(), 1e-12);
+  }
+
+  /**
+   * Checks the constants in every generated helper against the conversions of the units it wraps, so a helper
+   * generated from stale units is caught.
+   */
+  @Test
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public void testGeneratedConversions() throws Exception {
+    List<String[]> rows = new ArrayList<>();
+    for (String line : Files.readAllLines(Paths.get("src/codegen/units.txt"), StandardCharsets.UTF_8)) {
+      String[] columns = line.split("\\|");
+      if (!line.startsWith("#") && !line.startsWith("product") && columns.length == 3) {
+        rows.add(new String[] {columns[0].trim(), columns[1].trim(), columns[2].trim()});
+      }
+    }
+    assertTrue(rows.size() >= 30);
+    for (String[] row : rows) {
+      Class<?> helper = Class.forName("edu.wpi.first.wpilib.units." + row[0] + "." + row[2]);
+      assertTrue(row[2] + " should be final", Modifier.isFinal(helper.getModifiers()));
+      Unit unit = (Unit) Units.class.getField(row[2]).get(null);
+      for (double magnitude : new double[] {0, 1.5, -273.15, 1e6}) {
+        Measure measure = (Measure) helper.getMethod("of", double.class).invoke(null, magnitude);
+        assertSame(unit, measure.unit());
+        for (String[] sibling : rows) {
+          if (sibling[1].equals(row[1]) && sibling != row) {
+            Unit other = (Unit) Units.class.getField(sibling[2]).get(null);
+            Method to = helper.getMethod("to" + sibling[2]);
+            assertEquals(row[2] + ".to" + sibling[2],
+                other.conversionFrom(unit).apply(magnitude), (double) to.invoke(measure), 0);
+          }
+        }
+      }
+    }
+  }
+
 }
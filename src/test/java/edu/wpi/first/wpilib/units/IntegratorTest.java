@@ -0,0 +1,53 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class IntegratorTest {
+
+  @Test
+  public void testDistance() {
+    Integrator<Velocity, Distance> integrator = Integrator.distance(Units.FeetPerSecond, Units.Seconds);
+    integrator.update(0, 0);
+    // Trapezoid: average of 0 and 10 ft/s over 2 s = 10 ft
+    assertEquals(Units.FeetPerSecond.of(10).as(Units.MetersPerSecond), integrator.update(2, 10), 1e-9);
+    // Irregular interval: 10 ft/s for 0.5 s = 5 more feet
+    assertEquals(Units.FeetPerSecond.of(15).as(Units.MetersPerSecond), integrator.update(2.5, 10), 1e-9);
+  }
+
+  @Test
+  public void testVelocity() {
+    Integrator<Acceleration, Velocity> integrator =
+        Integrator.velocity(Units.MetersPerSecondPerSecond, Units.Milliseconds);
+    double[] timestamps = new double[1001];
+    double[] accelerations = new double[1001];
+    double[] velocities = new double[1001];
+    for (int i = 0; i < timestamps.length; i++) {
+      timestamps[i] = i;
+      accelerations[i] = 9.8;
+    }
+    integrator.update(timestamps, accelerations, velocities, 0, timestamps.length);
+    assertEquals(9.8, velocities[1000], 1e-9);
+    assertEquals(9.8, integrator.get().magnitude(), 1e-9);
+  }
+
+  @Test
+  public void testReset() {
+    Integrator<Velocity, Distance> integrator =
+        new Integrator<>(Units.MetersPerSecond, Units.Seconds, Units.Inches);
+    integrator.update(0, 1);
+    integrator.update(1, 1);
+    integrator.reset(5);
+    assertEquals(5, integrator.output(), 1e-9);
+    integrator.update(Units.Seconds.of(10), Units.MetersPerSecond.of(1));
+    integrator.update(Units.Seconds.of(11), Units.MetersPerSecond.of(1));
+    assertEquals(5 + Units.Meters.of(1).as(Units.Inches), integrator.output(), 1e-9);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongDimension() {
+    new Integrator<>(Units.MetersPerSecond, Units.Seconds, Units.MetersPerSecondPerSecond);
+  }
+
+}
@@ -0,0 +1,122 @@
+package edu.wpi.first.wpilib.units;
+
+import edu.wpi.first.wpilib.units.InterpolatingMeasureTable.Interpolation;
+import edu.wpi.first.wpilib.units.InterpolatingMeasureTable.Search;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class InterpolatingMeasureTableTest {
+
+  private static InterpolatingMeasureTable<Distance, Velocity> table(Interpolation interpolation) {
+    return InterpolatingMeasureTable.builder(Units.Meters, Units.MetersPerSecond)
+        .put(3, 12)
+        .put(1, 8)
+        .put(Units.Millimeters.of(2000), Units.MetersPerSecond.of(10))
+        .put(5, 20)
+        .interpolation(interpolation)
+        .build();
+  }
+
+  @Test
+  public void testLinear() {
+    InterpolatingMeasureTable<Distance, Velocity> table = table(Interpolation.LINEAR);
+    assertEquals(4, table.size());
+    assertEquals(9, table.get(1.5), 1e-12);
+    assertEquals(10, table.get(2), 1e-12);
+    assertEquals(16, table.get(4), 1e-12);
+    assertEquals(9, table.get(Units.Millimeters.of(1500)), 1e-12);
+    assertEquals(11, table.get(Units.Centimeters.of(250)), 1e-12);
+  }
+
+  @Test
+  public void testClamping() {
+    InterpolatingMeasureTable<Distance, Velocity> table = table(Interpolation.LINEAR);
+    assertEquals(8, table.get(-10), 0);
+    assertEquals(8, table.get(1), 0);
+    assertEquals(20, table.get(5), 0);
+    assertEquals(20, table.get(Double.POSITIVE_INFINITY), 0);
+    assertEquals(Double.NaN, table.get(Double.NaN), 0);
+  }
+
+  @Test
+  public void testNearest() {
+    InterpolatingMeasureTable<Distance, Velocity> table = table(Interpolation.NEAREST);
+    assertEquals(8, table.get(1.4), 0);
+    assertEquals(10, table.get(1.5), 0);
+    assertEquals(10, table.get(2.4), 0);
+    assertEquals(20, table.get(4.9), 0);
+  }
+
+  @Test
+  public void testCubicSpline() {
+    InterpolatingMeasureTable<Distance, Velocity> table = table(Interpolation.CUBIC_SPLINE);
+    // Passes through every point
+    assertEquals(8, table.get(1), 1e-12);
+    assertEquals(10, table.get(2), 1e-12);
+    assertEquals(12, table.get(3), 1e-12);
+    assertEquals(20, table.get(5), 1e-12);
+
+    // Slope is continuous at the interior points
+    final double h = 1e-6;
+    for (double x : new double[] {2, 3}) {
+      double left = (table.get(x) - table.get(x - h)) / h;
+      double right = (table.get(x + h) - table.get(x)) / h;
+      assertEquals(left, right, 1e-4);
+    }
+
+    // Linear data gives a straight line
+    InterpolatingMeasureTable<Time, Distance> line = InterpolatingMeasureTable.builder(Units.Seconds, Units.Meters)
+        .put(0, 0).put(1, 2).put(3, 6).put(4, 8)
+        .interpolation(Interpolation.CUBIC_SPLINE)
+        .build();
+    assertEquals(5, line.get(2.5), 1e-12);
+  }
+
+  @Test
+  public void testEytzingerMatchesBinary() {
+    Random random = new Random(19);
+    for (int size = 1; size <= 40; size++) {
+      InterpolatingMeasureTable.Builder<Distance, Velocity> binary =
+          InterpolatingMeasureTable.builder(Units.Meters, Units.MetersPerSecond);
+      InterpolatingMeasureTable.Builder<Distance, Velocity> eytzinger =
+          InterpolatingMeasureTable.builder(Units.Meters, Units.MetersPerSecond).search(Search.EYTZINGER);
+      for (int i = 0; i < size; i++) {
+        double key = i * 2 + random.nextDouble();
+        double value = random.nextGaussian();
+        binary.put(key, value);
+        eytzinger.put(key, value);
+      }
+      InterpolatingMeasureTable<Distance, Velocity> a = binary.build();
+      InterpolatingMeasureTable<Distance, Velocity> b = eytzinger.build();
+      for (int i = 0; i < 200; i++) {
+        double key = random.nextDouble() * (size * 2 + 2) - 1;
+        assertEquals("size " + size + ", key " + key, a.get(key), b.get(key), 0);
+      }
+      for (int i = 0; i < size; i++) {
+        assertEquals(a.get(i * 2.0), b.get(i * 2.0), 0);
+      }
+    }
+  }
+
+  @Test
+  public void testMutableResult() {
+    MutableMeasure<Velocity> result = MutableMeasure.zero(Units.FeetPerSecond);
+    table(Interpolation.LINEAR).get(Units.Meters.of(2), result);
+    assertEquals(Units.MetersPerSecond, result.unit());
+    assertEquals(10, result.magnitude(), 1e-12);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDuplicateKeys() {
+    InterpolatingMeasureTable.builder(Units.Meters, Units.MetersPerSecond).put(1, 1).put(1, 2).build();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testEmpty() {
+    InterpolatingMeasureTable.builder(Units.Meters, Units.MetersPerSecond).build();
+  }
+
+}
@@ -0,0 +1,39 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class MeasureAdderTest {
+
+  @Test
+  public void testAdd() {
+    MeasureAdder<Distance> adder = new MeasureAdder<>(Units.Inches);
+    adder.add(6);
+    adder.add(Units.Feet.of(1));
+    assertEquals(18, adder.sum(), 1e-9);
+    assertEquals(1.5, adder.sum(Units.Feet), 1e-9);
+    assertEquals(Units.Inches.of(18), adder.toMeasure());
+    assertEquals(18, adder.sumThenReset(), 1e-9);
+    assertEquals(0, adder.sum(), 0);
+  }
+
+  @Test
+  public void testConcurrentAdd() throws InterruptedException {
+    MeasureAdder<Time> adder = new MeasureAdder<>(Units.Seconds);
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          adder.add(Units.Milliseconds.of(500));
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(20_000, adder.sum(), 1e-6);
+  }
+
+}
@@ -0,0 +1,189 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MeasureArrayTest {
+
+  @Test
+  public void testGetSet() {
+    MeasureArray<Distance> array = new MeasureArray<>(3, Units.Inches);
+    array.set(0, Units.Feet.of(1));
+    array.setMagnitude(1, 6);
+    assertEquals(12, array.magnitude(0), 1e-12);
+    assertTrue(array.get(1).isEquivalent(Units.Feet.of(0.5)));
+    assertEquals(Units.Inches, array.get(2).unit());
+  }
+
+  @Test
+  public void testView() {
+    double[] magnitudes = {12, 24};
+    MeasureArray<Distance> inches = MeasureArray.wrap(magnitudes, Units.Inches);
+    MeasureArray<Distance> feet = inches.as(Units.Feet);
+    assertEquals(2, feet.magnitude(1), 1e-12);
+
+    feet.setMagnitude(0, 3);
+    assertEquals(36, magnitudes[0], 1e-12);
+    assertEquals(36, inches.magnitude(0), 1e-12);
+  }
+
+  @Test
+  public void testReductions() {
+    MeasureArray<Temperature> array = MeasureArray.wrap(new double[]{100, 0, 50}, Units.Celsius);
+    assertEquals(150, array.sum().magnitude(), 1e-12);
+    assertEquals(32, array.min(Units.Fahrenheit).magnitude(), 1e-12);
+    assertEquals(212, array.max(Units.Fahrenheit).magnitude(), 1e-12);
+    assertEquals(122, array.mean(Units.Fahrenheit).magnitude(), 1e-12);
+    assertEquals(212 + 32 + 122, array.sum(Units.Fahrenheit).magnitude(), 1e-12);
+  }
+
+  @Test
+  public void testSort() {
+    double[] magnitudes = {5, 0, 3, 1, 4};
+    MeasureArray.wrap(magnitudes, 1, 3, Units.Seconds).sort();
+    assertArrayEquals(new double[]{5, 0, 1, 3, 4}, magnitudes, 0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testOutOfBounds() {
+    MeasureArray.wrap(new double[4], 1, 2, Units.Seconds).magnitude(2);
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void testMinOfEmpty() {
+    new MeasureArray<>(0, Units.Seconds).min();
+  }
+
+  @Test
+  public void testBuffer() {
+    MeasureBuffer<Distance> buffer = new MeasureBuffer<>(Units.Meters, 1);
+    for (int i = 0; i < 100; i++) {
+      buffer.add(Units.Centimeters.of(i));
+    }
+    assertEquals(100, buffer.size());
+    assertEquals(0.99, buffer.max().magnitude(), 1e-12);
+    assertEquals(4950, buffer.sum(Units.Centimeters).magnitude(), 1e-9);
+
+    MeasureArray<Distance> array = buffer.toArray();
+    buffer.clear();
+    assertEquals(100, array.length());
+    assertEquals(0.5, array.get(50).magnitude(), 1e-12);
+  }
+
+  private static double[] randomMagnitudes(int length, long seed) {
+    Random random = new Random(seed);
+    double[] magnitudes = new double[length];
+    for (int i = 0; i < length; i++) {
+      magnitudes[i] = random.nextGaussian() * Math.pow(10, random.nextInt(12) - 6);
+    }
+    return magnitudes;
+  }
+
+  @Test
+  public void testParallelSum() throws Exception {
+    double[] magnitudes = randomMagnitudes(300_000, 20);
+    BigDecimal exact = BigDecimal.ZERO;
+    for (double magnitude : magnitudes) {
+      exact = exact.add(new BigDecimal(magnitude));
+    }
+    MeasureArray<ElectricCurrent> array = MeasureArray.wrap(magnitudes, Units.Milliamps);
+    double sum = array.parallelSum().magnitude();
+    assertEquals(exact.doubleValue(), sum, Math.ulp(exact.doubleValue()) * 4);
+
+    // The same result with any number of threads
+    for (int threads : new int[] {1, 3, 8}) {
+      ForkJoinPool pool = new ForkJoinPool(threads);
+      try {
+        assertEquals(sum, pool.submit(() -> array.parallelSum().magnitude()).get(), 0);
+      } finally {
+        pool.shutdown();
+      }
+    }
+    assertEquals(exact.doubleValue() / 1000, array.parallelSum(Units.Amps).magnitude(), Math.ulp(sum / 1000) * 8);
+    assertEquals(sum / magnitudes.length, array.parallelMean().magnitude(), Math.ulp(sum / magnitudes.length) * 4);
+  }
+
+  @Test
+  public void testParallelExtremes() {
+    double[] magnitudes = randomMagnitudes(100_000, 21);
+    magnitudes[70_000] = 1e9;
+    magnitudes[90_000] = 1e9;
+    magnitudes[40_000] = -1e9;
+    magnitudes[50_000] = Double.NaN;
+    MeasureArray<Temperature> array = MeasureArray.wrap(magnitudes, Units.Celsius);
+    assertEquals(70_000, array.parallelArgMax());
+    assertEquals(40_000, array.parallelArgMin());
+    assertEquals(1e9, array.parallelMax().magnitude(), 0);
+    assertEquals(-1e9, array.parallelMin().magnitude(), 0);
+    assertEquals(-1e9 * 9 / 5 + 32, array.parallelMin(Units.Fahrenheit).magnitude(), 1e-3);
+
+    // Negative scale flips the order
+    Unit<Temperature> inverted = Units.derive(Units.Celsius).scale(-1).make();
+    MeasureArray<Temperature> view = array.as(inverted);
+    assertEquals(40_000, view.parallelArgMax());
+    assertEquals(70_000, view.parallelArgMin());
+    assertEquals(1e9, view.parallelMax().magnitude(), 0);
+
+    // Indices are relative to the start of a slice
+    MeasureArray<Temperature> slice = MeasureArray.wrap(magnitudes, 60_000, 40_000, Units.Celsius);
+    assertEquals(10_000, slice.parallelArgMax());
+  }
+
+  @Test
+  public void testNaNExtremes() {
+    double[] magnitudes = randomMagnitudes(100_000, 24);
+    magnitudes[0] = Double.NaN;
+    magnitudes[30_000] = Double.NaN;
+    magnitudes[60_000] = 1e9;
+    magnitudes[80_000] = -1e9;
+    MeasureArray<Temperature> array = MeasureArray.wrap(magnitudes, Units.Celsius);
+    // The sequential and parallel reductions skip NaNs the same way
+    assertEquals(1e9, array.max().magnitude(), 0);
+    assertEquals(1e9, array.parallelMax().magnitude(), 0);
+    assertEquals(-1e9, array.min().magnitude(), 0);
+    assertEquals(-1e9, array.parallelMin().magnitude(), 0);
+    assertEquals(array.min(Units.Fahrenheit).magnitude(), array.parallelMin(Units.Fahrenheit).magnitude(), 0);
+    assertEquals(60_000, array.parallelArgMax());
+    assertEquals(80_000, array.parallelArgMin());
+
+    // Only NaN if every magnitude is NaN
+    MeasureArray<Temperature> nans = MeasureArray.wrap(new double[] {Double.NaN, Double.NaN}, Units.Celsius);
+    assertTrue(Double.isNaN(nans.max().magnitude()));
+    assertTrue(Double.isNaN(nans.parallelMax().magnitude()));
+    assertTrue(Double.isNaN(nans.min().magnitude()));
+    assertTrue(Double.isNaN(nans.parallelMin().magnitude()));
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void testParallelMaxEmpty() {
+    new MeasureArray<>(0, Units.Meters).parallelMax();
+  }
+
+  @Test
+  public void testParallelConvert() {
+    double[] magnitudes = randomMagnitudes(50_000, 22);
+    MeasureArray<ElectricCurrent> milliamps = MeasureArray.wrap(magnitudes, 1, 49_998, Units.Milliamps);
+    MeasureArray<ElectricCurrent> amps = milliamps.parallelConvert(Units.Amps);
+    assertEquals(Units.Amps, amps.unit());
+    assertArrayEquals(milliamps.as(Units.Amps).toMagnitudeArray(), amps.toMagnitudeArray(), 0);
+  }
+
+  @Test
+  public void testSpliterator() {
+    double[] magnitudes = randomMagnitudes(10_000, 23);
+    MeasureArray<Distance> array = MeasureArray.wrap(magnitudes, Units.Meters).as(Units.Millimeters);
+    assertArrayEquals(array.toMagnitudeArray(),
+        StreamSupport.doubleStream(array.spliterator(), true).toArray(), 0);
+    assertEquals(10_000, array.spliterator().estimateSize());
+  }
+
+}
@@ -0,0 +1,156 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class MeasureCodecTest {
+
+  @Test
+  public void testRoundTrip() {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    MeasureCodec.write(Units.Feet.of(12.5), buffer);
+    MeasureCodec.write(Units.Fahrenheit.of(-40), buffer);
+    assertEquals(2 * MeasureCodec.encodedLength(Units.Feet), buffer.position());
+    buffer.flip();
+
+    Measure<?> feet = MeasureCodec.read(buffer);
+    assertSame(Units.Feet, feet.unit());
+    assertEquals(12.5, feet.magnitude(), 0);
+    assertEquals(Units.Fahrenheit.of(-40), MeasureCodec.read(buffer));
+    assertEquals(0, buffer.remaining());
+  }
+
+  @Test
+  public void testFormat() {
+    ByteBuffer buffer = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+    MeasureCodec.write(1.0, Units.Meters, buffer);
+    byte[] expected = {1, 0x3F, (byte) 0xF0, 0, 0, 0, 0, 0, 0};
+    byte[] actual = new byte[buffer.position()];
+    buffer.flip();
+    buffer.get(actual);
+    assertArrayEquals(expected, actual);
+  }
+
+  @Test
+  public void testCustomUnitId() {
+    Unit<Distance> chains = Units.Feet.aggregate(66);
+    UnitRegistry.register(1500, chains, "chain", "chains", "ch");
+    assertEquals(1500, UnitRegistry.idOf(chains));
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    MeasureCodec.write(chains.of(2), buffer);
+    assertEquals(2 + Double.BYTES, buffer.position());
+    buffer.flip();
+    assertSame(chains, MeasureCodec.read(buffer).unit());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIdConflict() {
+    UnitRegistry.register(1501, Units.Feet.aggregate(22), "rod (codec)", "rods (codec)", "rd (codec)");
+    UnitRegistry.register(1501, Units.Feet.aggregate(3), "yard (codec)", "yards (codec)", "yd (codec)");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReservedId() {
+    UnitRegistry.register(100, Units.Feet.aggregate(3), "yard (reserved)", "yards (reserved)", "yd (reserved)");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIdTooLarge() {
+    UnitRegistry.register(Integer.MAX_VALUE, Units.Feet.aggregate(3), "yard (large)", "yards (large)", "yd (large)");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnregisteredUnit() {
+    MeasureCodec.write(Units.Feet.aggregate(5280).of(1), ByteBuffer.allocate(16));
+  }
+
+  @Test
+  public void testReadMutable() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    MeasureCodec.write(Units.Feet.of(2), buffer);
+    buffer.flip();
+    MutableMeasure<Distance> inches = MutableMeasure.zero(Units.Inches);
+    MeasureCodec.read(buffer, inches);
+    assertEquals(24, inches.magnitude(), 1e-9);
+  }
+
+  @Test
+  public void testIncomplete() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    MeasureCodec.write(Units.Feet.of(2), buffer);
+    buffer.flip();
+    buffer.limit(buffer.limit() - 1);
+    try {
+      MeasureCodec.read(buffer);
+      fail("Expected a BufferUnderflowException");
+    } catch (BufferUnderflowException e) {
+      assertEquals(0, buffer.position());
+    }
+  }
+
+  @Test
+  public void testOverflow() {
+    ByteBuffer buffer = ByteBuffer.allocate(8);
+    try {
+      MeasureCodec.write(Units.Feet.of(2), buffer);
+      fail("Expected a BufferOverflowException");
+    } catch (BufferOverflowException e) {
+      assertEquals(0, buffer.position());
+    }
+  }
+
+  @Test
+  public void testRun() {
+    double[] magnitudes = new double[300];
+    for (int i = 0; i < magnitudes.length; i++) {
+      magnitudes[i] = i * 0.5;
+    }
+    MeasureArray<Distance> array = MeasureArray.wrap(magnitudes, Units.Inches);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(MeasureCodec.encodedLength(array));
+    MeasureCodec.writeRun(array, buffer);
+    assertEquals(0, buffer.remaining());
+    buffer.flip();
+
+    MeasureArray<?> decoded = MeasureCodec.readRun(buffer);
+    assertSame(Units.Inches, decoded.unit());
+    assertArrayEquals(magnitudes, decoded.toMagnitudeArray(), 0);
+  }
+
+  @Test
+  public void testRunView() {
+    MeasureArray<Distance> feet = MeasureArray.wrap(new double[] {1, 2}, Units.Feet);
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    MeasureCodec.writeRun(feet.as(Units.Inches), buffer);
+    buffer.flip();
+    MeasureArray<?> decoded = MeasureCodec.readRun(buffer);
+    assertSame(Units.Inches, decoded.unit());
+    assertArrayEquals(new double[] {12, 24}, decoded.toMagnitudeArray(), 1e-9);
+  }
+
+  @Test
+  public void testRunChannel() throws Exception {
+    double[] magnitudes = new double[100];
+    for (int i = 0; i < magnitudes.length; i++) {
+      magnitudes[i] = Math.sqrt(i);
+    }
+    MeasureArray<Time> array = MeasureArray.wrap(magnitudes, Units.Milliseconds);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    MeasureCodec.writeRun(array, Channels.newChannel(bytes), ByteBuffer.allocateDirect(40));
+
+    ByteBuffer expected = ByteBuffer.allocate(MeasureCodec.encodedLength(array));
+    MeasureCodec.writeRun(array, expected);
+    assertArrayEquals(expected.array(), bytes.toByteArray());
+  }
+
+}
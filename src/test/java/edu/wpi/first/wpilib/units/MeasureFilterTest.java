@@ -0,0 +1,84 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class MeasureFilterTest {
+
+  @Test
+  public void testMovingAverage() {
+    MovingAverageFilter<ElectricCurrent> filter = new MovingAverageFilter<>(Units.Amps, 3);
+    assertEquals(3, filter.calculate(3), 0);
+    assertEquals(4, filter.calculate(5), 0);
+    assertEquals(5, filter.calculate(7), 0);
+    assertEquals(7, filter.calculate(9), 0);
+    // Inputs in other units are converted to amps
+    assertEquals(8, filter.calculate(Units.Milliamps.of(8000)), 1e-12);
+    assertEquals(Units.Amps.of(8), filter.get());
+  }
+
+  @Test
+  public void testExponentialMovingAverage() {
+    ExponentialMovingAverageFilter<ElectricPotential> filter =
+        new ExponentialMovingAverageFilter<>(Units.Volts, 0.25);
+    assertEquals(12, filter.calculate(12), 0);
+    assertEquals(9, filter.calculate(0), 0);
+    assertEquals(9.75, filter.calculate(Units.Millivolts.of(12000)), 1e-12);
+    filter.reset();
+    assertEquals(1, filter.calculate(1), 0);
+  }
+
+  @Test
+  public void testLowPass() {
+    LowPassFilter<Angle> filter =
+        new LowPassFilter<>(Units.Degrees, Units.Seconds.of(0.1), Units.Milliseconds.of(20));
+    filter.calculate(0);
+    double gain = Math.exp(-0.2);
+    assertEquals(90 * (1 - gain), filter.calculate(90), 1e-9);
+    for (int i = 0; i < 1000; i++) {
+      filter.calculate(Units.Radians.of(Math.PI / 2));
+    }
+    assertEquals(90, filter.output(), 1e-9);
+    MutableMeasure<Angle> result = MutableMeasure.zero(Units.Radians);
+    assertEquals(Units.Degrees, filter.output(result).unit());
+  }
+
+  @Test
+  public void testMedian() {
+    MedianFilter<ElectricCurrent> filter = new MedianFilter<>(Units.Amps, 3);
+    assertEquals(1, filter.calculate(1), 0);
+    assertEquals(1.5, filter.calculate(2), 0);
+    assertEquals(2, filter.calculate(100), 0);
+    assertEquals(3, filter.calculate(3), 0);
+    assertEquals(3, filter.calculate(-50), 0);
+  }
+
+  @Test
+  public void testMedianMatchesSort() {
+    Random random = new Random(42);
+    for (int size : new int[] {1, 2, 5, 16, 33}) {
+      MedianFilter<ElectricCurrent> filter = new MedianFilter<>(Units.Amps, size);
+      double[] inputs = new double[500];
+      for (int i = 0; i < inputs.length; i++) {
+        // Plenty of duplicates
+        inputs[i] = random.nextInt(20);
+        int from = Math.max(0, i - size + 1);
+        double[] window = Arrays.copyOfRange(inputs, from, i + 1);
+        Arrays.sort(window);
+        int n = window.length;
+        double expected = n % 2 == 1 ? window[n / 2] : (window[n / 2 - 1] + window[n / 2]) / 2;
+        assertEquals("size " + size + ", input " + i, expected, filter.calculate(inputs[i]), 0);
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidAlpha() {
+    new ExponentialMovingAverageFilter<>(Units.Volts, 0);
+  }
+
+}
@@ -0,0 +1,75 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+public class MeasureFormatTest {
+
+  @Test
+  public void testToString() {
+    assertEquals("12.5 ft", Units.Feet.of(12.5).toString());
+    assertEquals("-3.0 ms", MutableMeasure.of(-3, Units.Milliseconds).toString());
+    assertEquals("0.5", Units.Value.of(0.5).toString());
+    assertEquals("[L^2]", Units.Meters.of(2).times(Units.Meters.of(3)).unit().symbol());
+  }
+
+  @Test
+  public void testShortest() {
+    MeasureFormat format = MeasureFormat.shortest();
+    double[] values = {0.1, 1 / 3., 1e-20, 123456789.123, -0.0, Double.MIN_VALUE};
+    for (double value : values) {
+      String text = format.format(value, Units.Meters, new StringBuilder()).toString();
+      assertEquals(value, UnitRegistry.parse(text).magnitude(), 0);
+    }
+  }
+
+  @Test
+  public void testFixed() {
+    assertEquals("12.50 ft", MeasureFormat.fixed(2).format(Units.Feet.of(12.5), new StringBuilder()).toString());
+    assertEquals("0.05 m", MeasureFormat.fixed(2).format(0.049, Units.Meters, new StringBuilder()).toString());
+    assertEquals("-1.000 s", MeasureFormat.fixed(3).format(-0.99999, Units.Seconds, new StringBuilder()).toString());
+    assertEquals("0.00 s", MeasureFormat.fixed(2).format(-0.001, Units.Seconds, new StringBuilder()).toString());
+    assertEquals("3 V", MeasureFormat.fixed(0).format(2.5, Units.Volts, new StringBuilder()).toString());
+    assertEquals("1.0E20 m", MeasureFormat.fixed(2).format(1e20, Units.Meters, new StringBuilder()).toString());
+    assertEquals("NaN m", MeasureFormat.fixed(2).format(Double.NaN, Units.Meters, new StringBuilder()).toString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFixedTooPrecise() {
+    MeasureFormat.fixed(16);
+  }
+
+  @Test
+  public void testAppendable() throws Exception {
+    StringWriter writer = new StringWriter();
+    MeasureFormat.fixed(1).format(Units.Amps.of(2), writer);
+    assertEquals("2.0 A", writer.toString());
+  }
+
+  @Test
+  public void testByteBuffer() {
+    ByteBuffer buffer = ByteBuffer.allocate(32);
+    MeasureFormat.fixed(1).format(Units.Celsius.of(21.5), buffer);
+    buffer.flip();
+    assertEquals("21.5 \u00b0C", StandardCharsets.UTF_8.decode(buffer).toString());
+  }
+
+  @Test
+  public void testByteBufferOverflow() {
+    ByteBuffer buffer = ByteBuffer.allocate(4);
+    try {
+      MeasureFormat.shortest().format(Units.Feet.of(12.5), buffer);
+    } catch (BufferOverflowException e) {
+      assertEquals(0, buffer.position());
+      return;
+    }
+    throw new AssertionError("Expected a BufferOverflowException");
+  }
+
+}
@@ -0,0 +1,74 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class MeasureHistogramTest {
+
+  @Test
+  public void testPercentiles() {
+    MeasureHistogram<Time> histogram = new MeasureHistogram<>(Units.Milliseconds, 0.001, 10_000, 3);
+    Random random = new Random(7);
+    double[] values = new double[10_000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = Math.exp(random.nextGaussian() + 2);
+      histogram.add(values[i]);
+    }
+    Arrays.sort(values);
+    for (double p : new double[] {1, 50, 90, 99, 99.9}) {
+      double expected = values[(int) Math.ceil(p / 100 * values.length) - 1];
+      assertEquals("p" + p, expected, histogram.percentile(p).magnitude(), expected * 1e-3);
+    }
+    assertEquals(values[0], histogram.percentile(0).magnitude(), 0);
+    assertEquals(values[values.length - 1], histogram.percentile(100).magnitude(), 0);
+    assertEquals(histogram.percentile(50).magnitude() / 1000, histogram.percentile(50, Units.Seconds), 1e-12);
+  }
+
+  @Test
+  public void testNegativeAndZero() {
+    MeasureHistogram<Temperature> histogram = new MeasureHistogram<>(Units.Celsius, 0.01, 1000, 2);
+    histogram.add(-40);
+    histogram.add(0);
+    histogram.add(0.001);
+    histogram.add(Units.Fahrenheit.of(212));
+    assertEquals(4, histogram.count());
+    assertEquals(-40, histogram.percentile(25).magnitude(), 0.5);
+    assertEquals(0, histogram.percentile(50).magnitude(), 0);
+    assertEquals(0, histogram.percentile(75).magnitude(), 0);
+    assertEquals(100, histogram.percentile(100).magnitude(), 1e-9);
+  }
+
+  @Test
+  public void testOutOfRange() {
+    MeasureHistogram<ElectricCurrent> histogram = new MeasureHistogram<>(Units.Amps, 1, 100, 2);
+    histogram.add(1e6);
+    histogram.add(50);
+    assertEquals(1e6, histogram.percentile(100).magnitude(), 0);
+    assertEquals(50, histogram.percentile(50).magnitude(), 0.5);
+  }
+
+  @Test
+  public void testMerge() {
+    MeasureHistogram<ElectricCurrent> a = new MeasureHistogram<>(Units.Amps, 0.1, 200, 2);
+    MeasureHistogram<ElectricCurrent> b = new MeasureHistogram<>(Units.Amps, 0.1, 200, 2);
+    for (int i = 1; i <= 100; i++) {
+      (i % 2 == 0 ? a : b).add(i);
+    }
+    MeasureHistogram<ElectricCurrent> merged = a.copy();
+    merged.merge(b);
+    assertEquals(100, merged.count());
+    assertEquals(50, merged.percentile(50).magnitude(), 0.5);
+    assertEquals(1, merged.min().magnitude(), 0);
+    assertEquals(50, a.count());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMergeMismatch() {
+    new MeasureHistogram<>(Units.Amps, 0.1, 200, 2).merge(new MeasureHistogram<>(Units.Amps, 0.1, 200, 3));
+  }
+
+}
@@ -0,0 +1,70 @@
+package edu.wpi.first.wpilib.units;
+
+import edu.wpi.first.wpilib.units.distance.Feet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class MeasureInternerTest {
+
+  private boolean wasEnabled;
+
+  @Before
+  public void enable() {
+    wasEnabled = MeasureInterner.isEnabled();
+    MeasureInterner.setEnabled(true);
+  }
+
+  @After
+  public void restore() {
+    MeasureInterner.setEnabled(wasEnabled);
+  }
+
+  @Test
+  public void testZeroAndOne() {
+    assertSame(Units.Volts.of(0), Units.Volts.of(0));
+    assertSame(Units.Volts.of(1), Units.Volts.of(1));
+    assertNotSame(Units.Volts.of(0), Units.Volts.of(-0.0));
+  }
+
+  @Test
+  public void testHotValues() {
+    Unit<Angle> unit = Units.Degrees.aggregate(1.5);
+    MeasureInterner<Measure<Angle>> interner = unit.getInterner();
+    Measure<Angle> first = unit.of(90);
+    assertSame(first, unit.of(90));
+    assertEquals(90, first.magnitude(), 0);
+    assertEquals(unit, first.unit());
+    assertEquals(1, interner.hits());
+    assertEquals(1, interner.misses());
+  }
+
+  @Test
+  public void testEviction() {
+    Unit<Angle> unit = Units.Degrees.aggregate(2.5);
+    for (int i = 0; i < 10_000; i++) {
+      assertEquals(i + 2, unit.of(i + 2).magnitude(), 0);
+    }
+    assertEquals(10_000, unit.getInterner().misses());
+  }
+
+  @Test
+  public void testHelperClasses() {
+    Feet feet = Feet.of(12.5);
+    assertSame(feet, Feet.of(12.5));
+    assertEquals(Units.Feet, feet.unit());
+  }
+
+  @Test
+  public void testDisabled() {
+    MeasureInterner.setEnabled(false);
+    assertNotSame(Units.Volts.of(12), Units.Volts.of(12));
+    assertEquals(Units.Volts.of(12), Units.Volts.of(12));
+  }
+
+}
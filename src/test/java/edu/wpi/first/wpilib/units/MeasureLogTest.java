@@ -0,0 +1,111 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class MeasureLogTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testAppendAndRead() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("distance.mlog");
+    try (MeasureLog<Distance> log = MeasureLog.open(path, Units.Inches, 16)) {
+      for (int i = 0; i < 100; i++) {
+        log.append(i * 10L, i);
+      }
+      assertEquals(100, log.size());
+      MeasureLog.Series<Distance> series = log.series();
+      assertEquals(100, series.length());
+      assertEquals(990, series.timestamp(99));
+      assertEquals(42, series.magnitude(42), 0);
+      assertEquals(Units.Inches.of(7), series.get(7));
+      assertEquals(3.5, series.as(Units.Feet).magnitude(42), 1e-12);
+    }
+  }
+
+  @Test
+  public void testReopen() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("velocity.mlog");
+    try (MeasureLog<Velocity> log = MeasureLog.open(path, Units.MetersPerSecond, 8)) {
+      for (int i = 0; i < 20; i++) {
+        log.append(i, i * 0.5);
+      }
+    }
+    // Existing logs keep their unit and block size
+    try (MeasureLog<Velocity> log = MeasureLog.open(path, Units.FeetPerSecond)) {
+      assertSame(Units.MetersPerSecond, log.unit());
+      assertEquals(20, log.size());
+      log.append(20, Units.MetersPerSecond.of(10));
+      assertEquals(10, log.series().magnitude(20), 0);
+      assertArrayEquals(new long[] {18, 19, 20}, log.series(18, 100).toTimestampArray());
+    }
+  }
+
+  @Test
+  public void testSeriesRange() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("current.mlog");
+    try (MeasureLog<ElectricCurrent> log = MeasureLog.open(path, Units.Amps, 4)) {
+      for (int i = 0; i < 50; i++) {
+        // Two samples at every timestamp
+        log.append(i / 2 * 100L, i);
+      }
+      MeasureLog.Series<ElectricCurrent> range = log.series(500, 1000);
+      assertEquals(10, range.length());
+      assertEquals(500, range.timestamp(0));
+      assertEquals(10, range.magnitude(0), 0);
+      assertEquals(950 - 50, range.timestamp(9));
+
+      assertEquals(0, log.series(-100, 0).length());
+      assertEquals(50, log.series(Long.MIN_VALUE, Long.MAX_VALUE).length());
+      assertEquals(0, log.series(10_000, 20_000).length());
+
+      MeasureLog.Series<ElectricCurrent> slice = range.slice(0, 700);
+      assertEquals(4, slice.length());
+      assertArrayEquals(new double[] {10, 11, 12, 13}, slice.toMeasureArray().toMagnitudeArray(), 0);
+    }
+  }
+
+  @Test
+  public void testReadOnly() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("temperature.mlog");
+    try (MeasureLog<Temperature> writer = MeasureLog.open(path, Units.Celsius, 2);
+         MeasureLog<Temperature> reader = MeasureLog.openReadOnly(path, Units.Fahrenheit)) {
+      assertEquals(0, reader.size());
+      writer.append(1, 100);
+      writer.append(2, 0);
+      writer.append(3, -40);
+      reader.refresh();
+      assertEquals(3, reader.size());
+      MeasureLog.Series<Temperature> fahrenheit = reader.series().as(Units.Fahrenheit);
+      assertEquals(212, fahrenheit.magnitude(0), 1e-9);
+      assertEquals(-40, fahrenheit.magnitude(2), 1e-9);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTimestampsMustIncrease() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("time.mlog");
+    try (MeasureLog<Time> log = MeasureLog.open(path, Units.Seconds)) {
+      log.append(10, 1);
+      log.append(9, 1);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongDimension() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("angle.mlog");
+    MeasureLog.open(path, Units.Degrees).close();
+    MeasureLog.open(path, Units.Seconds);
+  }
+
+}
@@ -0,0 +1,173 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MeasurePipelineTest {
+
+  /**
+   * Collects everything a pipeline produces.
+   */
+  private static final class CollectingSink<U extends Unit<U>> implements MeasureSink<U> {
+    final List<Double> values = Collections.synchronizedList(new ArrayList<>());
+    final List<Integer> batchLengths = Collections.synchronizedList(new ArrayList<>());
+    volatile Unit<U> unit;
+
+    @Override
+    public void accept(double[] magnitudes, int length, Unit<U> unit) {
+      this.unit = unit;
+      batchLengths.add(length);
+      for (int i = 0; i < length; i++) {
+        values.add(magnitudes[i]);
+      }
+    }
+
+    double[] toArray() {
+      return values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+  }
+
+  @Test
+  public void testStages() throws Exception {
+    CollectingSink<ElectricCurrent> sink = new CollectingSink<>();
+    MovingAverageFilter<ElectricCurrent> reference = new MovingAverageFilter<>(Units.Amps, 3);
+    MeasurePipeline<ElectricCurrent> pipeline = MeasurePipeline.from(Units.Milliamps)
+        .convert(Units.Amps)
+        .filter(new MovingAverageFilter<>(Units.Amps, 3))
+        .batchSize(7)
+        .start(sink);
+
+    double[] expected = new double[100];
+    for (int i = 0; i < 100; i++) {
+      pipeline.offer(i * 10.0);
+      expected[i] = reference.calculate(i / 100.0);
+    }
+    pipeline.close();
+
+    assertSame(Units.Amps, sink.unit);
+    assertArrayEquals(expected, sink.toArray(), 1e-12);
+    // 14 full batches and the rest flushed on close
+    assertEquals(15, sink.batchLengths.size());
+    assertEquals(2, (int) sink.batchLengths.get(14));
+  }
+
+  @Test
+  public void testMapAndConvertedInputs() throws Exception {
+    CollectingSink<Power> sink = new CollectingSink<>();
+    MeasurePipeline<ElectricCurrent> pipeline = MeasurePipeline.from(Units.Amps)
+        .map(Units.Watts, amps -> amps * 12)
+        .start(sink);
+    pipeline.offer(Units.Milliamps.of(500));
+    pipeline.offer(new double[] {1, 2, 3}, 1, 2);
+    pipeline.flush();
+    pipeline.close();
+    assertSame(Units.Watts, sink.unit);
+    assertArrayEquals(new double[] {6, 24, 36}, sink.toArray(), 1e-12);
+  }
+
+  @Test
+  public void testBackpressure() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CollectingSink<Time> collector = new CollectingSink<>();
+    MeasurePipeline<Time> pipeline = MeasurePipeline.from(Units.Seconds)
+        .batchSize(4)
+        .batchCount(2)
+        .start((magnitudes, length, unit) -> {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          collector.accept(magnitudes, length, unit);
+        });
+
+    // Two batches fit; the sink holds one and the other waits, so the ninth measure has nowhere to go
+    int accepted = 0;
+    while (pipeline.tryOffer(accepted)) {
+      accepted++;
+    }
+    assertEquals(8, accepted);
+
+    release.countDown();
+    pipeline.offer(accepted++);
+    pipeline.close();
+    double[] expected = new double[accepted];
+    Arrays.setAll(expected, i -> i);
+    assertArrayEquals(expected, collector.toArray(), 0);
+  }
+
+  @Test
+  public void testSinkFailure() throws Exception {
+    MeasurePipeline<Time> pipeline = MeasurePipeline.from(Units.Seconds)
+        .batchSize(1)
+        .batchCount(1)
+        .start((magnitudes, length, unit) -> {
+          throw new UnsupportedOperationException("Sink is broken");
+        });
+    try {
+      for (int i = 0; i < 100; i++) {
+        pipeline.offer(i);
+      }
+      fail("Expected the sink's failure");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getCause() instanceof UnsupportedOperationException);
+    }
+    try {
+      pipeline.close();
+      fail("Expected the sink's failure");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getCause() instanceof UnsupportedOperationException);
+    }
+  }
+
+  @Test
+  public void testClosed() throws Exception {
+    MeasurePipeline<Time> pipeline = MeasurePipeline.from(Units.Seconds).start((magnitudes, length, unit) -> { });
+    pipeline.close();
+    pipeline.close();
+    try {
+      pipeline.tryOffer(1);
+      fail("Expected the pipeline to be closed");
+    } catch (IllegalStateException e) {
+      assertFalse(e.getMessage().isEmpty());
+    }
+  }
+
+  @Test
+  public void testInterruptedClose() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    MeasurePipeline<Time> pipeline = MeasurePipeline.from(Units.Seconds)
+        .batchSize(1)
+        .start((magnitudes, length, unit) -> {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    pipeline.offer(1);
+    Thread.currentThread().interrupt();
+    try {
+      pipeline.close();
+      fail("Expected close to be interrupted");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getCause() instanceof InterruptedException);
+      assertTrue(Thread.interrupted());
+    } finally {
+      release.countDown();
+    }
+  }
+
+}
@@ -0,0 +1,69 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+
+public class MeasureStatisticsTest {
+
+  @Test
+  public void testStatistics() {
+    MeasureStatistics<Time> stats = new MeasureStatistics<>(Units.Milliseconds);
+    for (double value : new double[] {2, 4, 4, 4, 5, 5, 7, 9}) {
+      stats.add(value);
+    }
+    assertEquals(8, stats.count());
+    assertEquals(Units.Milliseconds.of(5), stats.mean());
+    assertEquals(4, stats.variance(), 1e-12);
+    assertEquals(32 / 7.0, stats.sampleVariance(), 1e-12);
+    assertEquals(Units.Milliseconds.of(2), stats.standardDeviation());
+    assertEquals(0.002, stats.standardDeviation(Units.Seconds), 1e-15);
+    assertEquals(Units.Milliseconds.of(2), stats.min());
+    assertEquals(Units.Milliseconds.of(9), stats.max());
+    assertEquals(0.04, stats.sum(Units.Seconds), 1e-15);
+  }
+
+  @Test
+  public void testConvertedInputs() {
+    MeasureStatistics<Temperature> stats = new MeasureStatistics<>(Units.Celsius);
+    stats.add(Units.Fahrenheit.of(32));
+    stats.add(Units.Fahrenheit.of(212));
+    assertEquals(50, stats.mean().magnitude(), 1e-9);
+    assertEquals(122, stats.mean(Units.Fahrenheit), 1e-9);
+    assertEquals(90, stats.standardDeviation(Units.Fahrenheit), 1e-9);
+  }
+
+  @Test
+  public void testMerge() {
+    MeasureStatistics<Distance> all = new MeasureStatistics<>(Units.Meters);
+    MeasureStatistics<Distance> first = new MeasureStatistics<>(Units.Meters);
+    MeasureStatistics<Distance> second = new MeasureStatistics<>(Units.Millimeters);
+    for (int i = 0; i < 100; i++) {
+      double meters = Math.sin(i) * 10;
+      all.add(meters);
+      if (i % 3 == 0) {
+        first.add(meters);
+      } else {
+        second.add(meters * 1000);
+      }
+    }
+    MeasureStatistics<Distance> merged = first.copy();
+    merged.merge(second);
+    assertEquals(all.count(), merged.count());
+    assertEquals(all.mean().magnitude(), merged.mean().magnitude(), 1e-12);
+    assertEquals(all.variance(), merged.variance(), 1e-9);
+    assertEquals(all.sum().magnitude(), merged.sum().magnitude(), 1e-9);
+    assertEquals(all.min().magnitude(), merged.min().magnitude(), 1e-12);
+    assertEquals(all.max().magnitude(), merged.max().magnitude(), 1e-12);
+    // Copies are independent
+    assertEquals(34, first.count());
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void testEmptyMean() {
+    new MeasureStatistics<>(Units.Meters).mean();
+  }
+
+}
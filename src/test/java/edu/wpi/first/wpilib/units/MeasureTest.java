@@ -2,8 +2,14 @@ package edu.wpi.first.wpilib.units;
 
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class MeasureTest {
@@ -71,4 +77,89 @@ public class MeasureTest {
     assertEquals(1, m.as(Units.Feet), Measure.EQUIVALENCE_THRESHOLD);
   }
 
+  @Test
+  public void testHashCode() {
+    Measure<Distance> m = new Measure<>(12.5, Units.Feet);
+    assertEquals(Objects.hash(12.5, Units.Feet), m.hashCode());
+    assertEquals(m.hashCode(), new Measure<>(12.5, Units.Feet).hashCode());
+  }
+
+  @Test
+  public void testQuantityKey() {
+    Map<QuantityKey<Distance>, String> map = new HashMap<>();
+    map.put(QuantityKey.of(Units.Feet.of(1)), "one foot");
+    assertEquals("one foot", map.get(QuantityKey.of(Units.Inches.of(12))));
+    assertEquals(QuantityKey.of(Units.Meters.of(1)), QuantityKey.of(Units.Centimeters.of(100)));
+    assertNotEquals(QuantityKey.of(Units.Meters.of(1)), QuantityKey.of(Units.Meters.of(1 + 1e-9)));
+    assertEquals(QuantityKey.of(Units.Meters.of(1e9)), QuantityKey.of(Units.Millimeters.of(1e12)));
+  }
+
+  @Test
+  public void testTimesMeasure() {
+    Measure<?> power = Units.Volts.of(12).times(Units.Milliamps.of(500));
+    assertSame(Units.Watts, power.unit());
+    assertEquals(6, power.magnitude(), 1e-12);
+  }
+
+  @Test
+  public void testPerMeasure() {
+    Measure<?> velocity = Units.Feet.of(10).per(Units.Milliseconds.of(500));
+    assertSame(Units.MetersPerSecond, velocity.unit());
+    // Units.Feet and Units.FeetPerSecond are defined with slightly different conversion factors
+    assertEquals(20, velocity.in(Units.FeetPerSecond).magnitude(), 1e-4);
+
+    Measure<Acceleration> acceleration = velocity.per(Units.Seconds.of(2)).in(Units.Gs);
+    assertEquals(Units.Meters.convert(10, Units.Feet) / 9.807, acceleration.magnitude(), 1e-12);
+  }
+
+  @Test
+  public void testDerivedDimension() {
+    Measure<?> area = Units.Meters.of(2).times(Units.Centimeters.of(50));
+    assertEquals(Dimension.of(2, 0, 0, 0, 0, 0), area.unit().dimension());
+    assertEquals(1, area.magnitude(), 1e-12);
+    assertSame(area.unit(), Units.Feet.of(1).times(Units.Inches.of(1)).unit());
+    assertEquals(0.5, area.per(Units.Meters.of(2)).in(Units.Meters).magnitude(), 1e-12);
+  }
+
+  @Test
+  public void testMassIsCoherent() {
+    // grams are not the coherent unit of mass, so g * m^2/s^3 should be a thousandth of a watt
+    Measure<?> squareMetersPerCubicSecond = Units.MetersPerSecond.of(1).times(Units.MetersPerSecondPerSecond.of(1));
+    Measure<?> power = Units.Kilograms.of(1).times(squareMetersPerCubicSecond);
+    assertSame(Units.Watts, power.unit());
+    assertEquals(1, power.magnitude(), 1e-12);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInWrongDimension() {
+    Units.Meters.of(1).per(Units.Seconds.of(1)).in(Units.Meters);
+  }
+
+  private static final class LegacyUnit extends Unit<LegacyUnit> {
+    @SuppressWarnings("deprecation")
+    LegacyUnit() {
+      super(2);
+    }
+  }
+
+  @Test
+  public void testLegacyUnitHasUnknownDimension() {
+    assertEquals(Dimension.UNKNOWN, new LegacyUnit().dimension());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownDimensionIsNotUnitless() {
+    new LegacyUnit().of(1).in(Units.Percent);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTimesUnknownDimension() {
+    Units.Meters.of(1).times(new LegacyUnit().of(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPerUnknownDimension() {
+    new LegacyUnit().of(1).per(Units.Seconds.of(1));
+  }
+
 }
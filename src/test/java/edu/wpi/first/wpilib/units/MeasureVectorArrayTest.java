@@ -0,0 +1,85 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MeasureVectorArrayTest {
+
+  @Test
+  public void testTwoDimensional() {
+    MeasureVectorArray<Distance> array = MeasureVectorArray.twoDimensional(3, Units.Meters);
+    array.set(0, 3, 4);
+    array.set(1, MeasureVector2.of(100, 0, Units.Centimeters));
+    array.set(2, -1, 0);
+    assertEquals(2, array.dimensions());
+    assertEquals(1, array.x(1), 1e-12);
+
+    double[] norms = new double[3];
+    array.norms(norms);
+    assertArrayEquals(new double[] {5, 1, 1}, norms, 1e-12);
+
+    MeasureVectorArray<Distance> other = MeasureVectorArray.twoDimensional(3, Units.Centimeters);
+    other.set(0, 100, 100);
+    other.set(1, 0, 100);
+    other.set(2, 200, 0);
+    double[] dots = new double[3];
+    array.dot(other, dots);
+    assertArrayEquals(new double[] {7, 0, -2}, dots, 1e-12);
+
+    array.add(other);
+    assertTrue(array.getVector2(0).isEquivalent(MeasureVector2.of(4, 5, Units.Meters)));
+    array.subtract(other);
+    array.add(MeasureVector2.of(1, 1, Units.Meters));
+    array.scale(2);
+    assertTrue(array.getVector2(2).isEquivalent(MeasureVector2.of(0, 2, Units.Meters)));
+    assertEquals(Units.Meters.of(8), array.xs().max());
+  }
+
+  @Test
+  public void testRotate() {
+    MeasureVectorArray<Velocity> array = MeasureVectorArray.twoDimensional(2, Units.FeetPerSecond);
+    array.set(0, 1, 0);
+    array.set(1, 0, 2);
+    array.rotate(Units.Degrees.of(90));
+    assertEquals(0, array.x(0), 1e-12);
+    assertEquals(1, array.y(0), 1e-12);
+    assertEquals(-2, array.x(1), 1e-12);
+
+    MeasureArray<Angle> headings = MeasureArray.wrap(new double[] {-90, 180}, Units.Degrees);
+    array.rotate(headings);
+    assertEquals(1, array.x(0), 1e-12);
+    assertEquals(0, array.y(0), 1e-12);
+    assertEquals(2, array.x(1), 1e-12);
+    assertEquals(0, array.y(1), 1e-12);
+  }
+
+  @Test
+  public void testThreeDimensional() {
+    MeasureVectorArray<Acceleration> array = MeasureVectorArray.threeDimensional(2, Units.MetersPerSecondPerSecond);
+    array.set(0, 1, 2, 2);
+    array.set(1, MeasureVector3.of(0, 0, 1, Units.Gs));
+    assertEquals(Units.Gs.of(1).as(Units.MetersPerSecondPerSecond), array.z(1), 1e-12);
+    double[] norms = new double[2];
+    array.norms(norms);
+    assertEquals(3, norms[0], 1e-12);
+    array.add(MeasureVector3.of(1, 1, 1, Units.MetersPerSecondPerSecond));
+    assertEquals(MeasureVector3.of(2, 3, 3, Units.MetersPerSecondPerSecond), array.getVector3(0));
+    array.rotate(Units.Degrees.of(180));
+    assertEquals(-2, array.x(0), 1e-12);
+    assertEquals(3, array.z(0), 1e-12);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMismatchedDimensions() {
+    MeasureVectorArray.twoDimensional(2, Units.Meters).add(MeasureVectorArray.threeDimensional(2, Units.Meters));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testZOfTwoDimensional() {
+    MeasureVectorArray.twoDimensional(2, Units.Meters).z(0);
+  }
+
+}
@@ -0,0 +1,74 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MeasureVectorTest {
+
+  @Test
+  public void testVector2() {
+    MeasureVector2<Distance> v = MeasureVector2.of(Units.Feet.of(3), Units.Inches.of(48));
+    assertSame(Units.Feet, v.unit());
+    assertEquals(4, v.y(), 1e-12);
+    assertEquals(5, v.norm().magnitude(), 1e-12);
+    assertEquals(Math.atan2(4, 3), v.angle().magnitude(), 1e-12);
+
+    MeasureVector2<Distance> meters = v.in(Units.Meters);
+    assertTrue(meters.isEquivalent(v));
+    assertEquals(Units.Feet.of(3).as(Units.Meters), meters.x(), 1e-12);
+    assertEquals(25, v.dot(meters), 1e-9);
+
+    MeasureVector2<Distance> sum = v.add(MeasureVector2.of(12, 24, Units.Inches));
+    assertEquals(MeasureVector2.of(4, 6, Units.Feet), sum);
+    assertEquals(MeasureVector2.of(2, 2, Units.Feet), v.subtract(MeasureVector2.of(1, 2, Units.Feet)));
+    assertEquals(MeasureVector2.of(6, 8, Units.Feet), v.times(2));
+    assertEquals(MeasureVector2.of(-3, -4, Units.Feet), v.negate());
+  }
+
+  @Test
+  public void testRotation() {
+    MeasureVector2<Velocity> v = MeasureVector2.of(1, 0, Units.MetersPerSecond);
+    MeasureVector2<Velocity> rotated = v.rotateBy(Units.Degrees.of(90));
+    assertEquals(0, rotated.x(), 1e-12);
+    assertEquals(1, rotated.y(), 1e-12);
+
+    MeasureVector2<Velocity> polar = MeasureVector2.ofPolar(Units.MetersPerSecond.of(2), Units.Degrees.of(30));
+    assertEquals(Math.sqrt(3), polar.x(), 1e-12);
+    assertEquals(1, polar.y(), 1e-12);
+
+    MeasureVector3<Distance> w = MeasureVector3.of(1, 0, 0, Units.Meters);
+    assertTrue(w.rotateAroundZ(Units.Degrees.of(90)).isEquivalent(MeasureVector3.of(0, 1, 0, Units.Meters)));
+    assertTrue(w.rotateAroundY(Units.Degrees.of(90)).isEquivalent(MeasureVector3.of(0, 0, -1, Units.Meters)));
+    assertTrue(MeasureVector3.of(0, 1, 0, Units.Meters).rotateAroundX(Units.Degrees.of(90))
+        .isEquivalent(MeasureVector3.of(0, 0, 1, Units.Meters)));
+  }
+
+  @Test
+  public void testVector3() {
+    MeasureVector3<Distance> v = MeasureVector3.of(Units.Meters.of(1), Units.Centimeters.of(200),
+        Units.Millimeters.of(2000));
+    assertEquals(MeasureVector3.of(1, 2, 2, Units.Meters), v);
+    assertEquals(3, v.norm().magnitude(), 1e-12);
+    assertEquals(9, v.dot(v.in(Units.Centimeters)), 1e-9);
+    assertEquals(MeasureVector3.of(2, 4, 4, Units.Meters), v.add(v));
+    assertEquals(MeasureVector3.of(0, 0, 0, Units.Meters), v.subtract(v));
+    assertEquals(MeasureVector3.of(-0.5, -1, -1, Units.Meters), v.negate().times(0.5));
+    assertEquals("(1.0, 2.0, 2.0) m", v.toString());
+  }
+
+  @Test
+  public void testEquality() {
+    MeasureVector2<Distance> a = MeasureVector2.of(1, 2, Units.Meters);
+    assertEquals(a, MeasureVector2.of(1, 2, Units.Meters));
+    assertEquals(a.hashCode(), MeasureVector2.of(1, 2, Units.Meters).hashCode());
+    assertNotEquals(a, a.in(Units.Centimeters));
+    assertTrue(a.isEquivalent(a.in(Units.Centimeters)));
+    assertFalse(a.isEquivalent(MeasureVector2.of(1, 2.1, Units.Meters)));
+  }
+
+}
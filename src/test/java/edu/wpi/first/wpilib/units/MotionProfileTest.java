@@ -0,0 +1,168 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MotionProfileTest {
+
+  private static final Measure<?> JERK = Units.MetersPerSecondPerSecond.of(4).per(Units.Seconds.of(1));
+
+  @Test
+  public void testTrapezoidal() {
+    MotionProfile profile =
+        MotionProfile.trapezoidal(Units.Meters.of(10), Units.MetersPerSecond.of(2), Units.MetersPerSecondPerSecond.of(1));
+    // 2 s to reach 2 m/s covering 2 m, 3 s cruising, 2 s to stop
+    assertEquals(7, profile.totalTime(), 1e-12);
+    MotionProfile.MutableState state = new MotionProfile.MutableState();
+    profile.sample(1, state);
+    assertEquals(0.5, state.position(), 1e-12);
+    assertEquals(1, state.velocity(), 1e-12);
+    assertEquals(1, state.acceleration(), 1e-12);
+    profile.sample(3.5, state);
+    assertEquals(5, state.position(), 1e-12);
+    assertEquals(2, state.velocity(), 1e-12);
+    assertEquals(0, state.acceleration(), 1e-12);
+    profile.sample(6, state);
+    assertEquals(9.5, state.position(), 1e-12);
+    assertEquals(-1, state.acceleration(), 1e-12);
+    profile.sample(8, state);
+    assertEquals(10, state.position(), 0);
+    assertEquals(0, state.velocity(), 0);
+  }
+
+  @Test
+  public void testTriangular() {
+    MotionProfile profile =
+        MotionProfile.trapezoidal(Units.Meters.of(1), Units.MetersPerSecond.of(10), Units.MetersPerSecondPerSecond.of(1));
+    assertEquals(2, profile.totalTime(), 1e-12);
+    MotionProfile.MutableState state = profile.sample(1, new MotionProfile.MutableState());
+    assertEquals(0.5, state.position(), 1e-12);
+    assertEquals(1, state.velocity(), 1e-12);
+  }
+
+  @Test
+  public void testLimitsAreConverted() {
+    MotionProfile profile =
+        MotionProfile.trapezoidal(Units.Feet.of(-10), Units.FeetPerSecond.of(5), Units.Gs.of(0.5));
+    assertEquals(-10, profile.distance().as(Units.Feet), 1e-9);
+    MotionProfile.MutableState state = new MotionProfile.MutableState();
+    double maxSpeed = 0;
+    for (double t = 0; t <= profile.totalTime(); t += 0.01) {
+      profile.sample(Units.Milliseconds.of(t * 1000), state);
+      maxSpeed = Math.max(maxSpeed, -state.velocity(Units.FeetPerSecond));
+      assertTrue(state.acceleration() <= 0.5 * 9.807 + 1e-9);
+    }
+    assertEquals(5, maxSpeed, 1e-9);
+    profile.sample(profile.totalTime(), state);
+    assertEquals(-10, state.position(Units.Feet), 1e-9);
+    MutableMeasure<Distance> position = MutableMeasure.zero(Units.Inches);
+    assertEquals(-120, state.position(position).magnitude(), 1e-9);
+  }
+
+  @Test
+  public void testSCurve() {
+    MotionProfile profile = MotionProfile.sCurve(
+        Units.Meters.of(10), Units.MetersPerSecond.of(2), Units.MetersPerSecondPerSecond.of(2), JERK);
+    // 0.5 s ramping up the acceleration, 0.5 s at full acceleration and 0.5 s ramping it down reaches 2 m/s in
+    // 1.5 m, leaving 7 m to cruise
+    assertEquals(2 * 1.5 + 3.5, profile.totalTime(), 1e-9);
+    checkLimits(profile, 2, 2, 4);
+    MotionProfile.MutableState state = new MotionProfile.MutableState();
+    profile.sample(0.5, state);
+    assertEquals(2, state.acceleration(), 1e-9);
+    assertEquals(0.5, state.velocity(), 1e-9);
+    profile.sample(profile.totalTime() / 2, state);
+    assertEquals(5, state.position(), 1e-9);
+    assertEquals(2, state.velocity(), 1e-9);
+    profile.sample(profile.totalTime() - 1e-9, state);
+    assertEquals(10, state.position(), 1e-6);
+  }
+
+  @Test
+  public void testShortSCurves() {
+    for (double distance : new double[] {0.01, 0.1, 0.5, 1, 2, 3}) {
+      MotionProfile profile = MotionProfile.sCurve(
+          Units.Meters.of(distance), Units.MetersPerSecond.of(2), Units.MetersPerSecondPerSecond.of(2), JERK);
+      checkLimits(profile, 2, 2, 4);
+      MotionProfile.MutableState state = profile.sample(profile.totalTime() - 1e-12, new MotionProfile.MutableState());
+      assertEquals(distance, state.position(), 1e-9);
+      assertEquals(0, state.velocity(), 1e-9);
+    }
+  }
+
+  @Test
+  public void testPrecompute() {
+    MotionProfile profile =
+        MotionProfile.trapezoidal(Units.Meters.of(10), Units.MetersPerSecond.of(2), Units.MetersPerSecondPerSecond.of(1));
+    Measure<Time> period = Units.Milliseconds.of(300);
+    int count = profile.sampleCount(period);
+    // 0, 0.3, ..., 6.9 and the end at 7
+    assertEquals(25, count);
+    double[] positions = new double[count];
+    double[] velocities = new double[count];
+    assertEquals(count, profile.precompute(period, positions, velocities, null));
+    MotionProfile.MutableState state = new MotionProfile.MutableState();
+    for (int i = 0; i < count - 1; i++) {
+      profile.sample(i * 0.3, state);
+      assertEquals(state.position(), positions[i], 1e-12);
+      assertEquals(state.velocity(), velocities[i], 1e-12);
+    }
+    assertEquals(10, positions[count - 1], 0);
+    assertEquals(0, velocities[count - 1], 0);
+  }
+
+  @Test
+  public void testPrecomputeSeconds() {
+    MotionProfile profile =
+        MotionProfile.trapezoidal(Units.Meters.of(10), Units.MetersPerSecond.of(2), Units.MetersPerSecondPerSecond.of(1));
+    assertEquals(profile.sampleCount(Units.Milliseconds.of(300)), profile.sampleCount(0.3));
+    double[] expected = new double[25];
+    double[] actual = new double[25];
+    profile.precompute(Units.Milliseconds.of(300), expected, null, null);
+    assertEquals(25, profile.precompute(0.3, actual, null, null));
+    assertArrayEquals(expected, actual, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPrecomputeZeroPeriod() {
+    MotionProfile profile =
+        MotionProfile.trapezoidal(Units.Meters.of(10), Units.MetersPerSecond.of(2), Units.MetersPerSecondPerSecond.of(1));
+    profile.precompute(0, new double[100], null, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPrecomputeShortArray() {
+    MotionProfile profile =
+        MotionProfile.trapezoidal(Units.Meters.of(10), Units.MetersPerSecond.of(2), Units.MetersPerSecondPerSecond.of(1));
+    profile.precompute(Units.Seconds.of(1), new double[4], null, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongJerkDimension() {
+    MotionProfile.sCurve(
+        Units.Meters.of(1), Units.MetersPerSecond.of(1), Units.MetersPerSecondPerSecond.of(1),
+        Units.MetersPerSecondPerSecond.of(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNonPositiveLimit() {
+    MotionProfile.trapezoidal(Units.Meters.of(1), Units.MetersPerSecond.of(0), Units.MetersPerSecondPerSecond.of(1));
+  }
+
+  private static void checkLimits(MotionProfile profile, double velocity, double acceleration, double jerk) {
+    MotionProfile.MutableState state = new MotionProfile.MutableState();
+    final double dt = 1e-3;
+    double lastAcceleration = 0;
+    for (double t = 0; t <= profile.totalTime(); t += dt) {
+      profile.sample(t, state);
+      assertTrue(state.velocity() >= -1e-9 && state.velocity() <= velocity + 1e-9);
+      assertTrue(Math.abs(state.acceleration()) <= acceleration + 1e-9);
+      assertTrue(Math.abs(state.acceleration() - lastAcceleration) <= jerk * dt + 1e-9);
+      lastAcceleration = state.acceleration();
+    }
+  }
+
+}
@@ -0,0 +1,53 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MutableMeasureTest {
+
+  @Test
+  public void testArithmetic() {
+    MutableMeasure<Distance> m = MutableMeasure.of(1, Units.Feet);
+    assertSame(m, m.mut_add(Units.Inches.of(6)));
+    assertEquals(1.5, m.magnitude(), 1e-12);
+
+    m.mut_times(4).mut_subtract(2, Units.Feet).mut_divide(2).mut_negate();
+    assertEquals(-2, m.magnitude(), 1e-12);
+    assertEquals(Units.Feet, m.unit());
+  }
+
+  @Test
+  public void testReplace() {
+    MutableMeasure<Distance> m = MutableMeasure.zero(Units.Feet);
+    m.mut_replace(3, Units.Meters);
+    assertEquals(3, m.magnitude(), 0);
+    assertEquals(Units.Meters, m.unit());
+
+    m.mut_convertTo(Units.Millimeters);
+    assertEquals(3000, m.magnitude(), 1e-9);
+  }
+
+  @Test
+  public void testCopy() {
+    MutableMeasure<Time> m = MutableMeasure.of(2, Units.Seconds);
+    Measure<Time> copy = m.copy();
+    m.mut_setMagnitude(5);
+    assertEquals(2, copy.magnitude(), 0);
+    assertEquals(Units.Seconds, copy.unit());
+  }
+
+  @Test
+  public void testSharedReadApi() {
+    MutableMeasure<Distance> m = MutableMeasure.of(12, Units.Inches);
+    Measure<Distance> feet = Units.Feet.of(1);
+    assertTrue(m.isEquivalent(feet));
+    assertTrue(feet.isEquivalent(m));
+    assertEquals(0, feet.compareTo(m), 0);
+    assertEquals(1, m.as(Units.Feet), Measure.EQUIVALENCE_THRESHOLD);
+    assertTrue(feet.add(m).isEquivalent(Units.Feet.of(2)));
+  }
+
+}
@@ -0,0 +1,109 @@
+package edu.wpi.first.wpilib.units;
+
+import org.junit.Test;
+
+import java.nio.CharBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class UnitRegistryTest {
+
+  @Test
+  public void testForName() {
+    assertSame(Units.Feet, UnitRegistry.forName("ft"));
+    assertSame(Units.Feet, UnitRegistry.forName("foot"));
+    assertSame(Units.Feet, UnitRegistry.forName("feet"));
+    assertSame(Units.Millivolts, UnitRegistry.forName("mV"));
+    assertSame(Units.MetersPerSecondPerSecond, UnitRegistry.forName("m/s^2"));
+    assertSame(Units.Inches, UnitRegistry.forName("12 in", 3, 5));
+    assertNull(UnitRegistry.forName("furlong"));
+  }
+
+  @Test
+  public void testNames() {
+    assertEquals("inch", UnitRegistry.nameOf(Units.Inches));
+    assertEquals("inches", UnitRegistry.pluralOf(Units.Inches));
+    assertEquals("in", UnitRegistry.symbolOf(Units.Inches));
+  }
+
+  @Test
+  public void testRegister() {
+    Unit<Distance> yards = Units.Feet.aggregate(3);
+    UnitRegistry.register(yards, "yard", "yards", "yd");
+    assertSame(yards, UnitRegistry.forName("yd"));
+    assertEquals(36, UnitRegistry.parse("1 yd", Units.Inches).magnitude(), 1e-9);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRegisterConflict() {
+    UnitRegistry.register(Units.Meters.aggregate(1000), "kilometer", "kilometers", "m");
+  }
+
+  @Test
+  public void testParse() {
+    Measure<?> measure = UnitRegistry.parse("12.5 ft");
+    assertSame(Units.Feet, measure.unit());
+    assertEquals(12.5, measure.magnitude(), 0);
+
+    assertEquals(-300, UnitRegistry.parse("  -3e2milliseconds ").magnitude(), 0);
+    assertEquals(0.001, UnitRegistry.parse(".001 m").magnitude(), 0);
+    assertEquals(25, UnitRegistry.parse("25 degrees Celsius").magnitude(), 0);
+    assertSame(Units.Celsius, UnitRegistry.parse("25 degrees Celsius").unit());
+  }
+
+  @Test
+  public void testParseMatchesParseDouble() {
+    String[] numbers = {
+        "0.1", "123456.789", "1e22", "1e23", "4.9e-324", "1.7976931348623157e308", "3.141592653589793238",
+        "0.30000000000000004", "1234567890123456789012", "-0.0", "9007199254740993"
+    };
+    for (String number : numbers) {
+      assertEquals(number, Double.parseDouble(number), UnitRegistry.parse(number + " m").magnitude(), 0);
+    }
+  }
+
+  @Test
+  public void testParseCharBuffer() {
+    CharBuffer buffer = CharBuffer.wrap("speed: 4 ft/s");
+    buffer.position(7);
+    Measure<?> measure = UnitRegistry.parse(buffer);
+    assertSame(Units.FeetPerSecond, measure.unit());
+    assertEquals(4, measure.magnitude(), 0);
+  }
+
+  @Test
+  public void testParseTyped() {
+    Measure<Distance> distance = UnitRegistry.parse("1 ft", Units.Inches);
+    assertEquals(12, distance.magnitude(), 1e-9);
+  }
+
+  @Test
+  public void testParseMutable() {
+    MutableMeasure<Distance> result = MutableMeasure.zero(Units.Inches);
+    String text = "x=2 feet;";
+    assertSame(result, UnitRegistry.parse(text, 2, 8, result));
+    assertEquals(24, result.magnitude(), 1e-9);
+  }
+
+  @Test
+  public void testParseErrors() {
+    String[] invalid = {"", "ft", "12", "12 furlongs", "1.2.3 m", "- m", "1e m"};
+    for (String text : invalid) {
+      try {
+        UnitRegistry.parse(text);
+        fail("Expected '" + text + "' to be rejected");
+      } catch (IllegalArgumentException e) {
+        // Expected
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseWrongDimension() {
+    UnitRegistry.parse("3 seconds", Units.Meters);
+  }
+
+}
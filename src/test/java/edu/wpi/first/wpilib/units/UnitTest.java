@@ -2,9 +2,16 @@ package edu.wpi.first.wpilib.units;
 
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
-@SuppressWarnings("unchecked") // Don't care about the generic types
+@SuppressWarnings({"unchecked", "deprecation"}) // Don't care about the generic types or dimensions
 public class UnitTest { // :)
 
 
@@ -24,6 +31,101 @@ public class UnitTest { // :)
     assertEquals(1, u.convert(10, d), 0);
   }
 
+  @Test
+  public void testConversionIsCached() {
+    Unit u = new Unit(1);
+    Unit m = u.aggregate(10);
+    Conversion conversion = m.conversionFrom(u);
+    assertSame(conversion, m.conversionFrom(u));
+    assertEquals(1, conversion.apply(10), 0);
+  }
+
+  @Test
+  public void testAggregateFoldsScale() {
+    Unit u = new Unit(1);
+    Unit m = u.splitInto(10).aggregate(100);
+    assertTrue(m.isAffine());
+    assertEquals(10, u.convert(1, m), 0);
+  }
+
+  @Test
+  public void testDeriveNonlinear() {
+    Unit u = new Unit(1);
+    Unit squared = Units.derive(u)
+        .toBase(x -> x * x)
+        .fromBase(Math::sqrt)
+        .make();
+    assertFalse(squared.isAffine());
+    assertEquals(9, u.convert(3, squared), 0);
+    assertEquals(3, squared.aggregate(2).convert(36, u), 0);
+  }
+
+  @Test
+  public void testConvertArray() {
+    double[] values = {0, 12, 24, 36, 48};
+    Units.Feet.convert(values, 1, 3, Units.Inches);
+    assertArrayEquals(new double[]{0, 1, 2, 3, 48}, values, 1e-12);
+  }
+
+  @Test
+  public void testConvertArrayToDestination() {
+    double[] src = {1, 2, 3};
+    double[] dst = new double[4];
+    Units.Millimeters.convert(src, 0, dst, 1, 3, Units.Meters);
+    assertArrayEquals(new double[]{0, 1000, 2000, 3000}, dst, 0);
+  }
+
+  @Test
+  public void testConvertOverlappingSlices() {
+    // Destination after the source, so a forward loop would read values it had already converted
+    double[] forward = {1, 2, 3, 4, 0};
+    Units.Millimeters.convert(forward, 0, forward, 1, 4, Units.Meters);
+    assertArrayEquals(new double[]{1, 1000, 2000, 3000, 4000}, forward, 0);
+
+    // Destination before the source
+    double[] backward = {0, 1, 2, 3, 4};
+    Units.Millimeters.convert(backward, 1, backward, 0, 4, Units.Meters);
+    assertArrayEquals(new double[]{1000, 2000, 3000, 4000, 4}, backward, 0);
+
+    // Nonlinear conversions too
+    Unit u = new Unit(1);
+    Unit squared = Units.derive(u).toBase(x -> x * x).fromBase(Math::sqrt).make();
+    double[] values = {1, 2, 3, 0};
+    u.convert(values, 0, values, 1, 3, squared);
+    assertArrayEquals(new double[]{1, 1, 4, 9}, values, 0);
+  }
+
+  @Test
+  public void testConvertStrided() {
+    // Interleaved (time, temperature) records
+    double[] src = {0, 0, 1, 100, 2, -40};
+    double[] dst = new double[3];
+    Units.Fahrenheit.convert(src, 1, 2, dst, 0, 1, 3, Units.Celsius);
+    assertArrayEquals(new double[]{32, 212, -40}, dst, 1e-12);
+  }
+
+  @Test
+  public void testConvertBuffers() {
+    DoubleBuffer src = DoubleBuffer.wrap(new double[]{1, 2});
+    DoubleBuffer dst = ByteBuffer.allocateDirect(2 * Double.BYTES).asDoubleBuffer();
+    Units.Milliseconds.convert(src, dst, Units.Seconds);
+    assertEquals(2, src.position());
+    assertEquals(2, dst.position());
+    assertEquals(1000, dst.get(0), 0);
+    assertEquals(2000, dst.get(1), 0);
+
+    dst.flip();
+    Units.Seconds.convert(dst, Units.Milliseconds);
+    assertEquals(0, dst.position());
+    assertEquals(1, dst.get(0), 0);
+    assertEquals(2, dst.get(1), 0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testConvertArrayOutOfBounds() {
+    Units.Feet.convert(new double[3], 1, 3, Units.Inches);
+  }
+
   @Test
   public void testOf() {
     Unit u = new Unit(1);
@@ -3,8 +3,10 @@ package edu.wpi.first.wpilib.units;
 import org.junit.Test;
 
 import static edu.wpi.first.wpilib.units.Units.Amps;
+import static edu.wpi.first.wpilib.units.Units.Celsius;
 import static edu.wpi.first.wpilib.units.Units.Centimeters;
 import static edu.wpi.first.wpilib.units.Units.Degrees;
+import static edu.wpi.first.wpilib.units.Units.Fahrenheit;
 import static edu.wpi.first.wpilib.units.Units.Feet;
 import static edu.wpi.first.wpilib.units.Units.FeetPerSecond;
 import static edu.wpi.first.wpilib.units.Units.Grams;
@@ -33,7 +35,7 @@ import static edu.wpi.first.wpilib.units.Units.Volts;
 import static edu.wpi.first.wpilib.units.Units.Watts;
 import static org.junit.Assert.assertEquals;
 
-@SuppressWarnings("unchecked")
+@SuppressWarnings({"unchecked", "deprecation"})
 public class UnitsTest {
 
   // Be accurate to 0.01%
@@ -162,6 +164,16 @@ public class UnitsTest {
     assertEquals(745.7, Watts.convert(1, Horsepower), thresh);
   }
 
+  // Temperature
+
+  @Test
+  public void testFahrenheit() {
+    assertEquals(32, Fahrenheit.convert(0, Celsius), thresh);
+    assertEquals(212, Fahrenheit.convert(100, Celsius), thresh);
+    assertEquals(-40, Celsius.convert(-40, Fahrenheit), thresh);
+    assertEquals(100, Celsius.convert(212, Fahrenheit), thresh);
+  }
+
   // Helpers
 
   @Test